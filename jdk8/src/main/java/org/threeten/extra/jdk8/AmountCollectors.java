@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.jdk8;
+
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import org.threeten.extra.Days;
+import org.threeten.extra.Hours;
+import org.threeten.extra.Minutes;
+import org.threeten.extra.Months;
+import org.threeten.extra.Seconds;
+import org.threeten.extra.Weeks;
+import org.threeten.extra.Years;
+
+/**
+ * Stream collectors for the simple amount classes.
+ * <p>
+ * Summing a stream of amounts using {@code reduce(Days::plus)} creates a new
+ * amount object for each element. The collectors on this class accumulate the
+ * amounts into a primitive {@code long} and only create the result at the end.
+ * The accumulation is exact, with an {@code ArithmeticException} thrown if the
+ * final sum does not fit in an {@code int}.
+ * <p>
+ * All the collectors support parallel streams.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class AmountCollectors {
+
+    /**
+     * Restricted constructor.
+     */
+    private AmountCollectors() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a collector that sums a stream of days.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Days, ?, Days> summingDays() {
+        return summing(Days::getAmount, Days::of);
+    }
+
+    /**
+     * Obtains a collector that sums a stream of weeks.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Weeks, ?, Weeks> summingWeeks() {
+        return summing(Weeks::getAmount, Weeks::of);
+    }
+
+    /**
+     * Obtains a collector that sums a stream of months.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Months, ?, Months> summingMonths() {
+        return summing(Months::getAmount, Months::of);
+    }
+
+    /**
+     * Obtains a collector that sums a stream of years.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Years, ?, Years> summingYears() {
+        return summing(Years::getAmount, Years::of);
+    }
+
+    /**
+     * Obtains a collector that sums a stream of hours.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Hours, ?, Hours> summingHours() {
+        return summing(Hours::getAmount, Hours::of);
+    }
+
+    /**
+     * Obtains a collector that sums a stream of minutes.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Minutes, ?, Minutes> summingMinutes() {
+        return summing(Minutes::getAmount, Minutes::of);
+    }
+
+    /**
+     * Obtains a collector that sums a stream of seconds.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Seconds, ?, Seconds> summingSeconds() {
+        return summing(Seconds::getAmount, Seconds::of);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a collector that averages a stream of days.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty,
+     * as per {@link java.util.stream.Collectors#averagingInt(ToIntFunction)}.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Days, ?, Double> averagingDays() {
+        return averaging(Days::getAmount);
+    }
+
+    /**
+     * Obtains a collector that averages a stream of weeks.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Weeks, ?, Double> averagingWeeks() {
+        return averaging(Weeks::getAmount);
+    }
+
+    /**
+     * Obtains a collector that averages a stream of months.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Months, ?, Double> averagingMonths() {
+        return averaging(Months::getAmount);
+    }
+
+    /**
+     * Obtains a collector that averages a stream of years.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Years, ?, Double> averagingYears() {
+        return averaging(Years::getAmount);
+    }
+
+    /**
+     * Obtains a collector that averages a stream of hours.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Hours, ?, Double> averagingHours() {
+        return averaging(Hours::getAmount);
+    }
+
+    /**
+     * Obtains a collector that averages a stream of minutes.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Minutes, ?, Double> averagingMinutes() {
+        return averaging(Minutes::getAmount);
+    }
+
+    /**
+     * Obtains a collector that averages a stream of seconds.
+     * <p>
+     * The result is the arithmetic mean of the amounts, or zero if the stream is empty.
+     *
+     * @return the collector, not null
+     */
+    public static Collector<Seconds, ?, Double> averagingSeconds() {
+        return averaging(Seconds::getAmount);
+    }
+
+    //-----------------------------------------------------------------------
+    private static <T> Collector<T, ?, T> summing(ToIntFunction<T> amountFn, IntFunction<T> factory) {
+        return Collector.of(
+                () -> new long[1],
+                (acc, amount) -> acc[0] += amountFn.applyAsInt(amount),
+                (acc1, acc2) -> {
+                    acc1[0] = Math.addExact(acc1[0], acc2[0]);
+                    return acc1;
+                },
+                acc -> factory.apply(Math.toIntExact(acc[0])));
+    }
+
+    private static <T> Collector<T, ?, Double> averaging(ToIntFunction<T> amountFn) {
+        return Collector.of(
+                () -> new long[2],
+                (acc, amount) -> {
+                    acc[0] += amountFn.applyAsInt(amount);
+                    acc[1]++;
+                },
+                (acc1, acc2) -> {
+                    acc1[0] = Math.addExact(acc1[0], acc2[0]);
+                    acc1[1] += acc2[1];
+                    return acc1;
+                },
+                acc -> (acc[1] == 0 ? 0d : (double) acc[0] / acc[1]));
+    }
+
+}
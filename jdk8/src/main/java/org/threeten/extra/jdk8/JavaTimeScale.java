@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.jdk8;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.threeten.extra.scale.TAIInstant;
+import org.threeten.extra.scale.UTCInstant;
+import org.threeten.extra.scale.UTCRules;
+
+/**
+ * Conversions between the UTC and TAI time-scales and {@code java.time}.
+ * <p>
+ * The scale classes are based on the ThreeTen backport, thus converting to and from
+ * {@code java.time} would normally require a chain of intermediate backport objects.
+ * When using the {@linkplain UTCRules#system() system rules}, the methods on this class
+ * work directly from the primitive state of the instants and the leap second rules,
+ * avoiding those intermediate objects. Other rules may override the conversions,
+ * thus are converted using the backport objects and the methods on {@code UTCRules}.
+ * <p>
+ * The mapping between UTC and {@code java.time.Instant} is the UTC-SLS mapping,
+ * exactly as used by {@link UTCInstant#toInstant()} and {@link UTCInstant#of(org.threeten.bp.Instant)}.
+ * Durations are measured in SI seconds, exactly as used by {@link TAIInstant#durationUntil(TAIInstant)}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class JavaTimeScale {
+
+    /**
+     * Constant for the offset from MJD day 0 to the Java Epoch of 1970-01-01: 40587.
+     */
+    private static final int OFFSET_MJD_EPOCH = 40587;
+    /**
+     * Constant for the offset from MJD day 0 to TAI day 0 of 1958-01-01: 36204.
+     */
+    private static final int OFFSET_MJD_TAI = 36204;
+    /**
+     * Constant for number of seconds per standard day: 86,400.
+     */
+    private static final long SECS_PER_DAY = 24L * 60L * 60L;
+    /**
+     * Constant for nanos per standard second: 1,000,000,000.
+     */
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    /**
+     * Restricted constructor.
+     */
+    private JavaTimeScale() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a {@code UTCInstant} to a {@code java.time.Instant}.
+     * <p>
+     * This uses the leap second rules of the UTC instant and the UTC-SLS mapping.
+     * The result is equal to converting the result of {@link UTCInstant#toInstant()}.
+     *
+     * @param utcInstant  the UTC instant to convert, not null
+     * @return the converted instant, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public static Instant toInstant(UTCInstant utcInstant) {
+        if (isSystem(utcInstant.getRules()) == false) {
+            return toJdk(utcInstant.toInstant());
+        }
+        long mjd = utcInstant.getModifiedJulianDay();
+        long utcNanos = utcInstant.getNanoOfDay();
+        long epochSec = Math.multiplyExact(Math.subtractExact(mjd, OFFSET_MJD_EPOCH), SECS_PER_DAY);
+        int leapAdj = utcInstant.getRules().getLeapSecondAdjustment(mjd);
+        long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+        long slsNanos = utcNanos;
+        if (leapAdj != 0 && utcNanos >= startSlsNanos) {
+            slsNanos = utcNanos - leapAdj * (utcNanos - startSlsNanos) / 1000;  // apply UTC-SLS mapping
+        }
+        return Instant.ofEpochSecond(epochSec + slsNanos / NANOS_PER_SECOND, slsNanos % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Converts a {@code TAIInstant} to a {@code java.time.Instant} using the
+     * system default leap second rules.
+     *
+     * @param taiInstant  the TAI instant to convert, not null
+     * @return the converted instant, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public static Instant toInstant(TAIInstant taiInstant) {
+        return toInstant(taiInstant, UTCRules.system());
+    }
+
+    /**
+     * Converts a {@code TAIInstant} to a {@code java.time.Instant} using the
+     * specified leap second rules.
+     *
+     * @param taiInstant  the TAI instant to convert, not null
+     * @param rules  the leap second rules, not null
+     * @return the converted instant, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public static Instant toInstant(TAIInstant taiInstant, UTCRules rules) {
+        return toInstant(UTCInstant.of(taiInstant, rules));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a {@code java.time.Instant} to a {@code UTCInstant} using the
+     * system default leap second rules.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the converted UTC instant, not null
+     */
+    public static UTCInstant toUTCInstant(Instant instant) {
+        return toUTCInstant(instant, UTCRules.system());
+    }
+
+    /**
+     * Converts a {@code java.time.Instant} to a {@code UTCInstant} using the
+     * specified leap second rules.
+     * <p>
+     * This uses the UTC-SLS mapping.
+     * The result is equal to {@link UTCInstant#of(org.threeten.bp.Instant, UTCRules)}.
+     *
+     * @param instant  the instant to convert, not null
+     * @param rules  the leap second rules, not null
+     * @return the converted UTC instant, not null
+     */
+    public static UTCInstant toUTCInstant(Instant instant, UTCRules rules) {
+        Objects.requireNonNull(rules, "rules");
+        if (isSystem(rules) == false) {
+            return UTCInstant.of(toBp(instant), rules);
+        }
+        long mjd = Math.floorDiv(instant.getEpochSecond(), SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+        long utcNanos = utcNanoOfDay(instant, mjd, rules);
+        return UTCInstant.ofModifiedJulianDay(mjd, utcNanos, rules);
+    }
+
+    /**
+     * Converts a {@code java.time.Instant} to a {@code TAIInstant} using the
+     * system default leap second rules.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the converted TAI instant, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public static TAIInstant toTAIInstant(Instant instant) {
+        return toTAIInstant(instant, UTCRules.system());
+    }
+
+    /**
+     * Converts a {@code java.time.Instant} to a {@code TAIInstant} using the
+     * specified leap second rules.
+     * <p>
+     * This uses the UTC-SLS mapping to UTC, then converts to TAI.
+     * No intermediate {@code UTCInstant} is created when using the system rules.
+     *
+     * @param instant  the instant to convert, not null
+     * @param rules  the leap second rules, not null
+     * @return the converted TAI instant, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public static TAIInstant toTAIInstant(Instant instant, UTCRules rules) {
+        Objects.requireNonNull(rules, "rules");
+        if (isSystem(rules) == false) {
+            return UTCInstant.of(toBp(instant), rules).toTAIInstant();
+        }
+        long mjd = Math.floorDiv(instant.getEpochSecond(), SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+        long utcNanos = utcNanoOfDay(instant, mjd, rules);
+        return TAIInstant.ofTAISeconds(taiSeconds(mjd, utcNanos, rules), utcNanos % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Calculates the UTC nano-of-day from an instant using the UTC-SLS mapping.
+     *
+     * @param instant  the instant, not null
+     * @param mjd  the Modified Julian Day of the instant
+     * @param rules  the leap second rules, not null
+     * @return the UTC nano-of-day
+     */
+    private static long utcNanoOfDay(Instant instant, long mjd, UTCRules rules) {
+        long slsNanos = Math.floorMod(instant.getEpochSecond(), SECS_PER_DAY) * NANOS_PER_SECOND + instant.getNano();
+        int leapAdj = rules.getLeapSecondAdjustment(mjd);
+        long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
+        long utcNanos = slsNanos;
+        if (leapAdj != 0 && slsNanos >= startSlsNanos) {
+            utcNanos = startSlsNanos + ((slsNanos - startSlsNanos) * 1000) / (1000 - leapAdj);  // apply UTC-SLS mapping
+        }
+        return utcNanos;
+    }
+
+    /**
+     * Calculates the whole TAI seconds from a UTC day and nano-of-day.
+     *
+     * @param mjd  the Modified Julian Day
+     * @param utcNanos  the UTC nano-of-day
+     * @param rules  the leap second rules, not null
+     * @return the seconds from the epoch of 1958-01-01T00:00:00(TAI)
+     */
+    private static long taiSeconds(long mjd, long utcNanos, UTCRules rules) {
+        long taiUtcDaySeconds = Math.multiplyExact(mjd - OFFSET_MJD_TAI, SECS_PER_DAY);
+        return Math.addExact(taiUtcDaySeconds, utcNanos / NANOS_PER_SECOND + rules.getTAIOffset(mjd));
+    }
+
+    /**
+     * Checks if the rules are the system rules, which do not override the conversions.
+     *
+     * @param rules  the leap second rules, not null
+     * @return true if the arithmetic on this class matches the rules
+     */
+    private static boolean isSystem(UTCRules rules) {
+        return rules == UTCRules.system();
+    }
+
+    private static Instant toJdk(org.threeten.bp.Instant instant) {
+        return Instant.ofEpochSecond(instant.getEpochSecond(), instant.getNano());
+    }
+
+    private static org.threeten.bp.Instant toBp(Instant instant) {
+        return org.threeten.bp.Instant.ofEpochSecond(instant.getEpochSecond(), instant.getNano());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns the duration between two TAI instants as a {@code java.time.Duration}.
+     *
+     * @param start  the start instant, not null
+     * @param end  the end instant, not null
+     * @return the duration from start to end, may be negative, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static Duration durationBetween(TAIInstant start, TAIInstant end) {
+        long secs = Math.subtractExact(end.getTAISeconds(), start.getTAISeconds());
+        return Duration.ofSeconds(secs, end.getNano() - start.getNano());
+    }
+
+    /**
+     * Returns the duration between two UTC instants as a {@code java.time.Duration}.
+     * <p>
+     * Any leap seconds that occur will be included in the duration.
+     * The result is equal to {@link UTCInstant#durationUntil(UTCInstant)}.
+     *
+     * @param start  the start instant, not null
+     * @param end  the end instant, not null
+     * @return the duration from start to end, may be negative, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static Duration durationBetween(UTCInstant start, UTCInstant end) {
+        if (isSystem(start.getRules()) == false || isSystem(end.getRules()) == false) {
+            return durationBetween(start.toTAIInstant(), end.toTAIInstant());
+        }
+        long startNanos = start.getNanoOfDay();
+        long endNanos = end.getNanoOfDay();
+        long startSecs = taiSeconds(start.getModifiedJulianDay(), startNanos, start.getRules());
+        long endSecs = taiSeconds(end.getModifiedJulianDay(), endNanos, end.getRules());
+        long nanos = (endNanos % NANOS_PER_SECOND) - (startNanos % NANOS_PER_SECOND);
+        return Duration.ofSeconds(Math.subtractExact(endSecs, startSecs), nanos);
+    }
+
+    /**
+     * Adds a {@code java.time.Duration} to a TAI instant.
+     *
+     * @param taiInstant  the instant to add to, not null
+     * @param duration  the duration to add, not null
+     * @return the TAI instant with the duration added, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static TAIInstant plus(TAIInstant taiInstant, Duration duration) {
+        long secs = Math.addExact(taiInstant.getTAISeconds(), duration.getSeconds());
+        return TAIInstant.ofTAISeconds(secs, ((long) taiInstant.getNano()) + duration.getNano());
+    }
+
+    /**
+     * Adds a {@code java.time.Duration} to a UTC instant.
+     * <p>
+     * The duration is treated as being measured in TAI compatible seconds.
+     * The result is equal to {@link UTCInstant#plus(org.threeten.bp.Duration)}.
+     *
+     * @param utcInstant  the instant to add to, not null
+     * @param duration  the duration to add, not null
+     * @return the UTC instant with the duration added, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static UTCInstant plus(UTCInstant utcInstant, Duration duration) {
+        if (isSystem(utcInstant.getRules()) == false) {
+            return UTCInstant.of(plus(utcInstant.toTAIInstant(), duration), utcInstant.getRules());
+        }
+        long utcNanos = utcInstant.getNanoOfDay();
+        long secs = taiSeconds(utcInstant.getModifiedJulianDay(), utcNanos, utcInstant.getRules());
+        secs = Math.addExact(secs, duration.getSeconds());
+        long nanos = (utcNanos % NANOS_PER_SECOND) + duration.getNano();
+        return UTCInstant.of(TAIInstant.ofTAISeconds(secs, nanos), utcInstant.getRules());
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.jdk8;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.extra.chrono.ChronoDateRange;
+import org.threeten.extra.scale.UTCInstant;
+
+/**
+ * Streams of dates and instants that split efficiently for parallel processing.
+ * <p>
+ * Streams created from an {@code Iterator} split poorly, as the elements must be
+ * visited in order and copied into arrays. The streams on this class are instead
+ * backed by a spliterator over a range of indices, where each element is calculated
+ * directly from its index. Splitting simply divides the index range in two,
+ * thus the stream is sized and each half can be processed independently.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class TemporalStreams {
+
+    /**
+     * Restricted constructor.
+     */
+    private TemporalStreams() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a stream of the dates in a Coptic or Persian date range.
+     * <p>
+     * The elements are calculated using {@link ChronoDateRange#get(long)}.
+     * The stream is sequential, use {@link Stream#parallel()} to process it in parallel.
+     *
+     * @param <D> the type of date
+     * @param range  the range of dates, not null
+     * @return the stream of dates, not null
+     */
+    public static <D extends ChronoLocalDate<D>> Stream<D> stream(ChronoDateRange<D> range) {
+        Objects.requireNonNull(range, "range");
+        return StreamSupport.stream(new IndexSpliterator<>(range::get, 0, range.size()), false);
+    }
+
+    /**
+     * Obtains a stream of UTC instants on a regular grid.
+     * <p>
+     * The element at index {@code i} is the start plus {@code i} times the step,
+     * calculated using {@link JavaTimeScale#plus(UTCInstant, Duration)}.
+     * The step is a duration on the UTC time-line, thus the grid passes through
+     * leap seconds rather than being aligned to the start of each day.
+     * The stream is sequential, use {@link Stream#parallel()} to process it in parallel.
+     *
+     * @param start  the first instant of the grid, not null
+     * @param step  the step between instants, positive, not null
+     * @param count  the number of instants, zero or greater
+     * @return the stream of instants, not null
+     * @throws IllegalArgumentException if the step is not positive or the count is negative
+     */
+    public static Stream<UTCInstant> utcGrid(UTCInstant start, Duration step, long count) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(step, "step");
+        if (step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("Step must be positive: " + step);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        return StreamSupport.stream(
+                new IndexSpliterator<>(index -> JavaTimeScale.plus(start, step.multipliedBy(index)), 0, count), false);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A spliterator over a range of indices, calculating each element from its index.
+     *
+     * @param <T> the type of element
+     */
+    static final class IndexSpliterator<T> implements Spliterator<T> {
+        /**
+         * The function calculating the element at an index.
+         */
+        private final LongFunction<T> elementFn;
+        /**
+         * The next index, inclusive.
+         */
+        private long index;
+        /**
+         * The end index, exclusive.
+         */
+        private final long end;
+
+        /**
+         * Constructs an instance.
+         *
+         * @param elementFn  the function calculating the element at an index, not null
+         * @param index  the start index, inclusive
+         * @param end  the end index, exclusive
+         */
+        IndexSpliterator(LongFunction<T> elementFn, long index, long end) {
+            this.elementFn = elementFn;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action");
+            if (index >= end) {
+                return false;
+            }
+            action.accept(elementFn.apply(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action");
+            long i = index;
+            index = end;
+            for ( ; i < end; i++) {
+                action.accept(elementFn.apply(i));
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            long lo = index;
+            long mid = (lo + end) >>> 1;
+            if (mid <= lo) {
+                return null;
+            }
+            index = mid;
+            return new IndexSpliterator<>(elementFn, lo, mid);
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+
+}
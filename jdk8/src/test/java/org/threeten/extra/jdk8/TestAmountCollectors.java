@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.jdk8;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+import org.threeten.extra.Days;
+import org.threeten.extra.Hours;
+import org.threeten.extra.Minutes;
+import org.threeten.extra.Months;
+import org.threeten.extra.Seconds;
+import org.threeten.extra.Weeks;
+import org.threeten.extra.Years;
+
+/**
+ * Test AmountCollectors.
+ */
+@Test
+public class TestAmountCollectors {
+
+    public void test_summing() {
+        assertEquals(Stream.of(Days.of(3), Days.of(-1), Days.of(5)).collect(AmountCollectors.summingDays()), Days.of(7));
+        assertEquals(Stream.of(Weeks.of(3), Weeks.of(4)).collect(AmountCollectors.summingWeeks()), Weeks.of(7));
+        assertEquals(Stream.of(Months.of(3), Months.of(4)).collect(AmountCollectors.summingMonths()), Months.of(7));
+        assertEquals(Stream.of(Years.of(3), Years.of(4)).collect(AmountCollectors.summingYears()), Years.of(7));
+        assertEquals(Stream.of(Hours.of(3), Hours.of(4)).collect(AmountCollectors.summingHours()), Hours.of(7));
+        assertEquals(Stream.of(Minutes.of(3), Minutes.of(4)).collect(AmountCollectors.summingMinutes()), Minutes.of(7));
+        assertEquals(Stream.of(Seconds.of(3), Seconds.of(4)).collect(AmountCollectors.summingSeconds()), Seconds.of(7));
+    }
+
+    public void test_summing_empty() {
+        assertEquals(Stream.<Days>empty().collect(AmountCollectors.summingDays()), Days.ZERO);
+    }
+
+    public void test_summing_parallel() {
+        Days test = IntStream.range(-5000, 20000).parallel().mapToObj(Days::of).collect(AmountCollectors.summingDays());
+        assertEquals(test, Days.of(IntStream.range(-5000, 20000).sum()));
+    }
+
+    public void test_summing_intermediateOverflow() {
+        List<Seconds> list = Arrays.asList(Seconds.of(Integer.MAX_VALUE), Seconds.of(10), Seconds.of(-20));
+        assertEquals(list.stream().collect(AmountCollectors.summingSeconds()), Seconds.of(Integer.MAX_VALUE - 10));
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_summing_overflow() {
+        Stream.of(Hours.of(Integer.MAX_VALUE), Hours.of(1)).collect(AmountCollectors.summingHours());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_averaging() {
+        assertEquals(Stream.of(Days.of(3), Days.of(-1), Days.of(4)).collect(AmountCollectors.averagingDays()), 2d);
+        assertEquals(Stream.of(Weeks.of(3), Weeks.of(4)).collect(AmountCollectors.averagingWeeks()), 3.5d);
+        assertEquals(Stream.of(Months.of(3), Months.of(4)).collect(AmountCollectors.averagingMonths()), 3.5d);
+        assertEquals(Stream.of(Years.of(3), Years.of(4)).collect(AmountCollectors.averagingYears()), 3.5d);
+        assertEquals(Stream.of(Hours.of(3), Hours.of(4)).collect(AmountCollectors.averagingHours()), 3.5d);
+        assertEquals(Stream.of(Minutes.of(3), Minutes.of(4)).collect(AmountCollectors.averagingMinutes()), 3.5d);
+        assertEquals(Stream.of(Seconds.of(3), Seconds.of(4)).collect(AmountCollectors.averagingSeconds()), 3.5d);
+    }
+
+    public void test_averaging_empty() {
+        assertEquals(Stream.<Days>empty().collect(AmountCollectors.averagingDays()), 0d);
+    }
+
+    public void test_averaging_parallel() {
+        Double test = IntStream.rangeClosed(1, 20000).parallel().mapToObj(Minutes::of).collect(AmountCollectors.averagingMinutes());
+        assertEquals(test, 10000.5d);
+    }
+
+    public void test_averaging_large() {
+        List<Days> list = Arrays.asList(Days.of(Integer.MAX_VALUE), Days.of(Integer.MAX_VALUE));
+        assertEquals(list.stream().collect(AmountCollectors.averagingDays()), (double) Integer.MAX_VALUE);
+    }
+
+}
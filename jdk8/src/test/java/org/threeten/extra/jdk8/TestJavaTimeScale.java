@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.jdk8;
+
+import static org.testng.Assert.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.temporal.JulianFields;
+import org.threeten.extra.scale.TAIInstant;
+import org.threeten.extra.scale.UTCInstant;
+import org.threeten.extra.scale.UTCRules;
+
+/**
+ * Test JavaTimeScale.
+ */
+@Test
+public class TestJavaTimeScale {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final long NANOS_PER_SEC = 1000000000L;
+    private static final long MJD_2012_06_30 = LocalDate.of(2012, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+
+    static {
+        UTCRules.registerSystemLeapSecond(LocalDate.of(2008, 12, 31).getLong(JulianFields.MODIFIED_JULIAN_DAY), 1);
+        UTCRules.registerSystemLeapSecond(MJD_2012_06_30, 1);
+    }
+
+    private static org.threeten.bp.Instant bp(Instant instant) {
+        return org.threeten.bp.Instant.ofEpochSecond(instant.getEpochSecond(), instant.getNano());
+    }
+
+    private static Instant jdk(org.threeten.bp.Instant instant) {
+        return Instant.ofEpochSecond(instant.getEpochSecond(), instant.getNano());
+    }
+
+    @DataProvider(name="utc")
+    Object[][] data_utc() {
+        return new Object[][] {
+            {UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, 0)},
+            {UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, (SECS_PER_DAY - 1000) * NANOS_PER_SEC + 1)},
+            {UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, (SECS_PER_DAY - 1) * NANOS_PER_SEC + 500)},
+            {UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, SECS_PER_DAY * NANOS_PER_SEC)},
+            {UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, SECS_PER_DAY * NANOS_PER_SEC + 999999999)},
+            {UTCInstant.ofModifiedJulianDay(MJD_2012_06_30 + 1, 7)},
+            {UTCInstant.ofModifiedJulianDay(-5, 123456789)},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_toInstant_UTCInstant(UTCInstant utc) {
+        assertEquals(JavaTimeScale.toInstant(utc), jdk(utc.toInstant()));
+    }
+
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_toInstant_TAIInstant(UTCInstant utc) {
+        assertEquals(JavaTimeScale.toInstant(utc.toTAIInstant()), jdk(utc.toInstant()));
+    }
+
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_toUTCInstant(UTCInstant utc) {
+        Instant instant = jdk(utc.toInstant());
+        assertEquals(JavaTimeScale.toUTCInstant(instant), UTCInstant.of(bp(instant)));
+    }
+
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_toTAIInstant(UTCInstant utc) {
+        Instant instant = jdk(utc.toInstant());
+        assertEquals(JavaTimeScale.toTAIInstant(instant), TAIInstant.of(bp(instant)));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_durationBetween_UTCInstant(UTCInstant utc) {
+        UTCInstant base = UTCInstant.ofModifiedJulianDay(MJD_2012_06_30 - 1, 999999999);
+        org.threeten.bp.Duration expected = base.durationUntil(utc);
+        Duration test = JavaTimeScale.durationBetween(base, utc);
+        assertEquals(test, Duration.ofSeconds(expected.getSeconds(), expected.getNano()));
+    }
+
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_durationBetween_TAIInstant(UTCInstant utc) {
+        TAIInstant base = TAIInstant.ofTAISeconds(1700000000L, 999999999);
+        org.threeten.bp.Duration expected = base.durationUntil(utc.toTAIInstant());
+        Duration test = JavaTimeScale.durationBetween(base, utc.toTAIInstant());
+        assertEquals(test, Duration.ofSeconds(expected.getSeconds(), expected.getNano()));
+    }
+
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_plus_UTCInstant(UTCInstant utc) {
+        for (long secs = -3; secs <= 3; secs++) {
+            org.threeten.bp.Duration bpDuration = org.threeten.bp.Duration.ofSeconds(secs, 600000000);
+            Duration duration = Duration.ofSeconds(secs, 600000000);
+            assertEquals(JavaTimeScale.plus(utc, duration), utc.plus(bpDuration));
+        }
+    }
+
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_plus_TAIInstant(UTCInstant utc) {
+        TAIInstant tai = utc.toTAIInstant();
+        org.threeten.bp.Duration bpDuration = org.threeten.bp.Duration.ofSeconds(-2, 600000000);
+        assertEquals(JavaTimeScale.plus(tai, Duration.ofSeconds(-2, 600000000)), tai.plus(bpDuration));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="utc", groups={"tck"})
+    public void test_customRules(UTCInstant systemUtc) {
+        UTCInstant utc = UTCInstant.ofModifiedJulianDay(systemUtc.getModifiedJulianDay(), systemUtc.getNanoOfDay(), ShiftedRules.INSTANCE);
+        Instant instant = jdk(utc.toInstant());
+        assertEquals(JavaTimeScale.toInstant(utc), instant);
+        assertEquals(JavaTimeScale.toUTCInstant(instant, ShiftedRules.INSTANCE), UTCInstant.of(bp(instant), ShiftedRules.INSTANCE));
+        assertEquals(JavaTimeScale.toTAIInstant(instant, ShiftedRules.INSTANCE), UTCInstant.of(bp(instant), ShiftedRules.INSTANCE).toTAIInstant());
+        org.threeten.bp.Duration expected = systemUtc.durationUntil(utc);
+        assertEquals(JavaTimeScale.durationBetween(systemUtc, utc), Duration.ofSeconds(expected.getSeconds(), expected.getNano()));
+        org.threeten.bp.Duration bpDuration = org.threeten.bp.Duration.ofSeconds(-2, 600000000);
+        assertEquals(JavaTimeScale.plus(utc, Duration.ofSeconds(-2, 600000000)), utc.plus(bpDuration));
+    }
+
+    /**
+     * Rules that override the conversions, shifting TAI and the instant by one second.
+     */
+    static final class ShiftedRules extends UTCRules {
+        static final ShiftedRules INSTANCE = new ShiftedRules();
+        private static final org.threeten.bp.Duration SHIFT = org.threeten.bp.Duration.ofSeconds(1);
+
+        @Override
+        public String getName() {
+            return "Shifted";
+        }
+        @Override
+        public int getLeapSecondAdjustment(long mjDay) {
+            return UTCRules.system().getLeapSecondAdjustment(mjDay);
+        }
+        @Override
+        public int getTAIOffset(long mjDay) {
+            return UTCRules.system().getTAIOffset(mjDay);
+        }
+        @Override
+        public long[] getLeapSecondDates() {
+            return UTCRules.system().getLeapSecondDates();
+        }
+        @Override
+        protected TAIInstant convertToTAI(UTCInstant utcInstant) {
+            return super.convertToTAI(utcInstant).plus(SHIFT);
+        }
+        @Override
+        protected UTCInstant convertToUTC(TAIInstant taiInstant) {
+            UTCInstant utc = UTCInstant.of(taiInstant.minus(SHIFT));
+            return UTCInstant.ofModifiedJulianDay(utc.getModifiedJulianDay(), utc.getNanoOfDay(), this);
+        }
+        @Override
+        protected org.threeten.bp.Instant convertToInstant(UTCInstant utcInstant) {
+            return super.convertToInstant(utcInstant).plus(SHIFT);
+        }
+        @Override
+        protected UTCInstant convertToUTC(org.threeten.bp.Instant instant) {
+            return super.convertToUTC(instant.minus(SHIFT));
+        }
+    }
+
+}
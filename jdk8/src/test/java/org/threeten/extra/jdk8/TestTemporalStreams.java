@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.jdk8;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.temporal.JulianFields;
+import org.threeten.extra.chrono.ChronoDateRange;
+import org.threeten.extra.chrono.CopticChronology;
+import org.threeten.extra.chrono.PersianChronology;
+import org.threeten.extra.scale.UTCInstant;
+
+/**
+ * Test TemporalStreams.
+ */
+@Test
+public class TestTemporalStreams {
+
+    private static final long MJD_2012_06_30 = LocalDate.of(2012, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+
+    @DataProvider(name="ranges")
+    Object[][] data_ranges() {
+        return new Object[][] {
+            {ChronoDateRange.coptic(CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1740, 2, 3))},
+            {ChronoDateRange.coptic(CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1740, 2, 3), 3, WEEKS)},
+            {ChronoDateRange.coptic(CopticChronology.INSTANCE.date(1726, 1, 30), CopticChronology.INSTANCE.date(1740, 2, 3), 1, MONTHS)},
+            {ChronoDateRange.persian(PersianChronology.INSTANCE.date(1398, 12, 15), PersianChronology.INSTANCE.date(1410, 2, 3))},
+            {ChronoDateRange.persian(PersianChronology.INSTANCE.date(1398, 6, 31), PersianChronology.INSTANCE.date(1410, 2, 3), 5, MONTHS)},
+            {ChronoDateRange.persian(PersianChronology.INSTANCE.date(1398, 6, 31), PersianChronology.INSTANCE.date(1398, 6, 31), 1, DAYS)},
+        };
+    }
+
+    @Test(dataProvider="ranges")
+    public <D extends ChronoLocalDate<D>> void test_stream(ChronoDateRange<D> range) {
+        List<D> expected = new ArrayList<>();
+        range.forEach(expected::add);
+        assertEquals(TemporalStreams.stream(range).collect(Collectors.toList()), expected);
+        assertEquals(TemporalStreams.stream(range).parallel().collect(Collectors.toList()), expected);
+        assertEquals(TemporalStreams.stream(range).spliterator().getExactSizeIfKnown(), expected.size());
+    }
+
+    public void test_stream_split() {
+        ChronoDateRange<?> range = ChronoDateRange.coptic(
+                CopticChronology.INSTANCE.date(1726, 12, 1), CopticChronology.INSTANCE.date(1726, 13, 1));
+        Spliterator<?> spliterator = TemporalStreams.stream(range).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<?> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(prefix.estimateSize(), 15);
+        assertEquals(spliterator.estimateSize(), 15);
+        List<Object> dates = new ArrayList<>();
+        prefix.forEachRemaining(dates::add);
+        spliterator.forEachRemaining(dates::add);
+        assertEquals(dates.get(0), range.getStart());
+        assertEquals(dates.get(15), range.get(15));
+        assertEquals(dates.size(), 30);
+    }
+
+    public void test_stream_splitSingle() {
+        ChronoDateRange<?> range = ChronoDateRange.coptic(
+                CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1726, 12, 16));
+        assertNull(TemporalStreams.stream(range).spliterator().trySplit());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_utcGrid() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, 86398_000000000L);
+        List<UTCInstant> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(start.plus(org.threeten.bp.Duration.ofMillis(500L * i)));
+        }
+        Duration step = Duration.ofMillis(500);
+        assertEquals(TemporalStreams.utcGrid(start, step, 100).collect(Collectors.toList()), expected);
+        assertEquals(TemporalStreams.utcGrid(start, step, 100).parallel().collect(Collectors.toList()), expected);
+    }
+
+    public void test_utcGrid_empty() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, 0);
+        assertEquals(TemporalStreams.utcGrid(start, Duration.ofHours(1), 0).count(), 0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_utcGrid_zeroStep() {
+        TemporalStreams.utcGrid(UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, 0), Duration.ZERO, 10);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_utcGrid_negativeCount() {
+        TemporalStreams.utcGrid(UTCInstant.ofModifiedJulianDay(MJD_2012_06_30, 0), Duration.ofHours(1), -1);
+    }
+
+}
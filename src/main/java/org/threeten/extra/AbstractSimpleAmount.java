@@ -31,7 +31,31 @@
  */
 package org.threeten.extra;
 
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAmount;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -39,6 +63,9 @@ import org.threeten.bp.temporal.TemporalUnit;
  * such as days or seconds.
  * <p>
  * This class exists to share code between the public implementations.
+ * <p>
+ * Each amount is a {@code TemporalAmount}, thus it can be passed directly to
+ * {@code plus(TemporalAmount)} and {@code minus(TemporalAmount)}.
  *
  * <h3>Specification for implementors</h3>
  * This is an abstract class and must be implemented with care to ensure
@@ -47,9 +74,39 @@ import org.threeten.bp.temporal.TemporalUnit;
  * 
  * @param <T>  the subclass type
  */
-abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implements Comparable<T> {
+abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implements Comparable<T>, TemporalAmount {
     // amount stored in subclass for serialization reasons
 
+    /**
+     * The smallest amount held in the cache of each subclass.
+     */
+    static final int CACHE_MIN = -256;
+    /**
+     * The number of amounts held in the cache of each subclass, from -256 to 1024.
+     */
+    static final int CACHE_SIZE = 1024 - CACHE_MIN + 1;
+    /**
+     * The maximum length of the formatted amount, as in 'PT-2147483648H'.
+     */
+    private static final int MAX_FORMATTED_LENGTH = 14;
+    /**
+     * The units that can be converted exactly, from smallest to largest.
+     */
+    private static final TemporalUnit[] CONVERTIBLE_UNITS = {SECONDS, MINUTES, HOURS, DAYS, WEEKS};
+    /**
+     * The factor to convert between each pair of convertible units, indexed by the
+     * unit to convert from and then the unit to convert to, zero if not exact.
+     * Days are treated as 24 hours, ignoring daylight saving time.
+     */
+    private static final int[][] CONVERSION_FACTORS = {
+        // to: SECONDS, MINUTES, HOURS, DAYS, WEEKS
+        {1, 0, 0, 0, 0},  // from SECONDS
+        {60, 1, 0, 0, 0},  // from MINUTES
+        {3600, 60, 1, 0, 0},  // from HOURS
+        {86400, 1440, 24, 1, 0},  // from DAYS
+        {604800, 10080, 168, 7, 1},  // from WEEKS
+    };
+
     /**
      * Constructs a new instance.
      */
@@ -81,6 +138,120 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
      */
     public abstract TemporalUnit getUnit();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the list of units, which contains only the unit of this amount.
+     *
+     * @return the singleton list of the unit, not null
+     */
+    @Override
+    public List<TemporalUnit> getUnits() {
+        return Collections.singletonList(getUnit());
+    }
+
+    /**
+     * Gets the amount of time in the specified unit.
+     *
+     * @param unit  the unit to query, not null
+     * @return the amount of time
+     * @throws DateTimeException if the unit is not the unit of this amount
+     */
+    @Override
+    public long get(TemporalUnit unit) {
+        if (unit == getUnit()) {
+            return getAmount();
+        }
+        throw new DateTimeException("Unsupported unit: " + unit);
+    }
+
+    /**
+     * Adds this amount to the specified temporal object.
+     * <p>
+     * This returns a temporal object of the same observable type as the input
+     * with this amount added. For {@code LocalDate}, {@code LocalDateTime} and
+     * {@code Instant} the matching method, such as {@code plusDays}, is called directly.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @return an object of the same type with the adjustment made, not null
+     * @throws DateTimeException if unable to add
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal addTo(Temporal temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        int amount = getAmount();
+        return (amount == 0 ? temporal : plus(temporal, amount, getUnit()));
+    }
+
+    /**
+     * Subtracts this amount from the specified temporal object.
+     * <p>
+     * This returns a temporal object of the same observable type as the input
+     * with this amount subtracted. For {@code LocalDate}, {@code LocalDateTime} and
+     * {@code Instant} the matching method, such as {@code minusDays}, is called directly.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @return an object of the same type with the adjustment made, not null
+     * @throws DateTimeException if unable to subtract
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal subtractFrom(Temporal temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        int amount = getAmount();
+        return (amount == 0 ? temporal : plus(temporal, -((long) amount), getUnit()));
+    }
+
+    /**
+     * Adds an amount to a temporal, calling the type-specific method where possible.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @param amount  the amount to add, may be negative
+     * @param unit  the unit of the amount, not null
+     * @return an object of the same type with the adjustment made, not null
+     */
+    private static Temporal plus(Temporal temporal, long amount, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            ChronoUnit chronoUnit = (ChronoUnit) unit;
+            if (temporal instanceof LocalDate) {
+                LocalDate date = (LocalDate) temporal;
+                switch (chronoUnit) {
+                    case DAYS: return date.plusDays(amount);
+                    case WEEKS: return date.plusWeeks(amount);
+                    case MONTHS: return date.plusMonths(amount);
+                    case YEARS: return date.plusYears(amount);
+                    default: break;
+                }
+            } else if (temporal instanceof LocalDateTime) {
+                LocalDateTime dateTime = (LocalDateTime) temporal;
+                switch (chronoUnit) {
+                    case SECONDS: return dateTime.plusSeconds(amount);
+                    case MINUTES: return dateTime.plusMinutes(amount);
+                    case HOURS: return dateTime.plusHours(amount);
+                    case DAYS: return dateTime.plusDays(amount);
+                    case WEEKS: return dateTime.plusWeeks(amount);
+                    case MONTHS: return dateTime.plusMonths(amount);
+                    case YEARS: return dateTime.plusYears(amount);
+                    default: break;
+                }
+            } else if (temporal instanceof Instant) {
+                Instant instant = (Instant) temporal;
+                switch (chronoUnit) {
+                    case SECONDS: return instant.plusSeconds(amount);
+                    case MINUTES: return instant.plusSeconds(amount * 60);
+                    case HOURS: return instant.plusSeconds(amount * 3600);
+                    case DAYS: return instant.plusSeconds(amount * 86400);
+                    default: break;
+                }
+            }
+        }
+        return temporal.plus(amount, unit);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a new instance with the specified amount of time added.
@@ -172,6 +343,248 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
         return -value;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the amount of time to a smaller unit.
+     * <p>
+     * This performs a single checked multiplication by the factor from the conversion matrix.
+     *
+     * @param unit  the unit to convert to, not null
+     * @return the amount of time in the unit
+     * @throws DateTimeException if the conversion is not exact
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    int toAmount(TemporalUnit unit) {
+        return Jdk8Methods.safeMultiply(getAmount(), conversionFactor(getUnit(), unit));
+    }
+
+    /**
+     * Gets the exact factor to convert an amount from one unit to another.
+     * <p>
+     * A unit can be converted to itself, and seconds, minutes, hours, days and weeks
+     * can be converted to a smaller unit in that list.
+     * Days are treated as 24 hours, ignoring daylight saving time.
+     *
+     * @param fromUnit  the unit to convert from, not null
+     * @param toUnit  the unit to convert to, not null
+     * @return the factor, positive
+     * @throws DateTimeException if the conversion is not exact
+     */
+    static int conversionFactor(TemporalUnit fromUnit, TemporalUnit toUnit) {
+        Objects.requireNonNull(fromUnit, "fromUnit");
+        Objects.requireNonNull(toUnit, "toUnit");
+        if (fromUnit == toUnit) {
+            return 1;
+        }
+        int from = convertibleIndex(fromUnit);
+        int to = convertibleIndex(toUnit);
+        int factor = (from < 0 || to < 0 ? 0 : CONVERSION_FACTORS[from][to]);
+        if (factor == 0) {
+            throw new DateTimeException("Unable to convert " + fromUnit + " to " + toUnit + " exactly");
+        }
+        return factor;
+    }
+
+    private static int convertibleIndex(TemporalUnit unit) {
+        for (int i = 0; i < CONVERTIBLE_UNITS.length; i++) {
+            if (CONVERTIBLE_UNITS[i] == unit) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the amount of time between two temporal objects in a unit.
+     * <p>
+     * Only complete units are counted, truncating towards zero.
+     * Where both objects are {@code LocalDate}, {@code LocalDateTime} or {@code Instant},
+     * the amount is calculated directly from the epoch-day, proleptic-month and
+     * epoch-second without creating intermediate objects.
+     * Otherwise, {@link ChronoUnit#between(Temporal, Temporal)} is used.
+     * The unit must be seconds or larger.
+     *
+     * @param unit  the unit to calculate in, not null
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the amount of time, may be negative
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    static int between(ChronoUnit unit, Temporal startInclusive, Temporal endExclusive) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        long amount;
+        if (startInclusive instanceof LocalDate && endExclusive instanceof LocalDate && unit.isDateUnit()) {
+            amount = dateBetween(unit, (LocalDate) startInclusive, (LocalDate) endExclusive);
+        } else if (startInclusive instanceof LocalDateTime && endExclusive instanceof LocalDateTime) {
+            amount = dateTimeBetween(unit, (LocalDateTime) startInclusive, (LocalDateTime) endExclusive);
+        } else if (startInclusive instanceof Instant && endExclusive instanceof Instant && (unit.isTimeUnit() || unit == DAYS)) {
+            Instant start = (Instant) startInclusive;
+            Instant end = (Instant) endExclusive;
+            long seconds = secondsBetween(end.getEpochSecond() - start.getEpochSecond(), end.getNano() - start.getNano());
+            amount = seconds / unit.getDuration().getSeconds();
+        } else {
+            amount = unit.between(startInclusive, endExclusive);
+        }
+        return Jdk8Methods.safeToInt(amount);
+    }
+
+    /**
+     * Calculates the amount of a date unit between two dates.
+     *
+     * @param unit  the date unit, not null
+     * @param start  the start date, not null
+     * @param end  the end date, not null
+     * @return the amount of time
+     */
+    private static long dateBetween(ChronoUnit unit, LocalDate start, LocalDate end) {
+        if (unit == DAYS || unit == WEEKS) {
+            long days = end.toEpochDay() - start.toEpochDay();
+            return (unit == WEEKS ? days / 7 : days);
+        }
+        if (unit.compareTo(YEARS) > 0) {
+            return unit.between(start, end);
+        }
+        long packed1 = (start.getYear() * 12L + start.getMonthValue() - 1) * 32L + start.getDayOfMonth();
+        long packed2 = (end.getYear() * 12L + end.getMonthValue() - 1) * 32L + end.getDayOfMonth();
+        long months = (packed2 - packed1) / 32;
+        return (unit == YEARS ? months / 12 : months);
+    }
+
+    /**
+     * Calculates the amount of a unit between two date-times.
+     * <p>
+     * For date units, an incomplete final day is excluded, as per {@code LocalDateTime}.
+     *
+     * @param unit  the unit, not null
+     * @param start  the start date-time, not null
+     * @param end  the end date-time, not null
+     * @return the amount of time
+     */
+    private static long dateTimeBetween(ChronoUnit unit, LocalDateTime start, LocalDateTime end) {
+        LocalDate startDate = start.toLocalDate();
+        LocalDate endDate = end.toLocalDate();
+        LocalTime startTime = start.toLocalTime();
+        LocalTime endTime = end.toLocalTime();
+        if (unit.isDateUnit()) {
+            long days = endDate.toEpochDay() - startDate.toEpochDay();
+            if (days > 0 && endTime.isBefore(startTime)) {
+                endDate = endDate.minusDays(1);
+            } else if (days < 0 && endTime.isAfter(startTime)) {
+                endDate = endDate.plusDays(1);
+            }
+            return dateBetween(unit, startDate, endDate);
+        }
+        long seconds = (endDate.toEpochDay() - startDate.toEpochDay()) * 86400L +
+                (endTime.toSecondOfDay() - startTime.toSecondOfDay());
+        seconds = secondsBetween(seconds, endTime.getNano() - startTime.getNano());
+        return seconds / unit.getDuration().getSeconds();
+    }
+
+    /**
+     * Adjusts a difference in seconds to exclude an incomplete final second.
+     *
+     * @param seconds  the difference in seconds
+     * @param nanos  the difference in nano-of-second
+     * @return the number of complete seconds
+     */
+    private static long secondsBetween(long seconds, int nanos) {
+        if (seconds > 0 && nanos < 0) {
+            return seconds - 1;
+        } else if (seconds < 0 && nanos > 0) {
+            return seconds + 1;
+        }
+        return seconds;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses an amount in the format produced by {@code toString()}.
+     * <p>
+     * The text consists of an optional sign, the prefix, an optional sign,
+     * at least one ASCII digit and the unit letter.
+     * The prefix and unit letter are matched ignoring case.
+     * The text is scanned in place, without creating substrings.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param prefix  the prefix, 'P' or 'PT', not null
+     * @param unitLetter  the upper-case unit letter
+     * @param typeName  the name of the type being parsed, not null
+     * @return the parsed amount
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    static int parseAmount(CharSequence text, int start, int end, String prefix, char unitLetter, String typeName) {
+        Objects.requireNonNull(text, "text");
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start + " to " + end + ", length " + text.length());
+        }
+        int pos = start;
+        boolean negative = false;
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negative = (text.charAt(pos++) == '-');
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            pos = parseLetter(text, pos, end, prefix.charAt(i), typeName);
+        }
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negative ^= (text.charAt(pos++) == '-');
+        }
+        int digitsStart = pos;
+        long value = 0;
+        while (pos < end) {
+            char ch = text.charAt(pos);
+            if (ch < '0' || ch > '9') {
+                break;
+            }
+            value = value * 10 + (ch - '0');
+            if (value > -((long) Integer.MIN_VALUE)) {
+                throw parseError(text, digitsStart, typeName, "amount exceeds an int");
+            }
+            pos++;
+        }
+        if (pos == digitsStart) {
+            throw parseError(text, pos, typeName, "expected a digit");
+        }
+        pos = parseLetter(text, pos, end, unitLetter, typeName);
+        if (pos != end) {
+            throw parseError(text, pos, typeName, "unexpected text");
+        }
+        if (negative) {
+            value = -value;
+        } else if (value > Integer.MAX_VALUE) {
+            throw parseError(text, digitsStart, typeName, "amount exceeds an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a single letter, ignoring case.
+     *
+     * @param text  the text to parse, not null
+     * @param pos  the position to parse at
+     * @param end  the end index, exclusive
+     * @param letter  the upper-case letter to match
+     * @param typeName  the name of the type being parsed, not null
+     * @return the position after the letter
+     * @throws DateTimeParseException if the letter does not match
+     */
+    private static int parseLetter(CharSequence text, int pos, int end, char letter, String typeName) {
+        if (pos >= end || (text.charAt(pos) != letter && text.charAt(pos) != Character.toLowerCase(letter))) {
+            throw parseError(text, pos, typeName, "expected '" + letter + "'");
+        }
+        return pos + 1;
+    }
+
+    private static DateTimeParseException parseError(CharSequence text, int pos, String typeName, String message) {
+        return new DateTimeParseException(
+                "Text '" + text + "' could not be parsed to " + typeName + " at index " + pos + ": " + message, text, pos);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares the amount of time in this instance to another instance.
@@ -239,12 +652,170 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * Formats this amount to an {@code Appendable}.
+     * <p>
+     * The format is the same as {@link #toString()}, such as 'P6D' or 'PT-2H'.
+     * The characters are appended individually, without creating a string.
+     *
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs writing to the appendable
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        byte[] scratch = new byte[MAX_FORMATTED_LENGTH];
+        formatAscii(scratch, null, MAX_FORMATTED_LENGTH);
+        try {
+            for (int i = MAX_FORMATTED_LENGTH - formattedLength(); i < MAX_FORMATTED_LENGTH; i++) {
+                appendable.append((char) scratch[i]);
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Formats this amount as ASCII bytes to a byte array.
+     * <p>
+     * The format is the same as {@link #toString()}, such as 'P6D' or 'PT-2H'.
+     * The bytes are written directly to the array, without any intermediate objects.
+     * At most 14 bytes are written.
+     *
+     * @param buffer  the array to write to, not null
+     * @param offset  the offset to start writing at
+     * @return the offset after the last byte written
+     * @throws IndexOutOfBoundsException if the array is too small
+     */
+    public int formatTo(byte[] buffer, int offset) {
+        int length = formattedLength();
+        if (offset < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Buffer too small: offset " + offset + ", length " + buffer.length);
+        }
+        formatAscii(buffer, null, offset + length);
+        return offset + length;
+    }
+
+    /**
+     * Formats this amount as ASCII bytes to a byte buffer.
+     * <p>
+     * The format is the same as {@link #toString()}, such as 'P6D' or 'PT-2H'.
+     * The bytes are written at the current position, which is then advanced.
+     * The bytes are written directly to the buffer, without any intermediate objects.
+     * At most 14 bytes are written.
+     *
+     * @param buffer  the buffer to write to, not null
+     * @throws BufferOverflowException if the buffer has insufficient space remaining
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public void formatTo(ByteBuffer buffer) {
+        int length = formattedLength();
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        int position = buffer.position();
+        if (buffer.hasArray()) {
+            formatAscii(buffer.array(), null, buffer.arrayOffset() + position + length);
+        } else {
+            formatAscii(null, buffer, position + length);
+        }
+        buffer.position(position + length);
+    }
+
+    /**
+     * Writes the formatted amount as ASCII bytes, backwards from the end index.
+     * <p>
+     * This is the only place the format is written. Exactly one of the array and
+     * buffer is specified, with the buffer written using absolute puts.
+     * The caller must ensure that there is space for {@link #formattedLength()} bytes.
+     *
+     * @param array  the array to write to, null if writing to the buffer
+     * @param buffer  the buffer to write to, null if writing to the array
+     * @param end  the index after the last byte to write
+     */
+    private void formatAscii(byte[] array, ByteBuffer buffer, int end) {
+        int amount = getAmount();
+        long abs = Math.abs((long) amount);
+        int pos = end;
+        put(array, buffer, --pos, unitLetter());
+        do {
+            put(array, buffer, --pos, (char) ('0' + abs % 10));
+            abs /= 10;
+        } while (abs > 0);
+        if (amount < 0) {
+            put(array, buffer, --pos, '-');
+        }
+        if (isTimeBased()) {
+            put(array, buffer, --pos, 'T');
+        }
+        put(array, buffer, --pos, 'P');
+    }
+
+    private static void put(byte[] array, ByteBuffer buffer, int index, char ch) {
+        if (array != null) {
+            array[index] = (byte) ch;
+        } else {
+            buffer.put(index, (byte) ch);
+        }
+    }
+
+    /**
+     * Gets the number of characters in the formatted amount.
+     *
+     * @return the length of the formatted amount
+     */
+    private int formattedLength() {
+        int amount = getAmount();
+        int length = (isTimeBased() ? 4 : 3) + (amount < 0 ? 1 : 0);
+        for (long abs = Math.abs((long) amount); abs >= 10; abs /= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Checks if the unit is hours, minutes or seconds, which are formatted after a 'T'.
+     *
+     * @return true if the unit is time-based
+     */
+    private boolean isTimeBased() {
+        TemporalUnit unit = getUnit();
+        return unit == HOURS || unit == MINUTES || unit == SECONDS;
+    }
+
+    /**
+     * Gets the letter used for the unit in the formatted amount.
+     *
+     * @return the upper-case unit letter
+     */
+    private char unitLetter() {
+        TemporalUnit unit = getUnit();
+        if (unit == DAYS) {
+            return 'D';
+        } else if (unit == WEEKS) {
+            return 'W';
+        } else if (unit == YEARS) {
+            return 'Y';
+        } else if (unit == SECONDS) {
+            return 'S';
+        } else if (unit == HOURS) {
+            return 'H';
+        }
+        return 'M';
+    }
+
     /**
      * Returns a string representation of the amount of time.
+     * <p>
+     * This uses the same routine as the {@code formatTo} methods.
      *
      * @return the amount of time in ISO8601 string format
      */
     @Override
-    public abstract String toString();
+    public String toString() {
+        int length = formattedLength();
+        byte[] scratch = new byte[length];
+        formatAscii(scratch, null, length);
+        return new String(scratch, StandardCharsets.US_ASCII);
+    }
 
 }
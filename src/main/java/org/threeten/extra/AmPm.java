@@ -39,7 +39,10 @@ import java.util.Calendar;
 import java.util.Locale;
 
 import org.threeten.bp.DateTimeException;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.Temporal;
@@ -83,6 +86,10 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      * This has the numeric value of {@code 1}.
      */
     PM;
+    /**
+     * The cache of display names.
+     */
+    private static final DisplayNameCache<AmPm> DISPLAY_NAMES = new DisplayNameCache<AmPm>(AMPM_OF_DAY, values());
 
     //-----------------------------------------------------------------------
     /**
@@ -127,6 +134,7 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      * This factory converts the arbitrary temporal object to an instance of {@code DayOfWeek}.
      * <p>
      * The conversion extracts the {@link ChronoField#AMPM_OF_DAY AMPM_OF_DAY} field.
+     * The AM/PM of the common ISO time classes is derived directly from the hour.
      * <p>
      * This method matches the signature of the functional interface {@link TemporalQuery}
      * allowing it to be used as a query via method reference, {@code AmPm::from}.
@@ -138,6 +146,14 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
     public static AmPm from(TemporalAccessor temporal) {
         if (temporal instanceof AmPm) {
             return (AmPm) temporal;
+        } else if (temporal instanceof LocalTime) {
+            return ofHour(((LocalTime) temporal).getHour());
+        } else if (temporal instanceof LocalDateTime) {
+            return ofHour(((LocalDateTime) temporal).getHour());
+        } else if (temporal instanceof ZonedDateTime) {
+            return ofHour(((ZonedDateTime) temporal).getHour());
+        } else if (temporal instanceof OffsetDateTime) {
+            return ofHour(((OffsetDateTime) temporal).getHour());
         }
         return of(temporal.get(AMPM_OF_DAY));
     }
@@ -162,13 +178,15 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      * The parameters control the length of the returned text and the locale.
      * <p>
      * If no textual mapping is found then the {@link #getValue() numeric value} is returned.
+     * <p>
+     * The names of all the constants are cached for each style and locale on first use.
      *
      * @param style  the length of the text required, not null
      * @param locale  the locale to use, not null
      * @return the text value of the AM/PM, not null
      */
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(AMPM_OF_DAY, style).toFormatter(locale).format(this);
+        return DISPLAY_NAMES.get(this, style, locale);
     }
 
     //-----------------------------------------------------------------------
@@ -331,6 +349,7 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      * <p>
      * The adjustment is equivalent to using {@link Temporal#with(TemporalField, long)}
      * passing {@link ChronoField#AMPM_OF_DAY} as the field.
+     * The common ISO time classes are adjusted directly by changing the hour.
      * <p>
      * In most cases, it is clearer to reverse the calling pattern by using
      * {@link Temporal#with(TemporalAdjuster)}:
@@ -349,7 +368,30 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      */
     @Override
     public Temporal adjustInto(Temporal temporal) {
+        if (temporal instanceof LocalTime) {
+            LocalTime time = (LocalTime) temporal;
+            return time.withHour(adjustHour(time.getHour()));
+        } else if (temporal instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporal;
+            return dateTime.withHour(adjustHour(dateTime.getHour()));
+        } else if (temporal instanceof ZonedDateTime) {
+            ZonedDateTime dateTime = (ZonedDateTime) temporal;
+            return dateTime.withHour(adjustHour(dateTime.getHour()));
+        } else if (temporal instanceof OffsetDateTime) {
+            OffsetDateTime dateTime = (OffsetDateTime) temporal;
+            return dateTime.withHour(adjustHour(dateTime.getHour()));
+        }
         return temporal.with(AMPM_OF_DAY, getValue());
     }
 
+    /**
+     * Moves an hour-of-day into this half-day, keeping the hour-of-am-pm.
+     *
+     * @param hourOfDay  the hour-of-day to adjust, from 0 to 23
+     * @return the adjusted hour-of-day, from 0 to 23
+     */
+    private int adjustHour(int hourOfDay) {
+        return hourOfDay % 12 + ordinal() * 12;
+    }
+
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.temporal.TemporalUnit;
+
+/**
+ * Bulk operations on arrays of amounts, such as a column of day counts.
+ * <p>
+ * Each {@code int} in an array is the amount of a {@link Days}, {@link Hours}
+ * or other simple amount, all in the same unit. The operations work directly
+ * on the primitive values, without creating an amount object per element.
+ * <p>
+ * Overflow is detected in the same way as the methods on the amount classes,
+ * throwing {@code ArithmeticException}. The message of the exception includes
+ * the index of the element at which the overflow occurred.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ * The arrays passed in are not protected from concurrent modification.
+ */
+public final class AmountArrays {
+
+    /**
+     * Restricted constructor.
+     */
+    private AmountArrays() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sums the amounts in an array.
+     *
+     * @param amounts  the amounts to sum, not null
+     * @return the total, zero if the array is empty
+     * @throws ArithmeticException if the total overflows an {@code int}
+     */
+    public static int sum(int[] amounts) {
+        return sum(amounts, 0, amounts.length);
+    }
+
+    /**
+     * Sums the amounts in part of an array.
+     * <p>
+     * The total is accumulated in a {@code long}, thus only the final total must
+     * fit in an {@code int}. If it does not, the exception message gives the index
+     * at which the running total first left the range of an {@code int}.
+     *
+     * @param amounts  the amounts to sum, not null
+     * @param fromIndex  the index of the first element, inclusive
+     * @param toIndex  the index of the last element, exclusive
+     * @return the total, zero if the range is empty
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if the range is outside the array
+     * @throws ArithmeticException if the total overflows an {@code int}
+     */
+    public static int sum(int[] amounts, int fromIndex, int toIndex) {
+        checkRange(amounts, fromIndex, toIndex);
+        long total = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            total += amounts[i];
+        }
+        if (total != (int) total) {
+            throw new ArithmeticException("Sum overflows an int at index " + overflowIndex(amounts, fromIndex, toIndex));
+        }
+        return (int) total;
+    }
+
+    /**
+     * Finds the index at which a running total first leaves the range of an {@code int}.
+     *
+     * @param amounts  the amounts, not null
+     * @param fromIndex  the index of the first element, inclusive
+     * @param toIndex  the index of the last element, exclusive
+     * @return the index, {@code toIndex} if the total stays in range
+     */
+    private static int overflowIndex(int[] amounts, int fromIndex, int toIndex) {
+        long total = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            total += amounts[i];
+            if (total != (int) total) {
+                return i;
+            }
+        }
+        return toIndex;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the smallest amount in an array.
+     *
+     * @param amounts  the amounts to search, not null
+     * @return the smallest amount
+     * @throws NoSuchElementException if the array is empty
+     */
+    public static int min(int[] amounts) {
+        return min(amounts, 0, amounts.length);
+    }
+
+    /**
+     * Finds the smallest amount in part of an array.
+     *
+     * @param amounts  the amounts to search, not null
+     * @param fromIndex  the index of the first element, inclusive
+     * @param toIndex  the index of the last element, exclusive
+     * @return the smallest amount
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if the range is outside the array
+     * @throws NoSuchElementException if the range is empty
+     */
+    public static int min(int[] amounts, int fromIndex, int toIndex) {
+        checkNotEmpty(amounts, fromIndex, toIndex);
+        int min = amounts[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            min = Math.min(min, amounts[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Finds the largest amount in an array.
+     *
+     * @param amounts  the amounts to search, not null
+     * @return the largest amount
+     * @throws NoSuchElementException if the array is empty
+     */
+    public static int max(int[] amounts) {
+        return max(amounts, 0, amounts.length);
+    }
+
+    /**
+     * Finds the largest amount in part of an array.
+     *
+     * @param amounts  the amounts to search, not null
+     * @param fromIndex  the index of the first element, inclusive
+     * @param toIndex  the index of the last element, exclusive
+     * @return the largest amount
+     * @throws IllegalArgumentException if {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException if the range is outside the array
+     * @throws NoSuchElementException if the range is empty
+     */
+    public static int max(int[] amounts, int fromIndex, int toIndex) {
+        checkNotEmpty(amounts, fromIndex, toIndex);
+        int max = amounts[fromIndex];
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            max = Math.max(max, amounts[i]);
+        }
+        return max;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Multiplies each amount in an array by a scalar.
+     * <p>
+     * The result array may be the same as the input array.
+     * If an overflow occurs, the elements before the failing index will have been written.
+     *
+     * @param amounts  the amounts to multiply, not null
+     * @param scalar  the scalar to multiply by, may be negative
+     * @param result  the array to write the results to, at least as long as the amounts, not null
+     * @throws IllegalArgumentException if the result array is too short
+     * @throws ArithmeticException if any result overflows an {@code int}
+     */
+    public static void multipliedBy(int[] amounts, int scalar, int[] result) {
+        Objects.requireNonNull(amounts, "amounts");
+        Objects.requireNonNull(result, "result");
+        if (result.length < amounts.length) {
+            throw new IllegalArgumentException("Result array is shorter than the amounts: " + result.length);
+        }
+        for (int i = 0; i < amounts.length; i++) {
+            long product = (long) amounts[i] * scalar;
+            if (product != (int) product) {
+                throw new ArithmeticException("Multiplication overflows an int at index " + i);
+            }
+            result[i] = (int) product;
+        }
+    }
+
+    /**
+     * Converts each amount in an array to a smaller unit.
+     * <p>
+     * Only exact conversions are supported. Weeks, days, hours and minutes can be
+     * converted to any smaller unit in that list or to seconds, with days treated as
+     * 24 hours. Converting to the same unit copies the amounts.
+     * The result array may be the same as the input array.
+     * If an overflow occurs, the elements before the failing index will have been written.
+     *
+     * @param amounts  the amounts to convert, not null
+     * @param fromUnit  the unit of the amounts, not null
+     * @param toUnit  the unit to convert to, not null
+     * @param result  the array to write the results to, at least as long as the amounts, not null
+     * @throws DateTimeException if the conversion is not supported
+     * @throws IllegalArgumentException if the result array is too short
+     * @throws ArithmeticException if any result overflows an {@code int}
+     */
+    public static void convert(int[] amounts, TemporalUnit fromUnit, TemporalUnit toUnit, int[] result) {
+        multipliedBy(amounts, AbstractSimpleAmount.conversionFactor(fromUnit, toUnit), result);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void checkRange(int[] amounts, int fromIndex, int toIndex) {
+        Objects.requireNonNull(amounts, "amounts");
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > amounts.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    private static void checkNotEmpty(int[] amounts, int fromIndex, int toIndex) {
+        checkRange(amounts, fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            throw new NoSuchElementException("No amounts in range");
+        }
+    }
+
+}
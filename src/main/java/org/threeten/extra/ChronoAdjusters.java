@@ -31,19 +31,69 @@
  */
 package org.threeten.extra;
 
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+
+import org.threeten.bp.LocalDate;
 import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.HijrahChronology;
 import org.threeten.bp.chrono.JapaneseChronology;
 import org.threeten.bp.chrono.MinguoChronology;
 import org.threeten.bp.chrono.ThaiBuddhistChronology;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.extra.chrono.CopticChronology;
+import org.threeten.extra.chrono.PersianChronology;
 
 /**
  * Adjusters that allow dates to be adjusted in terms of a calendar system.
+ * <p>
+ * When the wrapped adjuster is one of the month and year adjusters from {@link TemporalAdjusters},
+ * such as {@code firstDayOfMonth()} or {@code lastDayOfYear()}, a cached adjuster is returned.
+ * The cached adjuster calculates the resulting epoch-day directly from the fields of the
+ * date in the calendar system and applies it using a single {@code with(EPOCH_DAY, value)}.
  */
 public final class ChronoAdjusters {
 
+    /**
+     * The inner adjusters that have a cached equivalent, in the order of the cache arrays.
+     */
+    private static final TemporalAdjuster[] FUSABLE = {
+        TemporalAdjusters.firstDayOfMonth(),
+        TemporalAdjusters.lastDayOfMonth(),
+        TemporalAdjusters.firstDayOfNextMonth(),
+        TemporalAdjusters.firstDayOfYear(),
+        TemporalAdjusters.lastDayOfYear(),
+        TemporalAdjusters.firstDayOfNextYear(),
+    };
+    /**
+     * Cached adjusters for Minguo, whose months and years match ISO.
+     */
+    private static final TemporalAdjuster[] MINGUO = FusedAdjuster.all(FusedAdjuster.MINGUO, true, true);
+    /**
+     * Cached adjusters for Hijrah.
+     */
+    private static final TemporalAdjuster[] HIJRAH = FusedAdjuster.all(FusedAdjuster.HIJRAH, false, false);
+    /**
+     * Cached adjusters for Japanese, whose months match ISO but years may start at an era change.
+     */
+    private static final TemporalAdjuster[] JAPANESE = FusedAdjuster.all(FusedAdjuster.JAPANESE, true, false);
+    /**
+     * Cached adjusters for ThaiBuddhist, whose months and years match ISO.
+     */
+    private static final TemporalAdjuster[] THAI_BUDDHIST = FusedAdjuster.all(FusedAdjuster.THAI_BUDDHIST, true, true);
+    /**
+     * Cached adjusters for Coptic, calculated from the epoch-day without creating a date.
+     */
+    private static final TemporalAdjuster[] COPTIC = FusedAdjuster.all(FusedAdjuster.COPTIC, false, false);
+    /**
+     * Cached adjusters for Persian, calculated from the epoch-day without creating a date.
+     */
+    private static final TemporalAdjuster[] PERSIAN = FusedAdjuster.all(FusedAdjuster.PERSIAN, false, false);
+
     /**
      * Restricted constructor.
      */
@@ -73,6 +123,10 @@ public final class ChronoAdjusters {
      * @return the adjuster, not null
      */
     public static TemporalAdjuster minguo(final TemporalAdjuster adjuster) {
+        TemporalAdjuster cached = cached(MINGUO, adjuster);
+        if (cached != null) {
+            return cached;
+        }
         return new TemporalAdjuster() {
             @Override
             public Temporal adjustInto(Temporal temporal) {
@@ -105,6 +159,10 @@ public final class ChronoAdjusters {
      * @return the adjuster, not null
      */
     public static TemporalAdjuster hijrah(final TemporalAdjuster adjuster) {
+        TemporalAdjuster cached = cached(HIJRAH, adjuster);
+        if (cached != null) {
+            return cached;
+        }
         return new TemporalAdjuster() {
             @Override
             public Temporal adjustInto(Temporal temporal) {
@@ -137,6 +195,10 @@ public final class ChronoAdjusters {
      * @return the adjuster, not null
      */
     public static TemporalAdjuster japanese(final TemporalAdjuster adjuster) {
+        TemporalAdjuster cached = cached(JAPANESE, adjuster);
+        if (cached != null) {
+            return cached;
+        }
         return new TemporalAdjuster() {
             @Override
             public Temporal adjustInto(Temporal temporal) {
@@ -169,6 +231,10 @@ public final class ChronoAdjusters {
      * @return the adjuster, not null
      */
     public static TemporalAdjuster thaiBuddhist(final TemporalAdjuster adjuster) {
+        TemporalAdjuster cached = cached(THAI_BUDDHIST, adjuster);
+        if (cached != null) {
+            return cached;
+        }
         return new TemporalAdjuster() {
             @Override
             public Temporal adjustInto(Temporal temporal) {
@@ -179,4 +245,200 @@ public final class ChronoAdjusters {
         };
     }
 
+    /**
+     * Convenience wrapper allowing a date to be easily adjusted in the Coptic calendar system.
+     * <p>
+     * This allows the specified adjuster to be run in terms of a Coptic date.
+     * This would be used as follows:
+     * <pre>
+     *  date = date.with(coptic(temporal -> temporal.plus(1, MONTHS)));
+     * </pre>
+     * The month and year adjusters from {@code TemporalAdjusters}, such as
+     * {@code lastDayOfMonth()}, are calculated from the epoch-day without
+     * creating a {@code CopticDate}.
+     * 
+     * @param adjuster  the adjuster to run in the Coptic calendar system
+     * @return the adjuster, not null
+     */
+    public static TemporalAdjuster coptic(final TemporalAdjuster adjuster) {
+        TemporalAdjuster cached = cached(COPTIC, adjuster);
+        if (cached != null) {
+            return cached;
+        }
+        return new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                ChronoLocalDate<?> baseDate = CopticChronology.INSTANCE.date(temporal);
+                ChronoLocalDate<?> adjustedDate = (ChronoLocalDate<?>) adjuster.adjustInto(baseDate);
+                return temporal.with(adjustedDate);
+            }
+        };
+    }
+
+    /**
+     * Convenience wrapper allowing a date to be easily adjusted in the Persian calendar system.
+     * <p>
+     * This allows the specified adjuster to be run in terms of a Persian date.
+     * This would be used as follows:
+     * <pre>
+     *  date = date.with(persian(temporal -> temporal.plus(1, MONTHS)));
+     * </pre>
+     * The month and year adjusters from {@code TemporalAdjusters}, such as
+     * {@code lastDayOfMonth()}, are calculated from the epoch-day without
+     * creating a {@code PersianDate}.
+     * 
+     * @param adjuster  the adjuster to run in the Persian calendar system
+     * @return the adjuster, not null
+     */
+    public static TemporalAdjuster persian(final TemporalAdjuster adjuster) {
+        TemporalAdjuster cached = cached(PERSIAN, adjuster);
+        if (cached != null) {
+            return cached;
+        }
+        return new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                ChronoLocalDate<?> baseDate = PersianChronology.INSTANCE.date(temporal);
+                ChronoLocalDate<?> adjustedDate = (ChronoLocalDate<?>) adjuster.adjustInto(baseDate);
+                return temporal.with(adjustedDate);
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the cached adjuster equivalent to the specified adjuster.
+     *
+     * @param cache  the cached adjusters for the calendar system, not null
+     * @param adjuster  the adjuster to find
+     * @return the cached adjuster, null if none
+     */
+    private static TemporalAdjuster cached(TemporalAdjuster[] cache, TemporalAdjuster adjuster) {
+        for (int i = 0; i < FUSABLE.length; i++) {
+            if (FUSABLE[i] == adjuster) {
+                return cache[i];
+            }
+        }
+        return null;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An adjuster to a month or year boundary in a calendar system.
+     * <p>
+     * The result is calculated from the day-of-month or day-of-year and the
+     * length of the month or year, without running the equivalent adjuster
+     * against a date in the calendar system and converting back.
+     */
+    private static final class FusedAdjuster implements TemporalAdjuster {
+        private static final int FIRST_DAY_OF_MONTH = 0;
+        private static final int LAST_DAY_OF_MONTH = 1;
+        private static final int FIRST_DAY_OF_NEXT_MONTH = 2;
+        private static final int FIRST_DAY_OF_YEAR = 3;
+        private static final int LAST_DAY_OF_YEAR = 4;
+        private static final int FIRST_DAY_OF_NEXT_YEAR = 5;
+        private static final int MINGUO = 0;
+        private static final int HIJRAH = 1;
+        private static final int JAPANESE = 2;
+        private static final int THAI_BUDDHIST = 3;
+        private static final int COPTIC = 4;
+        private static final int PERSIAN = 5;
+
+        /** The calendar system, not held directly so that the chronology is only loaded when used. */
+        private final int calendar;
+        /** Whether the months and years of the calendar system match ISO for this adjuster. */
+        private final boolean iso;
+        /** The type of adjustment. */
+        private final int type;
+
+        static TemporalAdjuster[] all(int calendar, boolean isoMonths, boolean isoYears) {
+            TemporalAdjuster[] adjusters = new TemporalAdjuster[FUSABLE.length];
+            for (int i = 0; i < adjusters.length; i++) {
+                adjusters[i] = new FusedAdjuster(calendar, i < FIRST_DAY_OF_YEAR ? isoMonths : isoYears, i);
+            }
+            return adjusters;
+        }
+
+        private FusedAdjuster(int calendar, boolean iso, int type) {
+            this.calendar = calendar;
+            this.iso = iso;
+            this.type = type;
+        }
+
+        @Override
+        public Temporal adjustInto(Temporal temporal) {
+            if (calendar >= COPTIC) {
+                return temporal.with(EPOCH_DAY, adjustPacked(temporal.getLong(EPOCH_DAY)));
+            }
+            ChronoLocalDate<?> date = (iso ? LocalDate.from(temporal) : chronology().date(temporal));
+            long epochDay = date.toEpochDay();
+            switch (type) {
+                case FIRST_DAY_OF_MONTH:
+                    epochDay -= date.get(DAY_OF_MONTH) - 1;
+                    break;
+                case LAST_DAY_OF_MONTH:
+                    epochDay += date.lengthOfMonth() - date.get(DAY_OF_MONTH);
+                    break;
+                case FIRST_DAY_OF_NEXT_MONTH:
+                    epochDay += date.lengthOfMonth() - date.get(DAY_OF_MONTH) + 1;
+                    break;
+                case FIRST_DAY_OF_YEAR:
+                    epochDay -= date.get(DAY_OF_YEAR) - 1;
+                    break;
+                case LAST_DAY_OF_YEAR:
+                    epochDay += date.lengthOfYear() - date.get(DAY_OF_YEAR);
+                    break;
+                default:
+                    epochDay += date.lengthOfYear() - date.get(DAY_OF_YEAR) + 1;
+                    break;
+            }
+            return temporal.with(EPOCH_DAY, epochDay);
+        }
+
+        /**
+         * Adjusts an epoch-day using the packed date arithmetic of the Coptic or Persian calendar.
+         *
+         * @param epochDay  the epoch-day to adjust
+         * @return the adjusted epoch-day
+         */
+        private long adjustPacked(long epochDay) {
+            boolean coptic = (calendar == COPTIC);
+            int packed = (coptic ? CopticChronology.packedOfEpochDay(epochDay) : PersianChronology.packedOfEpochDay(epochDay));
+            int day = (coptic ? CopticChronology.packedDay(packed) : PersianChronology.packedDay(packed));
+            switch (type) {
+                case FIRST_DAY_OF_MONTH:
+                    return epochDay - (day - 1);
+                case LAST_DAY_OF_MONTH:
+                case FIRST_DAY_OF_NEXT_MONTH: {
+                    int length = (coptic ? CopticChronology.packedLengthOfMonth(packed) : PersianChronology.packedLengthOfMonth(packed));
+                    return epochDay + length - day + (type == FIRST_DAY_OF_NEXT_MONTH ? 1 : 0);
+                }
+                case FIRST_DAY_OF_YEAR: {
+                    int year = (coptic ? CopticChronology.packedYear(packed) : PersianChronology.packedYear(packed));
+                    return (coptic ?
+                            CopticChronology.packedToEpochDay(CopticChronology.pack(year, 1, 1)) :
+                            PersianChronology.packedToEpochDay(PersianChronology.pack(year, 1, 1)));
+                }
+                default: {
+                    // the end of the year is found from the last month, as the next year may be unsupported
+                    int year = (coptic ? CopticChronology.packedYear(packed) : PersianChronology.packedYear(packed));
+                    int lastMonth = (coptic ? CopticChronology.pack(year, 13, 1) : PersianChronology.pack(year, 12, 1));
+                    long end = (coptic ?
+                            CopticChronology.packedToEpochDay(lastMonth) + CopticChronology.packedLengthOfMonth(lastMonth) :
+                            PersianChronology.packedToEpochDay(lastMonth) + PersianChronology.packedLengthOfMonth(lastMonth));
+                    return (type == LAST_DAY_OF_YEAR ? end - 1 : end);
+                }
+            }
+        }
+
+        private Chronology chronology() {
+            switch (calendar) {
+                case MINGUO: return MinguoChronology.INSTANCE;
+                case HIJRAH: return HijrahChronology.INSTANCE;
+                case JAPANESE: return JapaneseChronology.INSTANCE;
+                default: return ThaiBuddhistChronology.INSTANCE;
+            }
+        }
+    }
+
 }
@@ -39,9 +39,12 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.MonthDay;
+import org.threeten.bp.OffsetDateTime;
 import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAccessor;
@@ -325,6 +328,7 @@ public final class DayOfMonth
      * <p>
      * The adjustment is equivalent to using {@link Temporal#with(TemporalField, long)}
      * passing {@link ChronoField#DAY_OF_MONTH} as the field.
+     * The common ISO date-time classes are adjusted directly using {@code withDayOfMonth}.
      * <p>
      * In most cases, it is clearer to reverse the calling pattern by using
      * {@link Temporal#with(TemporalAdjuster)}:
@@ -343,6 +347,15 @@ public final class DayOfMonth
      */
     @Override
     public Temporal adjustInto(Temporal temporal) {
+        if (temporal instanceof LocalDate) {
+            return ((LocalDate) temporal).withDayOfMonth(dayOfMonth);
+        } else if (temporal instanceof LocalDateTime) {
+            return ((LocalDateTime) temporal).withDayOfMonth(dayOfMonth);
+        } else if (temporal instanceof ZonedDateTime) {
+            return ((ZonedDateTime) temporal).withDayOfMonth(dayOfMonth);
+        } else if (temporal instanceof OffsetDateTime) {
+            return ((OffsetDateTime) temporal).withDayOfMonth(dayOfMonth);
+        }
         return temporal.with(DAY_OF_MONTH, getValue());
     }
 
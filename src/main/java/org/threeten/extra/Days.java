@@ -32,9 +32,17 @@
 package org.threeten.extra;
 
 import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +63,10 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Days> CACHE = new AtomicReferenceArray<Days>(CACHE_SIZE);
 
     /**
      * The number of days.
@@ -71,9 +83,72 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
         if (days == 0) {
             return ZERO;
         }
+        int index = days - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Days result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Days(days));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Days(days);
     }
 
+    /**
+     * Obtains an instance of {@code Days} consisting of the number of days between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete days are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDate},
+     * {@code LocalDateTime} or {@code Instant}.
+     * Other temporals use {@code DAYS.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of days between the start and end, not null
+     * @throws DateTimeException if the days cannot be calculated
+     * @throws ArithmeticException if the number of days exceeds an {@code int}
+     */
+    public static Days between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(DAYS, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Days} from a text string such as {@code P5D}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PnD}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -P5D} and {@code P-5D} are both minus five days.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of days, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Days parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Days} from part of a text string such as {@code P5D}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of days, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Days parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "P", 'D', "Days"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of days.
@@ -156,14 +231,45 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
 
     //-----------------------------------------------------------------------
     /**
-     * Returns a string representation of the number of days.
-     * This will be in the format 'PnD' where n is the number of days.
+     * Converts this amount to the equivalent number of hours.
+     * <p>
+     * The amount is multiplied by 24.
+     * A day is treated as exactly 24 hours, ignoring daylight saving time.
+     * This instance is immutable and unaffected by this method call.
      *
-     * @return the number of days in ISO8601 string format
+     * @return the equivalent number of hours, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
      */
-    @Override
-    public String toString() {
-        return "P" + days + "D";
+    public Hours toHours() {
+        return Hours.of(toAmount(HOURS));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of minutes.
+     * <p>
+     * The amount is multiplied by 1,440.
+     * A day is treated as exactly 24 hours, ignoring daylight saving time.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @return the equivalent number of minutes, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    public Minutes toMinutes() {
+        return Minutes.of(toAmount(MINUTES));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of seconds.
+     * <p>
+     * The amount is multiplied by 86,400.
+     * A day is treated as exactly 24 hours, ignoring daylight saving time.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @return the equivalent number of seconds, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    public Seconds toSeconds() {
+        return Seconds.of(toAmount(SECONDS));
     }
 
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * A cache of the display names of the constants of an enum, keyed by style and locale.
+ * <p>
+ * The first lookup for a style and locale builds a formatter for the field and
+ * formats every constant, storing the names in an array. Subsequent lookups
+ * are a map read and an array access.
+ * <p>
+ * Two threads looking up a new style and locale at the same time may both
+ * format the names, in which case the cache keeps one of the equal results.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ *
+ * @param <E> the type of enum
+ */
+final class DisplayNameCache<E extends Enum<E> & TemporalAccessor> {
+
+    /**
+     * The field formatted to obtain the names.
+     */
+    private final TemporalField field;
+    /**
+     * The enum constants, in ordinal order.
+     */
+    private final E[] values;
+    /**
+     * The names of the constants, keyed by style then locale.
+     */
+    private final EnumMap<TextStyle, ConcurrentMap<Locale, String[]>> names;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param field  the field formatted to obtain the names, not null
+     * @param values  the enum constants, in ordinal order, not null
+     */
+    DisplayNameCache(TemporalField field, E[] values) {
+        this.field = field;
+        this.values = values;
+        this.names = new EnumMap<TextStyle, ConcurrentMap<Locale, String[]>>(TextStyle.class);
+        for (TextStyle style : TextStyle.values()) {
+            names.put(style, new ConcurrentHashMap<Locale, String[]>(16, 0.75f, 2));
+        }
+    }
+
+    /**
+     * Gets the display name of a constant.
+     *
+     * @param value  the constant, not null
+     * @param style  the length of the text required, not null
+     * @param locale  the locale to use, not null
+     * @return the display name, not null
+     */
+    String get(E value, TextStyle style, Locale locale) {
+        Objects.requireNonNull(style, "style");
+        Objects.requireNonNull(locale, "locale");
+        ConcurrentMap<Locale, String[]> byLocale = names.get(style);
+        String[] localeNames = byLocale.get(locale);
+        if (localeNames == null) {
+            localeNames = format(style, locale);
+            String[] existing = byLocale.putIfAbsent(locale, localeNames);
+            if (existing != null) {
+                localeNames = existing;
+            }
+        }
+        return localeNames[value.ordinal()];
+    }
+
+    private String[] format(TextStyle style, Locale locale) {
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(field, style).toFormatter(locale);
+        String[] result = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = formatter.format(values[i]);
+        }
+        return result;
+    }
+
+}
@@ -32,9 +32,16 @@
 package org.threeten.extra;
 
 import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +62,10 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Hours> CACHE = new AtomicReferenceArray<Hours>(CACHE_SIZE);
 
     /**
      * The number of hours.
@@ -71,9 +82,71 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
         if (hours == 0) {
             return ZERO;
         }
+        int index = hours - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Hours result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Hours(hours));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Hours(hours);
     }
 
+    /**
+     * Obtains an instance of {@code Hours} consisting of the number of hours between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete hours are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDateTime} or {@code Instant}.
+     * Other temporals use {@code HOURS.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of hours between the start and end, not null
+     * @throws DateTimeException if the hours cannot be calculated
+     * @throws ArithmeticException if the number of hours exceeds an {@code int}
+     */
+    public static Hours between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(HOURS, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Hours} from a text string such as {@code PT5H}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PTnH}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -PT5H} and {@code PT-5H} are both minus five hours.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of hours, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Hours parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Hours} from part of a text string such as {@code PT5H}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of hours, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Hours parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "PT", 'H', "Hours"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of hours.
@@ -156,14 +229,29 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
 
     //-----------------------------------------------------------------------
     /**
-     * Returns a string representation of the number of hours.
-     * This will be in the format 'PTnH' where n is the number of hours.
+     * Converts this amount to the equivalent number of minutes.
+     * <p>
+     * The amount is multiplied by 60.
+     * This instance is immutable and unaffected by this method call.
      *
-     * @return the number of hours in ISO8601 string format
+     * @return the equivalent number of minutes, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
      */
-    @Override
-    public String toString() {
-        return "PT" + hours + "H";
+    public Minutes toMinutes() {
+        return Minutes.of(toAmount(MINUTES));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of seconds.
+     * <p>
+     * The amount is multiplied by 3,600.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @return the equivalent number of seconds, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    public Seconds toSeconds() {
+        return Seconds.of(toAmount(SECONDS));
     }
 
 }
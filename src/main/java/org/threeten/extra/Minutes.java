@@ -32,9 +32,15 @@
 package org.threeten.extra;
 
 import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +61,10 @@ public final class Minutes extends AbstractSimpleAmount<Minutes> implements Seri
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Minutes> CACHE = new AtomicReferenceArray<Minutes>(CACHE_SIZE);
 
     /**
      * The number of minutes.
@@ -71,9 +81,71 @@ public final class Minutes extends AbstractSimpleAmount<Minutes> implements Seri
         if (minutes == 0) {
             return ZERO;
         }
+        int index = minutes - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Minutes result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Minutes(minutes));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Minutes(minutes);
     }
 
+    /**
+     * Obtains an instance of {@code Minutes} consisting of the number of minutes between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete minutes are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDateTime} or {@code Instant}.
+     * Other temporals use {@code MINUTES.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of minutes between the start and end, not null
+     * @throws DateTimeException if the minutes cannot be calculated
+     * @throws ArithmeticException if the number of minutes exceeds an {@code int}
+     */
+    public static Minutes between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(MINUTES, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Minutes} from a text string such as {@code PT5M}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PTnM}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -PT5M} and {@code PT-5M} are both minus five minutes.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of minutes, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Minutes parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Minutes} from part of a text string such as {@code PT5M}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of minutes, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Minutes parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "PT", 'M', "Minutes"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of minutes.
@@ -156,14 +228,16 @@ public final class Minutes extends AbstractSimpleAmount<Minutes> implements Seri
 
     //-----------------------------------------------------------------------
     /**
-     * Returns a string representation of the number of minutes.
-     * This will be in the format 'PTnM' where n is the number of minutes.
+     * Converts this amount to the equivalent number of seconds.
+     * <p>
+     * The amount is multiplied by 60.
+     * This instance is immutable and unaffected by this method call.
      *
-     * @return the number of minutes in ISO8601 string format
+     * @return the equivalent number of seconds, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
      */
-    @Override
-    public String toString() {
-        return "PT" + minutes + "M";
+    public Seconds toSeconds() {
+        return Seconds.of(toAmount(SECONDS));
     }
 
 }
@@ -34,7 +34,12 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +60,10 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Months> CACHE = new AtomicReferenceArray<Months>(CACHE_SIZE);
 
     /**
      * The number of months.
@@ -71,9 +80,71 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
         if (months == 0) {
             return ZERO;
         }
+        int index = months - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Months result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Months(months));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Months(months);
     }
 
+    /**
+     * Obtains an instance of {@code Months} consisting of the number of months between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete months are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDate} or {@code LocalDateTime}.
+     * Other temporals use {@code MONTHS.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of months between the start and end, not null
+     * @throws DateTimeException if the months cannot be calculated
+     * @throws ArithmeticException if the number of months exceeds an {@code int}
+     */
+    public static Months between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(MONTHS, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Months} from a text string such as {@code P5M}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PnM}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -P5M} and {@code P-5M} are both minus five months.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of months, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Months parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Months} from part of a text string such as {@code P5M}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of months, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Months parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "P", 'M', "Months"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of months.
@@ -154,16 +225,4 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
         return minus(amount.getAmount());
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Returns a string representation of the number of months.
-     * This will be in the format 'PnM' where n is the number of months.
-     *
-     * @return the number of months in ISO8601 string format
-     */
-    @Override
-    public String toString() {
-        return "P" + months + "M";
-    }
-
 }
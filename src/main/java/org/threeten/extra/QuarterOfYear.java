@@ -38,10 +38,13 @@ import java.util.Locale;
 import java.util.Objects;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.IsoChronology;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.IsoFields;
@@ -96,6 +99,10 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * This has the numeric value of {@code 4}.
      */
     Q4;
+    /**
+     * The cache of display names.
+     */
+    private static final DisplayNameCache<QuarterOfYear> DISPLAY_NAMES = new DisplayNameCache<QuarterOfYear>(QUARTER_OF_YEAR, values());
 
     //-----------------------------------------------------------------------
     /**
@@ -144,6 +151,7 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * This factory converts the arbitrary temporal object to an instance of {@code DayOfWeek}.
      * <p>
      * The conversion extracts the {@link IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} field.
+     * The quarter of the common ISO date-time classes is derived directly from the month.
      * <p>
      * This method matches the signature of the functional interface {@link TemporalQuery}
      * allowing it to be used as a query via method reference, {@code QuarterOfYear::from}.
@@ -155,10 +163,22 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
     public static QuarterOfYear from(TemporalAccessor temporal) {
         if (temporal instanceof QuarterOfYear) {
             return (QuarterOfYear) temporal;
+        } else if (temporal instanceof LocalDate) {
+            return ofMonthValue(((LocalDate) temporal).getMonthValue());
+        } else if (temporal instanceof LocalDateTime) {
+            return ofMonthValue(((LocalDateTime) temporal).getMonthValue());
+        } else if (temporal instanceof ZonedDateTime) {
+            return ofMonthValue(((ZonedDateTime) temporal).getMonthValue());
+        } else if (temporal instanceof OffsetDateTime) {
+            return ofMonthValue(((OffsetDateTime) temporal).getMonthValue());
         }
         return of(temporal.get(QUARTER_OF_YEAR));
     }
 
+    private static QuarterOfYear ofMonthValue(int month) {
+        return of((month - 1) / 3 + 1);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the quarter-of-year {@code int} value.
@@ -180,13 +200,15 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * The parameters control the length of the returned text and the locale.
      * <p>
      * If no textual mapping is found then the {@link #getValue() numeric value} is returned.
+     * <p>
+     * The names of all the constants are cached for each style and locale on first use.
      *
      * @param style  the length of the text required, not null
      * @param locale  the locale to use, not null
      * @return the text value of the quarter-of-year, not null
      */
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(QUARTER_OF_YEAR, style).toFormatter(locale).format(this);
+        return DISPLAY_NAMES.get(this, style, locale);
     }
 
     //-----------------------------------------------------------------------
@@ -412,6 +434,7 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * <p>
      * The adjustment is equivalent to using {@link Temporal#with(TemporalField, long)}
      * passing {@link IsoFields#QUARTER_OF_YEAR} as the field.
+     * The common ISO date-time classes are adjusted directly by changing the month.
      * <p>
      * In most cases, it is clearer to reverse the calling pattern by using
      * {@link Temporal#with(TemporalAdjuster)}:
@@ -430,10 +453,33 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      */
     @Override
     public Temporal adjustInto(Temporal temporal) {
+        if (temporal instanceof LocalDate) {
+            LocalDate date = (LocalDate) temporal;
+            return date.withMonth(adjustMonth(date.getMonthValue()));
+        } else if (temporal instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporal;
+            return dateTime.withMonth(adjustMonth(dateTime.getMonthValue()));
+        } else if (temporal instanceof ZonedDateTime) {
+            ZonedDateTime dateTime = (ZonedDateTime) temporal;
+            return dateTime.withMonth(adjustMonth(dateTime.getMonthValue()));
+        } else if (temporal instanceof OffsetDateTime) {
+            OffsetDateTime dateTime = (OffsetDateTime) temporal;
+            return dateTime.withMonth(adjustMonth(dateTime.getMonthValue()));
+        }
         if (Chronology.from(temporal).equals(IsoChronology.INSTANCE) == false) {
             throw new DateTimeException("Adjustment only supported on ISO date-time");
         }
         return temporal.with(QUARTER_OF_YEAR, getValue());
     }
 
+    /**
+     * Moves a month-of-year into this quarter, keeping its position within the quarter.
+     *
+     * @param month  the month-of-year to adjust, from 1 to 12
+     * @return the adjusted month-of-year, from 1 to 12
+     */
+    private int adjustMonth(int month) {
+        return month + (ordinal() - (month - 1) / 3) * 3;
+    }
+
 }
@@ -34,7 +34,12 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +60,10 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Seconds> CACHE = new AtomicReferenceArray<Seconds>(CACHE_SIZE);
 
     /**
      * The number of seconds.
@@ -71,9 +80,71 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
         if (seconds == 0) {
             return ZERO;
         }
+        int index = seconds - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Seconds result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Seconds(seconds));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Seconds(seconds);
     }
 
+    /**
+     * Obtains an instance of {@code Seconds} consisting of the number of seconds between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete seconds are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDateTime} or {@code Instant}.
+     * Other temporals use {@code SECONDS.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of seconds between the start and end, not null
+     * @throws DateTimeException if the seconds cannot be calculated
+     * @throws ArithmeticException if the number of seconds exceeds an {@code int}
+     */
+    public static Seconds between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(SECONDS, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Seconds} from a text string such as {@code PT5S}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PTnS}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -PT5S} and {@code PT-5S} are both minus five seconds.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of seconds, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Seconds parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Seconds} from part of a text string such as {@code PT5S}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of seconds, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Seconds parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "PT", 'S', "Seconds"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of seconds.
@@ -154,16 +225,4 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
         return minus(amount.getAmount());
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Returns a string representation of the number of seconds.
-     * This will be in the format 'PTnS' where n is the number of seconds.
-     *
-     * @return the number of seconds in ISO8601 string format
-     */
-    @Override
-    public String toString() {
-        return "PT" + seconds + "S";
-    }
-
 }
@@ -31,10 +31,19 @@
  */
 package org.threeten.extra;
 
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +64,10 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Weeks> CACHE = new AtomicReferenceArray<Weeks>(CACHE_SIZE);
 
     /**
      * The number of weeks.
@@ -71,9 +84,71 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
         if (weeks == 0) {
             return ZERO;
         }
+        int index = weeks - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Weeks result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Weeks(weeks));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Weeks(weeks);
     }
 
+    /**
+     * Obtains an instance of {@code Weeks} consisting of the number of weeks between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete weeks are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDate} or {@code LocalDateTime}.
+     * Other temporals use {@code WEEKS.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of weeks between the start and end, not null
+     * @throws DateTimeException if the weeks cannot be calculated
+     * @throws ArithmeticException if the number of weeks exceeds an {@code int}
+     */
+    public static Weeks between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(WEEKS, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Weeks} from a text string such as {@code P5W}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PnW}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -P5W} and {@code P-5W} are both minus five weeks.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of weeks, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Weeks parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Weeks} from part of a text string such as {@code P5W}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of weeks, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Weeks parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "P", 'W', "Weeks"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of weeks.
@@ -156,14 +231,58 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
 
     //-----------------------------------------------------------------------
     /**
-     * Returns a string representation of the number of weeks.
-     * This will be in the format 'PnW' where n is the number of weeks.
+     * Converts this amount to the equivalent number of days.
+     * <p>
+     * The amount is multiplied by 7.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @return the equivalent number of days, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    public Days toDays() {
+        return Days.of(toAmount(DAYS));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of hours.
+     * <p>
+     * The amount is multiplied by 168.
+     * A day is treated as exactly 24 hours, ignoring daylight saving time.
+     * This instance is immutable and unaffected by this method call.
      *
-     * @return the number of weeks in ISO8601 string format
+     * @return the equivalent number of hours, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
      */
-    @Override
-    public String toString() {
-        return "P" + weeks + "W";
+    public Hours toHours() {
+        return Hours.of(toAmount(HOURS));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of minutes.
+     * <p>
+     * The amount is multiplied by 10,080.
+     * A day is treated as exactly 24 hours, ignoring daylight saving time.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @return the equivalent number of minutes, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    public Minutes toMinutes() {
+        return Minutes.of(toAmount(MINUTES));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of seconds.
+     * <p>
+     * The amount is multiplied by 604,800.
+     * A day is treated as exactly 24 hours, ignoring daylight saving time.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @return the equivalent number of seconds, not null
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    public Seconds toSeconds() {
+        return Seconds.of(toAmount(SECONDS));
     }
 
 }
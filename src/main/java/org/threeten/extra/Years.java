@@ -34,7 +34,12 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.YEARS;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -55,6 +60,10 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
      * A serialization identifier for this class.
      */
     private static final long serialVersionUID = -8903767091325669093L;
+    /**
+     * Cache of instances from -256 to 1024.
+     */
+    private static final AtomicReferenceArray<Years> CACHE = new AtomicReferenceArray<Years>(CACHE_SIZE);
 
     /**
      * The number of years.
@@ -71,9 +80,71 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
         if (years == 0) {
             return ZERO;
         }
+        int index = years - CACHE_MIN;
+        if (index >= 0 && index < CACHE_SIZE) {
+            Years result = CACHE.get(index);
+            if (result == null) {
+                CACHE.compareAndSet(index, null, new Years(years));
+                result = CACHE.get(index);
+            }
+            return result;
+        }
         return new Years(years);
     }
 
+    /**
+     * Obtains an instance of {@code Years} consisting of the number of years between two temporals.
+     * <p>
+     * The start is included, but the end is not, and only complete years are counted.
+     * The result is negative if the end is before the start.
+     * The amount is calculated directly when both are of type {@code LocalDate} or {@code LocalDateTime}.
+     * Other temporals use {@code YEARS.between(startInclusive, endExclusive)}.
+     *
+     * @param startInclusive  the start, inclusive, not null
+     * @param endExclusive  the end, exclusive, not null
+     * @return the number of years between the start and end, not null
+     * @throws DateTimeException if the years cannot be calculated
+     * @throws ArithmeticException if the number of years exceeds an {@code int}
+     */
+    public static Years between(Temporal startInclusive, Temporal endExclusive) {
+        return of(between(YEARS, startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Years} from a text string such as {@code P5Y}.
+     * <p>
+     * This parses the format produced by {@link #toString()}, which is based on the
+     * ISO-8601 period format {@code PnY}. The letters are matched ignoring case.
+     * A plus or minus sign may appear before the 'P' and before the number,
+     * thus {@code -P5Y} and {@code P-5Y} are both minus five years.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed number of years, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Years parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Years} from part of a text string such as {@code P5Y}.
+     * <p>
+     * This parses the text from the start index to the end index as per {@link #parse(CharSequence)}.
+     * Any error index is relative to the start of the whole text.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @return the parsed number of years, not null
+     * @throws IndexOutOfBoundsException if the start or end is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Years parse(CharSequence text, int start, int end) {
+        return of(parseAmount(text, start, end, "P", 'Y', "Years"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of years.
@@ -154,16 +225,4 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
         return minus(amount.getAmount());
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Returns a string representation of the number of years.
-     * This will be in the format 'PnY' where n is the number of years.
-     *
-     * @return the number of years in ISO8601 string format
-     */
-    @Override
-    public String toString() {
-        return "P" + years + "Y";
-    }
-
 }
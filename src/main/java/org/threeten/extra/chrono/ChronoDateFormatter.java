@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.format.DateTimeParseException;
+
+/**
+ * Formatter and parser for Coptic and Persian dates using a simple pattern.
+ * <p>
+ * This is a specialized alternative to {@code DateTimeFormatter} for the common patterns
+ * used with these calendar systems. The pattern is compiled once, after which formatting
+ * writes the fields of the packed date directly to the output and parsing reads the
+ * year, month and day directly from the text. No intermediate field maps or resolver
+ * objects are created.
+ * <p>
+ * The following pattern letters are supported:
+ * <pre>
+ *  Symbol  Meaning            Examples
+ *  ------  -------            --------
+ *   G      era                AM; BEFORE_AM
+ *   u      proleptic-year     1727; -12
+ *   y      year-of-era        1727; 13
+ *   M      month-of-year      7; 07; Paremhat
+ *   d      day-of-month       5; 05
+ *   '      escape for text
+ *   ''     single quote
+ * </pre>
+ * For the numeric fields, the number of letters is the minimum width, padded with zeroes.
+ * When parsing, the year is read up to the next non-digit, unless immediately followed
+ * by the month or day, in which case at most the minimum width is read.
+ * Three or more 'M' letters select the month name. Any other letter is rejected,
+ * while any other character is output as is.
+ * <p>
+ * The month names default to the English transliterations. No localized names are
+ * held by this library, thus other names can be supplied using {@link #withMonthNames(String...)}.
+ * Month names and eras are parsed case insensitively.
+ * <p>
+ * Formatting accepts any {@code Appendable}, including {@code StringBuilder} and
+ * {@code java.nio.CharBuffer}, so that callers can write to a reusable buffer.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <D> the type of date
+ */
+public final class ChronoDateFormatter<D extends ChronoLocalDate<D>> {
+
+    /**
+     * The English Coptic month names.
+     */
+    private static final String[] COPTIC_MONTHS = {
+        "Thout", "Paopi", "Hathor", "Koiak", "Tobi", "Meshir", "Paremhat",
+        "Parmouti", "Pashons", "Paoni", "Epip", "Mesori", "Pi Kogi Enavot",
+    };
+    /**
+     * The English Persian month names.
+     */
+    private static final String[] PERSIAN_MONTHS = {
+        "Farvardin", "Ordibehesht", "Khordad", "Tir", "Mordad", "Shahrivar",
+        "Mehr", "Aban", "Azar", "Dey", "Bahman", "Esfand",
+    };
+    /**
+     * The era names, indexed by era value.
+     */
+    private static final String[] ERAS = {"BEFORE_AM", "AM"};
+    /**
+     * The operation for literal text.
+     */
+    private static final int LITERAL = 0;
+    /**
+     * The operation for the era.
+     */
+    private static final int ERA = 1;
+    /**
+     * The operation for the proleptic-year.
+     */
+    private static final int YEAR = 2;
+    /**
+     * The operation for the year-of-era.
+     */
+    private static final int YEAR_OF_ERA = 3;
+    /**
+     * The operation for the numeric month.
+     */
+    private static final int MONTH = 4;
+    /**
+     * The operation for the month name.
+     */
+    private static final int MONTH_TEXT = 5;
+    /**
+     * The operation for the day-of-month.
+     */
+    private static final int DAY = 6;
+    /**
+     * The maximum number of digits parsed for a numeric field.
+     */
+    private static final int MAX_DIGITS = 9;
+
+    /**
+     * The chronology, either Coptic or Persian.
+     */
+    private final Chronology chrono;
+    /**
+     * The original pattern.
+     */
+    private final String pattern;
+    /**
+     * The compiled operations, the type in the top bits and the width in the bottom 8 bits.
+     */
+    private final int[] ops;
+    /**
+     * The literal text of each operation, null if not a literal.
+     */
+    private final String[] literals;
+    /**
+     * The month names.
+     */
+    private final String[] monthNames;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a formatter for Coptic dates using the specified pattern.
+     *
+     * @param pattern  the pattern to use, not null
+     * @return the formatter, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static ChronoDateFormatter<CopticDate> coptic(String pattern) {
+        return new ChronoDateFormatter<CopticDate>(CopticChronology.INSTANCE, pattern, COPTIC_MONTHS);
+    }
+
+    /**
+     * Creates a formatter for Persian dates using the specified pattern.
+     *
+     * @param pattern  the pattern to use, not null
+     * @return the formatter, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static ChronoDateFormatter<PersianDate> persian(String pattern) {
+        return new ChronoDateFormatter<PersianDate>(PersianChronology.INSTANCE, pattern, PERSIAN_MONTHS);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance, compiling the pattern.
+     *
+     * @param chrono  the chronology, not null
+     * @param pattern  the pattern, not null
+     * @param monthNames  the month names, not null
+     */
+    private ChronoDateFormatter(Chronology chrono, String pattern, String[] monthNames) {
+        Objects.requireNonNull(pattern, "pattern");
+        this.chrono = chrono;
+        this.pattern = pattern;
+        this.monthNames = monthNames;
+        List<Integer> opList = new ArrayList<Integer>();
+        List<String> literalList = new ArrayList<String>();
+        int pos = 0;
+        int length = pattern.length();
+        while (pos < length) {
+            char ch = pattern.charAt(pos);
+            if ((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z')) {
+                int start = pos;
+                while (pos < length && pattern.charAt(pos) == ch) {
+                    pos++;
+                }
+                int count = Math.min(pos - start, 255);
+                int type;
+                switch (ch) {
+                    case 'G': type = ERA; break;
+                    case 'u': type = YEAR; break;
+                    case 'y': type = YEAR_OF_ERA; break;
+                    case 'M': type = (count >= 3 ? MONTH_TEXT : MONTH); break;
+                    case 'd':
+                        if (count > 2) {
+                            throw new IllegalArgumentException("Too many pattern letters: " + ch);
+                        }
+                        type = DAY;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported pattern letter: " + ch);
+                }
+                opList.add((type << 8) | count);
+                literalList.add(null);
+            } else if (ch == '\'') {
+                StringBuilder buf = new StringBuilder();
+                pos++;
+                while (true) {
+                    if (pos >= length) {
+                        throw new IllegalArgumentException("Pattern ends with an incomplete string literal: " + pattern);
+                    }
+                    char quoted = pattern.charAt(pos++);
+                    if (quoted == '\'') {
+                        if (pos < length && pattern.charAt(pos) == '\'') {
+                            buf.append('\'');
+                            pos++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        buf.append(quoted);
+                    }
+                }
+                if (buf.length() == 0) {
+                    buf.append('\'');
+                }
+                opList.add(LITERAL << 8);
+                literalList.add(buf.toString());
+            } else {
+                opList.add(LITERAL << 8);
+                literalList.add(String.valueOf(ch));
+                pos++;
+            }
+        }
+        this.ops = new int[opList.size()];
+        for (int i = 0; i < ops.length; i++) {
+            ops[i] = opList.get(i);
+        }
+        this.literals = literalList.toArray(new String[literalList.size()]);
+    }
+
+    /**
+     * Constructs a copy with different month names.
+     *
+     * @param base  the formatter to copy, not null
+     * @param monthNames  the month names, not null
+     */
+    private ChronoDateFormatter(ChronoDateFormatter<D> base, String[] monthNames) {
+        this.chrono = base.chrono;
+        this.pattern = base.pattern;
+        this.ops = base.ops;
+        this.literals = base.literals;
+        this.monthNames = monthNames;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of the dates handled by this formatter.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return chrono;
+    }
+
+    /**
+     * Returns a copy of this formatter with the specified month names.
+     * <p>
+     * This is used to supply localized names for the month name field.
+     * There must be one name for each month of the year, and none may be empty.
+     *
+     * @param names  the month names, starting with the first month, not null
+     * @return a formatter based on this formatter with the names, not null
+     * @throws IllegalArgumentException if the number of names is incorrect or a name is empty
+     */
+    public ChronoDateFormatter<D> withMonthNames(String... names) {
+        Objects.requireNonNull(names, "names");
+        if (names.length != this.monthNames.length) {
+            throw new IllegalArgumentException("Expected " + this.monthNames.length + " month names but found " + names.length);
+        }
+        String[] copy = names.clone();
+        for (String name : copy) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Month names must not be null or empty");
+            }
+        }
+        return new ChronoDateFormatter<D>(this, copy);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Formats a date using this formatter.
+     *
+     * @param date  the date to format, not null
+     * @return the formatted text, not null
+     * @throws ClassCastException if the date is not in the chronology of this formatter
+     */
+    public String format(D date) {
+        StringBuilder buf = new StringBuilder(16);
+        formatPackedTo(pack(date), buf);
+        return buf.toString();
+    }
+
+    /**
+     * Formats a date to an {@code Appendable} using this formatter.
+     *
+     * @param date  the date to format, not null
+     * @param appendable  the appendable to format to, not null
+     * @throws ClassCastException if the date is not in the chronology of this formatter
+     * @throws DateTimeException if an error occurs writing to the appendable
+     */
+    public void formatTo(D date, Appendable appendable) {
+        formatPackedTo(pack(date), appendable);
+    }
+
+    /**
+     * Formats a packed date to an {@code Appendable} using this formatter.
+     * <p>
+     * The value must have been packed by the chronology of this formatter.
+     * No objects are created when formatting to a {@code StringBuilder} or {@code CharBuffer}.
+     *
+     * @param packedDate  the packed date to format
+     * @param appendable  the appendable to format to, not null
+     * @throws DateTimeException if an error occurs writing to the appendable
+     */
+    public void formatPackedTo(int packedDate, Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        int year = PackedDates.year(packedDate);
+        try {
+            for (int i = 0; i < ops.length; i++) {
+                int width = ops[i] & 0xFF;
+                switch (ops[i] >>> 8) {
+                    case LITERAL:
+                        appendable.append(literals[i]);
+                        break;
+                    case ERA:
+                        appendable.append(ERAS[year >= 1 ? 1 : 0]);
+                        break;
+                    case YEAR:
+                        appendNumber(appendable, year, width);
+                        break;
+                    case YEAR_OF_ERA:
+                        appendNumber(appendable, year >= 1 ? year : 1 - year, width);
+                        break;
+                    case MONTH:
+                        appendNumber(appendable, PackedDates.month(packedDate), width);
+                        break;
+                    case MONTH_TEXT:
+                        appendable.append(monthNames[PackedDates.month(packedDate) - 1]);
+                        break;
+                    case DAY:
+                        appendNumber(appendable, PackedDates.day(packedDate), width);
+                        break;
+                }
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Appends a number without creating a string.
+     *
+     * @param appendable  the appendable, not null
+     * @param value  the value to append
+     * @param minWidth  the minimum width, padded with zeroes
+     * @throws IOException if an error occurs
+     */
+    private static void appendNumber(Appendable appendable, int value, int minWidth) throws IOException {
+        if (value < 0) {
+            appendable.append('-');
+            value = -value;  // packed years cannot overflow
+        }
+        int digits = 1;
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (int i = digits; i < minWidth; i++) {
+            appendable.append('0');
+        }
+        while (divisor > 0) {
+            appendable.append((char) ('0' + value / divisor));
+            value %= divisor;
+            divisor /= 10;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses text to a date using this formatter.
+     * <p>
+     * The whole of the text must be matched by the pattern, which must contain
+     * the year, month and day.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date, not null
+     * @throws DateTimeParseException if unable to parse the text
+     */
+    @SuppressWarnings("unchecked")
+    public D parse(CharSequence text) {
+        int packed = parsePacked(text);
+        if (chrono == CopticChronology.INSTANCE) {
+            return (D) CopticChronology.unpack(packed);
+        }
+        return (D) PersianChronology.unpack(packed);
+    }
+
+    /**
+     * Parses text to a packed date using this formatter.
+     * <p>
+     * This behaves as per {@link #parse(CharSequence)} without creating a date object.
+     * The result is packed as per the chronology of this formatter.
+     *
+     * @param text  the text to parse, not null
+     * @return the packed date
+     * @throws DateTimeParseException if unable to parse the text
+     */
+    public int parsePacked(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        int length = text.length();
+        int pos = 0;
+        int era = 1;
+        long year = Long.MIN_VALUE;
+        boolean yearOfEra = false;
+        int month = -1;
+        int day = -1;
+        for (int i = 0; i < ops.length; i++) {
+            int width = ops[i] & 0xFF;
+            switch (ops[i] >>> 8) {
+                case LITERAL: {
+                    String literal = literals[i];
+                    if (regionMatches(text, pos, literal, false) == false) {
+                        throw error(text, pos, "Expected '" + literal + "'");
+                    }
+                    pos += literal.length();
+                    break;
+                }
+                case ERA: {
+                    int found = matchText(text, pos, ERAS);
+                    if (found < 0) {
+                        throw error(text, pos, "Expected era");
+                    }
+                    era = found;
+                    pos += ERAS[found].length();
+                    break;
+                }
+                case YEAR:
+                case YEAR_OF_ERA: {
+                    boolean negative = false;
+                    if ((ops[i] >>> 8) == YEAR && pos < length && text.charAt(pos) == '-') {
+                        negative = true;
+                        pos++;
+                    }
+                    boolean adjacent = (i + 1 < ops.length &&
+                            ((ops[i + 1] >>> 8) == MONTH || (ops[i + 1] >>> 8) == DAY));
+                    int end = scanDigits(text, pos, adjacent ? width : MAX_DIGITS);
+                    if (end == pos) {
+                        throw error(text, pos, "Expected year");
+                    }
+                    long value = parseDigits(text, pos, end);
+                    year = (negative ? -value : value);
+                    yearOfEra = ((ops[i] >>> 8) == YEAR_OF_ERA);
+                    pos = end;
+                    break;
+                }
+                case MONTH:
+                case DAY: {
+                    int end = scanDigits(text, pos, 2);
+                    if (end - pos < width) {
+                        throw error(text, pos, (ops[i] >>> 8) == MONTH ? "Expected month" : "Expected day");
+                    }
+                    int value = (int) parseDigits(text, pos, end);
+                    if ((ops[i] >>> 8) == MONTH) {
+                        month = value;
+                    } else {
+                        day = value;
+                    }
+                    pos = end;
+                    break;
+                }
+                case MONTH_TEXT: {
+                    int found = matchText(text, pos, monthNames);
+                    if (found < 0) {
+                        throw error(text, pos, "Expected month name");
+                    }
+                    month = found + 1;
+                    pos += monthNames[found].length();
+                    break;
+                }
+            }
+        }
+        if (pos != length) {
+            throw error(text, pos, "Unparsed text found");
+        }
+        if (year == Long.MIN_VALUE || month < 0 || day < 0) {
+            throw error(text, 0, "Pattern must contain year, month and day to parse");
+        }
+        if (yearOfEra && era == 0) {
+            year = 1 - year;
+        }
+        try {
+            if (year < PackedDates.MIN_YEAR || year > PackedDates.MAX_YEAR) {
+                throw new DateTimeException("Invalid year: " + year);
+            }
+            if (chrono == CopticChronology.INSTANCE) {
+                return CopticChronology.pack((int) year, month, day);
+            }
+            return PersianChronology.pack((int) year, month, day);
+        } catch (DateTimeException ex) {
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed: " + ex.getMessage(), text, 0, ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static int scanDigits(CharSequence text, int pos, int maxDigits) {
+        int end = pos;
+        int limit = Math.min(text.length(), pos + maxDigits);
+        while (end < limit) {
+            char ch = text.charAt(end);
+            if (ch < '0' || ch > '9') {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    private static long parseDigits(CharSequence text, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int matchText(CharSequence text, int pos, String[] names) {
+        int found = -1;
+        for (int i = 0; i < names.length; i++) {
+            if (regionMatches(text, pos, names[i], true) &&
+                    (found < 0 || names[i].length() > names[found].length())) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    private static boolean regionMatches(CharSequence text, int pos, String str, boolean ignoreCase) {
+        int length = str.length();
+        if (pos + length > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char ch1 = text.charAt(pos + i);
+            char ch2 = str.charAt(i);
+            if (ch1 != ch2 && (ignoreCase == false ||
+                    Character.toUpperCase(ch1) != Character.toUpperCase(ch2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static DateTimeParseException error(CharSequence text, int pos, String message) {
+        return new DateTimeParseException("Text '" + text + "' could not be parsed at index " + pos + ": " + message, text, pos);
+    }
+
+    private int pack(D date) {
+        Objects.requireNonNull(date, "date");
+        if (date instanceof CopticDate && chrono == CopticChronology.INSTANCE) {
+            return ((CopticDate) date).toPacked();
+        }
+        if (date instanceof PersianDate && chrono == PersianChronology.INSTANCE) {
+            return ((PersianDate) date).toPacked();
+        }
+        throw new ClassCastException("Date must be in the " + chrono.getId() + " calendar system");
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this formatter as a string, using the chronology and pattern.
+     *
+     * @return the string form of this formatter, not null
+     */
+    @Override
+    public String toString() {
+        return chrono.getId() + "[" + pattern + "]";
+    }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An iterator over a {@link ChronoDateRange} of Coptic or Persian dates.
+ * <p>
+ * The iterator can be used in two ways. The standard {@link #next()} method
+ * returns each date as an object. Alternatively, {@link #advance()} moves to the
+ * next date without creating an object, after which the epoch-day and fields
+ * of the current date can be queried.
+ * <p>
+ * The year, month and day are maintained incrementally, rolling over the
+ * month and year as necessary. The length of the month is only looked up when
+ * the month changes, thus stepping by days does not perform the division
+ * required by {@code ofEpochDay}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ *
+ * @param <D> the type of date
+ */
+public final class ChronoDateIterator<D extends ChronoLocalDate<D>>
+        implements Iterator<D> {
+
+    /**
+     * The chronology, either Coptic or Persian.
+     */
+    private final Chronology chrono;
+    /**
+     * The packed end date, exclusive.
+     */
+    private final int endPacked;
+    /**
+     * The number of days to step, zero if stepping by months.
+     */
+    private final int stepDays;
+    /**
+     * The number of months to step, zero if stepping by days.
+     */
+    private final int stepMonths;
+    /**
+     * The number of months in a year.
+     */
+    private final int monthsInYear;
+    /**
+     * The day-of-month of the start date, used when stepping by months.
+     */
+    private final int startDay;
+    /**
+     * The year of the next date.
+     */
+    private int nextYear;
+    /**
+     * The month of the next date.
+     */
+    private int nextMonth;
+    /**
+     * The day of the next date.
+     */
+    private int nextDay;
+    /**
+     * The length of the month of the next date.
+     */
+    private int nextMonthLength;
+    /**
+     * The epoch-day of the next date.
+     */
+    private long nextEpochDay;
+    /**
+     * Whether the next date is within the range.
+     */
+    private boolean hasNext;
+    /**
+     * The year of the current date.
+     */
+    private int year;
+    /**
+     * The month of the current date.
+     */
+    private int month;
+    /**
+     * The day of the current date.
+     */
+    private int day;
+    /**
+     * The epoch-day of the current date.
+     */
+    private long epochDay;
+    /**
+     * Whether there is a current date.
+     */
+    private boolean started;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param chrono  the chronology, not null
+     * @param startPacked  the packed start date
+     * @param endPacked  the packed end date
+     * @param stepDays  the number of days to step, zero if stepping by months
+     * @param stepMonths  the number of months to step, zero if stepping by days
+     */
+    ChronoDateIterator(Chronology chrono, int startPacked, int endPacked, int stepDays, int stepMonths) {
+        this.chrono = chrono;
+        this.endPacked = endPacked;
+        this.stepDays = stepDays;
+        this.stepMonths = stepMonths;
+        this.monthsInYear = (chrono == CopticChronology.INSTANCE ? 13 : 12);
+        this.startDay = PackedDates.day(startPacked);
+        this.nextYear = PackedDates.year(startPacked);
+        this.nextMonth = PackedDates.month(startPacked);
+        this.nextDay = startDay;
+        this.nextMonthLength = lengthOfMonth(nextYear, nextMonth);
+        this.nextEpochDay = toEpochDay(startPacked);
+        this.hasNext = startPacked < endPacked;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    @Override
+    public D next() {
+        if (advance() == false) {
+            throw new NoSuchElementException();
+        }
+        return unpack(getPacked());
+    }
+
+    /**
+     * Moves to the next date in the range without creating a date object.
+     * <p>
+     * After this method returns true, the getters return the fields of the new current date.
+     *
+     * @return true if moved to the next date, false if the end of the range has been reached
+     */
+    public boolean advance() {
+        if (hasNext == false) {
+            return false;
+        }
+        year = nextYear;
+        month = nextMonth;
+        day = nextDay;
+        epochDay = nextEpochDay;
+        started = true;
+        if (stepMonths == 0) {
+            stepByDays();
+        } else {
+            stepByMonths();
+        }
+        return true;
+    }
+
+    private void stepByDays() {
+        long remaining = (long) nextDay + stepDays;
+        int y = nextYear;
+        int m = nextMonth;
+        int length = nextMonthLength;
+        while (remaining > length) {
+            remaining -= length;
+            if (++m > monthsInYear) {
+                m = 1;
+                y++;
+            }
+            if (PackedDates.packUnchecked(y, m, 1) >= endPacked) {
+                hasNext = false;
+                return;
+            }
+            length = lengthOfMonth(y, m);
+        }
+        nextYear = y;
+        nextMonth = m;
+        nextDay = (int) remaining;
+        nextMonthLength = length;
+        nextEpochDay += stepDays;
+        hasNext = PackedDates.packUnchecked(y, m, nextDay) < endPacked;
+    }
+
+    private void stepByMonths() {
+        long prolepticMonth = nextYear * (long) monthsInYear + (nextMonth - 1) + stepMonths;
+        long y = Jdk8Methods.floorDiv(prolepticMonth, monthsInYear);
+        if (y > PackedDates.year(endPacked)) {
+            hasNext = false;
+            return;
+        }
+        nextYear = (int) y;
+        nextMonth = Jdk8Methods.floorMod(prolepticMonth, monthsInYear) + 1;
+        nextMonthLength = lengthOfMonth(nextYear, nextMonth);
+        nextDay = Math.min(startDay, nextMonthLength);
+        int packed = PackedDates.packUnchecked(nextYear, nextMonth, nextDay);
+        hasNext = packed < endPacked;
+        if (hasNext) {
+            nextEpochDay = toEpochDay(packed);
+        }
+    }
+
+    /**
+     * Throws {@code UnsupportedOperationException} as the range is immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Range is immutable");
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the epoch-day of the current date.
+     *
+     * @return the epoch-day based on 1970-01-01 (ISO)
+     * @throws IllegalStateException if there is no current date
+     */
+    public long getEpochDay() {
+        checkStarted();
+        return epochDay;
+    }
+
+    /**
+     * Gets the proleptic-year of the current date.
+     *
+     * @return the proleptic-year
+     * @throws IllegalStateException if there is no current date
+     */
+    public int getYear() {
+        checkStarted();
+        return year;
+    }
+
+    /**
+     * Gets the month-of-year of the current date.
+     *
+     * @return the month-of-year
+     * @throws IllegalStateException if there is no current date
+     */
+    public int getMonth() {
+        checkStarted();
+        return month;
+    }
+
+    /**
+     * Gets the day-of-month of the current date.
+     *
+     * @return the day-of-month
+     * @throws IllegalStateException if there is no current date
+     */
+    public int getDayOfMonth() {
+        checkStarted();
+        return day;
+    }
+
+    /**
+     * Gets the current date in packed form.
+     * <p>
+     * The packed encoding is described by {@link CopticChronology#pack(int, int, int)}.
+     *
+     * @return the packed date
+     * @throws IllegalStateException if there is no current date
+     */
+    public int getPacked() {
+        checkStarted();
+        return PackedDates.packUnchecked(year, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+    private void checkStarted() {
+        if (started == false) {
+            throw new IllegalStateException("No current date, advance() must be called first");
+        }
+    }
+
+    private int lengthOfMonth(int y, int m) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return CopticChronology.packedLengthOfMonth(PackedDates.packUnchecked(y, m, 1));
+        }
+        return PersianCalendarTable.lengthOfMonth(y, m);
+    }
+
+    private long toEpochDay(int packed) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return CopticChronology.packedToEpochDay(packed);
+        }
+        return PersianChronology.packedToEpochDay(packed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private D unpack(int packedDate) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return (D) CopticChronology.unpack(packedDate);
+        }
+        return (D) PersianChronology.unpack(packedDate);
+    }
+
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.TemporalUnit;
+
+/**
+ * A range of Coptic or Persian dates visited by a fixed step.
+ * <p>
+ * The range contains the start date and each date reached by adding the step,
+ * up to but excluding the end date. The step is a positive number of days,
+ * weeks or months. When stepping by months, each date is the start date plus
+ * a multiple of the step, with the day-of-month reduced to the last valid day
+ * of the month if necessary, as per {@code plus(long, TemporalUnit)}.
+ * <p>
+ * The range is lazy. The dates are calculated by the {@link ChronoDateIterator}
+ * returned from {@link #iterator()}, which maintains the year, month and day
+ * incrementally rather than converting each epoch-day back to a date.
+ * <p>
+ * The range also supports random access. The {@link #size()} and {@link #get(long)}
+ * methods use index arithmetic on the epoch-day or proleptic-month, thus a range
+ * can be split into independent sub-ranges without visiting the dates.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <D> the type of date
+ */
+public final class ChronoDateRange<D extends ChronoLocalDate<D>>
+        implements Iterable<D> {
+
+    /**
+     * The chronology, either Coptic or Persian.
+     */
+    private final Chronology chrono;
+    /**
+     * The packed start date, inclusive.
+     */
+    private final int startPacked;
+    /**
+     * The packed end date, exclusive.
+     */
+    private final int endPacked;
+    /**
+     * The amount of the step.
+     */
+    private final int amount;
+    /**
+     * The unit of the step, DAYS, WEEKS or MONTHS.
+     */
+    private final ChronoUnit unit;
+    /**
+     * The number of dates in the range.
+     */
+    private final long size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a range of every day from one Coptic date to another.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the range, not null
+     * @throws IllegalArgumentException if the start is after the end
+     */
+    public static ChronoDateRange<CopticDate> coptic(CopticDate startInclusive, CopticDate endExclusive) {
+        return coptic(startInclusive, endExclusive, 1, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Obtains a range of Coptic dates stepping by the specified amount.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @param amount  the amount of the step, positive
+     * @param unit  the unit of the step, DAYS, WEEKS or MONTHS, not null
+     * @return the range, not null
+     * @throws IllegalArgumentException if the start is after the end or the amount is not positive
+     * @throws DateTimeException if the unit is not supported
+     */
+    public static ChronoDateRange<CopticDate> coptic(CopticDate startInclusive, CopticDate endExclusive, int amount, TemporalUnit unit) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        return new ChronoDateRange<CopticDate>(
+                CopticChronology.INSTANCE, startInclusive.toPacked(), endExclusive.toPacked(), amount, unit);
+    }
+
+    /**
+     * Obtains a range of every day from one Persian date to another.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the range, not null
+     * @throws IllegalArgumentException if the start is after the end
+     */
+    public static ChronoDateRange<PersianDate> persian(PersianDate startInclusive, PersianDate endExclusive) {
+        return persian(startInclusive, endExclusive, 1, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Obtains a range of Persian dates stepping by the specified amount.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @param amount  the amount of the step, positive
+     * @param unit  the unit of the step, DAYS, WEEKS or MONTHS, not null
+     * @return the range, not null
+     * @throws IllegalArgumentException if the start is after the end or the amount is not positive
+     * @throws DateTimeException if the unit is not supported
+     */
+    public static ChronoDateRange<PersianDate> persian(PersianDate startInclusive, PersianDate endExclusive, int amount, TemporalUnit unit) {
+        Objects.requireNonNull(startInclusive, "startInclusive");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        return new ChronoDateRange<PersianDate>(
+                PersianChronology.INSTANCE, startInclusive.toPacked(), endExclusive.toPacked(), amount, unit);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param chrono  the chronology, not null
+     * @param startPacked  the packed start date
+     * @param endPacked  the packed end date
+     * @param amount  the amount of the step
+     * @param unit  the unit of the step, not null
+     */
+    private ChronoDateRange(Chronology chrono, int startPacked, int endPacked, int amount, TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        if (unit != ChronoUnit.DAYS && unit != ChronoUnit.WEEKS && unit != ChronoUnit.MONTHS) {
+            throw new DateTimeException("Unsupported unit: " + unit.getName());
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Step amount must be positive: " + amount);
+        }
+        if (startPacked > endPacked) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        this.chrono = chrono;
+        this.startPacked = startPacked;
+        this.endPacked = endPacked;
+        this.amount = amount;
+        this.unit = (ChronoUnit) unit;
+        this.size = calculateSize();
+    }
+
+    private long calculateSize() {
+        if (unit == ChronoUnit.MONTHS) {
+            long total = prolepticMonth(endPacked) - prolepticMonth(startPacked);
+            long count = (total <= 0 ? 0 : (total - 1) / amount + 1);
+            if (total % amount == 0) {
+                int endYear = PackedDates.year(endPacked);
+                int endMonth = PackedDates.month(endPacked);
+                int lastDay = Math.min(PackedDates.day(startPacked), lengthOfMonth(endYear, endMonth));
+                if (lastDay < PackedDates.day(endPacked)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        long stepDays = stepDays();
+        return (toEpochDay(endPacked) - toEpochDay(startPacked) + stepDays - 1) / stepDays;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of the dates in this range.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return chrono;
+    }
+
+    /**
+     * Gets the start date, inclusive.
+     *
+     * @return the start date, not null
+     */
+    public D getStart() {
+        return unpack(startPacked);
+    }
+
+    /**
+     * Gets the end date, exclusive.
+     *
+     * @return the end date, not null
+     */
+    public D getEnd() {
+        return unpack(endPacked);
+    }
+
+    /**
+     * Checks if this range contains no dates.
+     *
+     * @return true if the start equals the end
+     */
+    public boolean isEmpty() {
+        return startPacked == endPacked;
+    }
+
+    /**
+     * Gets the number of dates in this range.
+     * <p>
+     * This is calculated from the start, end and step without visiting the dates.
+     *
+     * @return the number of dates, zero or greater
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the date at the specified index in this range.
+     * <p>
+     * The date at index zero is the start date. The date at index {@code n} is the
+     * start date plus {@code n} steps, calculated directly rather than by iteration.
+     *
+     * @param index  the index, from zero to {@code size() - 1}
+     * @return the date at the index, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public D get(long index) {
+        return unpack(getPacked(index));
+    }
+
+    /**
+     * Gets the date at the specified index in this range in packed form.
+     * <p>
+     * The packed encoding is described by {@link CopticChronology#pack(int, int, int)}.
+     *
+     * @param index  the index, from zero to {@code size() - 1}
+     * @return the packed date at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getPacked(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+        if (unit == ChronoUnit.MONTHS) {
+            int monthsInYear = monthsInYear();
+            long prolepticMonth = prolepticMonth(startPacked) + index * amount;
+            int y = (int) Jdk8Methods.floorDiv(prolepticMonth, monthsInYear);
+            int m = Jdk8Methods.floorMod(prolepticMonth, monthsInYear) + 1;
+            return PackedDates.packUnchecked(y, m, Math.min(PackedDates.day(startPacked), lengthOfMonth(y, m)));
+        }
+        long epochDay = toEpochDay(startPacked) + index * stepDays();
+        if (chrono == CopticChronology.INSTANCE) {
+            return CopticChronology.packedOfEpochDay(epochDay);
+        }
+        return PersianChronology.packedOfEpochDay(epochDay);
+    }
+
+    /**
+     * Returns an iterator over the dates in this range.
+     * <p>
+     * Each call returns a new iterator positioned before the start date.
+     *
+     * @return the iterator, not null
+     */
+    @Override
+    public ChronoDateIterator<D> iterator() {
+        int stepDays = (unit == ChronoUnit.MONTHS ? 0 : stepDays());
+        int stepMonths = (unit == ChronoUnit.MONTHS ? amount : 0);
+        return new ChronoDateIterator<D>(chrono, startPacked, endPacked, stepDays, stepMonths);
+    }
+
+    //-----------------------------------------------------------------------
+    private int stepDays() {
+        return (unit == ChronoUnit.WEEKS ? Jdk8Methods.safeMultiply(amount, 7) : amount);
+    }
+
+    private int monthsInYear() {
+        return (chrono == CopticChronology.INSTANCE ? 13 : 12);
+    }
+
+    private long prolepticMonth(int packed) {
+        return PackedDates.year(packed) * (long) monthsInYear() + PackedDates.month(packed) - 1;
+    }
+
+    private int lengthOfMonth(int y, int m) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return CopticChronology.packedLengthOfMonth(PackedDates.packUnchecked(y, m, 1));
+        }
+        return PersianCalendarTable.lengthOfMonth(y, m);
+    }
+
+    private long toEpochDay(int packed) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return CopticChronology.packedToEpochDay(packed);
+        }
+        return PersianChronology.packedToEpochDay(packed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private D unpack(int packedDate) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return (D) CopticChronology.unpack(packedDate);
+        }
+        return (D) PersianChronology.unpack(packedDate);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof ChronoDateRange) {
+            ChronoDateRange<?> other = (ChronoDateRange<?>) obj;
+            return chrono.equals(other.chrono) && startPacked == other.startPacked &&
+                    endPacked == other.endPacked && amount == other.amount && unit == other.unit;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return chrono.hashCode() ^ (startPacked * 31 + endPacked) ^ (amount * 17 + unit.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return getStart() + "/" + getEnd() + " step " + amount + " " + unit.getName();
+    }
+
+}
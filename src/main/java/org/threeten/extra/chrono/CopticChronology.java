@@ -34,6 +34,7 @@ package org.threeten.extra.chrono;
 import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
 
 import java.io.Serializable;
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -73,6 +74,10 @@ import org.threeten.bp.temporal.ValueRange;
  *  The days are numbered from 1 to 365 or 1 to 366.
  * <li>leap-year - Leap years occur every 4 years.
  * </ul><p>
+ * Dates obtained using {@link #date(TemporalAccessor)} are cached by epoch-day, so
+ * repeated conversions of the same date return the same instance.
+ * The number of cached dates can be set using the system property
+ * {@code org.threeten.extra.chrono.dateCacheSize}, where zero disables the cache.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
@@ -88,22 +93,11 @@ public final class CopticChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 7291205177830286973L;
+
     /**
-     * Range of months.
-     */
-    static final ValueRange MOY_RANGE = ValueRange.of(1, 13);
-    /**
-     * Range of days.
-     */
-    static final ValueRange DOM_RANGE = ValueRange.of(1, 5, 30);
-    /**
-     * Range of days.
-     */
-    static final ValueRange DOM_RANGE_NONLEAP = ValueRange.of(1, 5);
-    /**
-     * Range of days.
+     * Cache of dates converted by {@link #date(TemporalAccessor)}.
      */
-    static final ValueRange DOM_RANGE_LEAP = ValueRange.of(1, 6);
+    private static final EpochDayCache<CopticDate> CACHE = EpochDayCache.create();
 
     /**
      * Restricted constructor.
@@ -170,7 +164,7 @@ public final class CopticChronology extends Chronology implements Serializable {
 
     @Override  // override with covariant return type
     public CopticDate dateYearDay(int prolepticYear, int dayOfYear) {
-        return new CopticDate(prolepticYear, (dayOfYear - 1) / 30 + 1, (dayOfYear - 1) % 30 + 1);
+        return CopticDate.create(ThirteenMonthCalendar.ofYearDay(prolepticYear, dayOfYear));
     }
 
     //-----------------------------------------------------------------------
@@ -179,7 +173,13 @@ public final class CopticChronology extends Chronology implements Serializable {
         if (temporal instanceof CopticDate) {
             return (CopticDate) temporal;
         }
-        return CopticDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
+        long epochDay = temporal.getLong(EPOCH_DAY);
+        CopticDate date = CACHE.get(epochDay);
+        if (date == null) {
+            date = CopticDate.ofEpochDay(epochDay);
+            CACHE.put(epochDay, date);
+        }
+        return date;
     }
 
     @Override  // override with covariant return type
@@ -227,7 +227,7 @@ public final class CopticChronology extends Chronology implements Serializable {
      */
     @Override
     public boolean isLeapYear(long prolepticYear) {
-        return Jdk8Methods.floorMod(prolepticYear, 4) == 3;
+        return ThirteenMonthCalendar.isLeapYear(prolepticYear);
     }
 
     @Override
@@ -248,18 +248,181 @@ public final class CopticChronology extends Chronology implements Serializable {
         return Arrays.<Era>asList(CopticEra.values());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a Coptic date into a single {@code int}.
+     * <p>
+     * The packed form holds the proleptic-year, month-of-year and day-of-month as bit-fields,
+     * allowing large numbers of dates to be held in primitive arrays such as {@link PackedDateArray}.
+     * Packed dates compare in the same order as the dates they represent,
+     * thus a sorted {@code int[]} of packed dates is in date order.
+     * The proleptic-year must be from -4,194,304 to 4,194,303.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month-of-year, from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month, from 1 to 30
+     * @return the packed date
+     * @throws DateTimeException if the date is invalid
+     */
+    public static int pack(int prolepticYear, int month, int dayOfMonth) {
+        return ThirteenMonthCalendar.pack(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Packs a Coptic date into a single {@code int}.
+     *
+     * @param date  the date to pack, not null
+     * @return the packed date
+     * @throws DateTimeException if the year is outside the packed range
+     */
+    public static int pack(CopticDate date) {
+        return date.toPacked();
+    }
+
+    /**
+     * Unpacks a Coptic date from a single {@code int}.
+     *
+     * @param packed  the packed date
+     * @return the date, not null
+     * @throws DateTimeException if the packed value is not a valid date
+     */
+    public static CopticDate unpack(int packed) {
+        return new CopticDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Gets the proleptic-year of a packed Coptic date.
+     *
+     * @param packed  the packed date
+     * @return the proleptic-year
+     */
+    public static int packedYear(int packed) {
+        return PackedDates.year(packed);
+    }
+
+    /**
+     * Gets the month-of-year of a packed Coptic date.
+     *
+     * @param packed  the packed date
+     * @return the month-of-year, from 1 to 13
+     */
+    public static int packedMonth(int packed) {
+        return PackedDates.month(packed);
+    }
+
+    /**
+     * Gets the day-of-month of a packed Coptic date.
+     *
+     * @param packed  the packed date
+     * @return the day-of-month, from 1 to 30
+     */
+    public static int packedDay(int packed) {
+        return PackedDates.day(packed);
+    }
+
+    /**
+     * Gets the length of the month of a packed Coptic date.
+     *
+     * @param packed  the packed date
+     * @return the length of the month in days
+     */
+    public static int packedLengthOfMonth(int packed) {
+        return ThirteenMonthCalendar.lengthOfMonth(PackedDates.year(packed), PackedDates.month(packed));
+    }
+
+    /**
+     * Compares two packed Coptic dates.
+     * <p>
+     * This is the same as comparing the unpacked dates, but without creating them.
+     *
+     * @param packed1  the first packed date
+     * @param packed2  the second packed date
+     * @return the comparator value, negative if less, positive if greater
+     */
+    public static int compare(int packed1, int packed2) {
+        return (packed1 < packed2 ? -1 : (packed1 == packed2 ? 0 : 1));
+    }
+
+    /**
+     * Adds a number of days to a packed Coptic date.
+     *
+     * @param packed  the packed date
+     * @param days  the days to add, may be negative
+     * @return the packed date with the days added
+     * @throws DateTimeException if the result is outside the packed range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static int plusDays(int packed, long days) {
+        if (days == 0) {
+            return packed;
+        }
+        return packedOfEpochDay(Jdk8Methods.safeAdd(packedToEpochDay(packed), days));
+    }
+
+    /**
+     * Converts a packed Coptic date to an epoch-day.
+     *
+     * @param packed  the packed date
+     * @return the epoch-day based on 1970-01-01 (ISO)
+     */
+    public static long packedToEpochDay(int packed) {
+        return ThirteenMonthCalendar.COPTIC.packedToEpochDay(packed);
+    }
+
+    /**
+     * Converts an epoch-day to a packed Coptic date.
+     *
+     * @param epochDay  the epoch-day based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the year is outside the packed range
+     */
+    public static int packedOfEpochDay(long epochDay) {
+        return ThirteenMonthCalendar.COPTIC.packedOfEpochDay(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to Coptic year, month and day columns.
+     * <p>
+     * This is the batch form of {@link CopticDate#ofEpochDay(long)} using the same arithmetic.
+     * No date objects are created.
+     * Element {@code i} of the input is written to element {@code i} of each column.
+     *
+     * @param epochDays  the epoch-days based on 1970-01-01 (ISO), not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if numeric overflow occurs or a year exceeds an {@code int}
+     */
+    public static void epochDaysToFields(long[] epochDays, int[] years, int[] months, int[] days) {
+        ThirteenMonthCalendar.COPTIC.toFields(epochDays, years, months, days);
+    }
+
+    /**
+     * Converts a buffer of epoch-days to Coptic year, month and day columns.
+     * <p>
+     * This is the batch form of {@link CopticDate#ofEpochDay(long)} using the same arithmetic.
+     * No date objects are created.
+     * The remaining epoch-days in the buffer are converted, advancing its position to the limit.
+     * The columns are filled from index zero.
+     *
+     * @param epochDays  the epoch-days based on 1970-01-01 (ISO), not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @return the number of epoch-days converted
+     * @throws IllegalArgumentException if the arrays are shorter than the remaining buffer
+     * @throws ArithmeticException if numeric overflow occurs or a year exceeds an {@code int}
+     */
+    public static int epochDaysToFields(LongBuffer epochDays, int[] years, int[] months, int[] days) {
+        return ThirteenMonthCalendar.COPTIC.toFields(epochDays, years, months, days);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ValueRange range(ChronoField field) {
-        switch (field) {
-            case DAY_OF_MONTH: return ValueRange.of(1, 5, 30);
-            case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, 1, 5);
-            case MONTH_OF_YEAR: return ValueRange.of(1, 13);
-            case EPOCH_MONTH: return ValueRange.of(-1000, 1000);  // TODO
-            case YEAR_OF_ERA: return ValueRange.of(1, 999, 1000);  // TODO
-            case YEAR: return ValueRange.of(-1000, 1000);  // TODO
-        }
-        return field.range();
+        return ThirteenMonthCalendar.range(field);
     }
 
 }
@@ -31,22 +31,12 @@
  */
 package org.threeten.extra.chrono;
 
-import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
-import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR;
-import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
-import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_YEAR;
-import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
-import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
-
 import java.io.Serializable;
 
 import org.threeten.bp.DateTimeException;
-import org.threeten.bp.LocalDate;
 import org.threeten.bp.Period;
-import org.threeten.bp.Year;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.jdk8.DefaultInterfaceChronoLocalDate;
-import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.Temporal;
@@ -73,9 +63,9 @@ public final class CopticDate
      */
     private static final long serialVersionUID = -7920528871688876868L;
     /**
-     * The difference between the Coptic and Coptic epoch day count.
+     * The calendar arithmetic.
      */
-    private static final int EPOCH_DAY_DIFFERENCE = 574971 + 40587;
+    private static final ThirteenMonthCalendar CALENDAR = ThirteenMonthCalendar.COPTIC;
 
     /**
      * The proleptic year.
@@ -113,24 +103,18 @@ public final class CopticDate
      * @throws DateTimeException if the date is invalid
      */
     public static CopticDate ofEpochDay(long epochDay) {
-        // TODO: validate
-//        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
-//            throw new CalendricalRuleException("Date exceeds supported range for CopticDate", Coptic.YEAR);
-//        }
-        epochDay += EPOCH_DAY_DIFFERENCE;
-        int prolepticYear = (int) (((epochDay * 4) + 1463) / 1461);
-        int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
-        int doy0 = (int) (epochDay - startYearEpochDay);
-        int month = doy0 / 30 + 1;
-        int dom = doy0 % 30 + 1;
-        return new CopticDate(prolepticYear, month, dom);
+        return create(CALENDAR.ofEpochDay(epochDay));
     }
 
-    private static CopticDate resolvePreviousValid(int prolepticYear, int month, int day) {
-        if (month == 13 && day > 5) {
-            day = CopticChronology.INSTANCE.isLeapYear(prolepticYear) ? 6 : 5;
-        }
-        return new CopticDate(prolepticYear, month, day);
+    /**
+     * Creates an instance from the combined year, month and day of the calendar arithmetic.
+     *
+     * @param ymd  the combined year, month and day
+     * @return the Coptic date, not null
+     * @throws DateTimeException if the date is invalid
+     */
+    static CopticDate create(long ymd) {
+        return new CopticDate(ThirteenMonthCalendar.year(ymd), ThirteenMonthCalendar.month(ymd), ThirteenMonthCalendar.day(ymd));
     }
 
     //-----------------------------------------------------------------------
@@ -143,14 +127,7 @@ public final class CopticDate
      * @throws DateTimeException if the date is invalid
      */
     CopticDate(int prolepticYear, int month, int dayOfMonth) {
-        CopticChronology.MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
-        ValueRange range;
-        if (month == 13) {
-            range = CopticChronology.INSTANCE.isLeapYear(prolepticYear) ? CopticChronology.DOM_RANGE_LEAP : CopticChronology.DOM_RANGE_NONLEAP;
-        } else {
-            range = CopticChronology.DOM_RANGE;
-        }
-        range.checkValidValue(dayOfMonth, DAY_OF_MONTH);
+        ThirteenMonthCalendar.checkValid(prolepticYear, month, dayOfMonth);
 
         this.prolepticYear = prolepticYear;
         this.month = (short) month;
@@ -176,12 +153,7 @@ public final class CopticDate
     //-----------------------------------------------------------------------
     @Override
     public int lengthOfMonth() {
-        switch (month) {
-            case 13:
-                return (isLeapYear() ? 6 : 5);
-            default:
-                return 30;
-        }
+        return ThirteenMonthCalendar.lengthOfMonth(prolepticYear, month);
     }
 
     @Override
@@ -196,16 +168,7 @@ public final class CopticDate
     public ValueRange range(TemporalField field) {
         if (field instanceof ChronoField) {
             if (isSupported(field)) {
-                ChronoField f = (ChronoField) field;
-                switch (f) {
-                    case DAY_OF_MONTH: return ValueRange.of(1, lengthOfMonth());
-                    case DAY_OF_YEAR: return ValueRange.of(1, lengthOfYear());
-                    case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, month == 13 ? 1 : 5);
-                    case YEAR:
-                    case YEAR_OF_ERA: return (prolepticYear <= 0 ?
-                            ValueRange.of(1, Year.MAX_VALUE + 1) : ValueRange.of(1, Year.MAX_VALUE));  // TODO
-                }
-                return getChronology().range(f);
+                return ThirteenMonthCalendar.range((ChronoField) field, prolepticYear, month);
             }
             throw new DateTimeException("Unsupported field: " + field.getName());
         }
@@ -215,33 +178,11 @@ public final class CopticDate
     @Override
     public long getLong(TemporalField field) {
         if (field instanceof ChronoField) {
-            switch ((ChronoField) field) {
-                case DAY_OF_WEEK: return getDayOfWeek();
-                case ALIGNED_DAY_OF_WEEK_IN_MONTH: return ((day - 1) % 7) + 1;
-                case ALIGNED_DAY_OF_WEEK_IN_YEAR: return ((getDayOfYear() - 1) % 7) + 1;
-                case DAY_OF_MONTH: return day;
-                case DAY_OF_YEAR: return getDayOfYear();
-                case EPOCH_DAY: return toEpochDay();
-                case ALIGNED_WEEK_OF_MONTH: return ((day - 1) / 7) + 1;
-                case ALIGNED_WEEK_OF_YEAR: return ((getDayOfYear() - 1) / 7) + 1;
-                case MONTH_OF_YEAR: return month;
-                case YEAR_OF_ERA: return (prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
-                case YEAR: return prolepticYear;
-                case ERA: return (prolepticYear >= 1 ? 1 : 0);
-            }
-            throw new DateTimeException("Unsupported field: " + field.getName());
+            return CALENDAR.getLong((ChronoField) field, prolepticYear, month, day);
         }
         return field.getFrom(this);
     }
 
-    private int getDayOfYear() {
-        return (month - 1) * 30 + day;
-    }
-
-    private int getDayOfWeek() {
-        return Jdk8Methods.floorMod(toEpochDay() + 3, 7) + 1;
-    }
-
     //-------------------------------------------------------------------------
     @Override
     public CopticDate with(TemporalAdjuster adjuster) {
@@ -251,24 +192,7 @@ public final class CopticDate
     @Override
     public CopticDate with(TemporalField field, long newValue) {
         if (field instanceof ChronoField) {
-            ChronoField f = (ChronoField) field;
-            f.checkValidValue(newValue);        // TODO: validate value
-            int nvalue = (int) newValue;
-            switch (f) {
-                case DAY_OF_WEEK: return plusDays(newValue - getDayOfWeek());
-                case ALIGNED_DAY_OF_WEEK_IN_MONTH: return plusDays(newValue - getLong(ALIGNED_DAY_OF_WEEK_IN_MONTH));
-                case ALIGNED_DAY_OF_WEEK_IN_YEAR: return plusDays(newValue - getLong(ALIGNED_DAY_OF_WEEK_IN_YEAR));
-                case DAY_OF_MONTH: return resolvePreviousValid(prolepticYear, month, nvalue);
-                case DAY_OF_YEAR: return resolvePreviousValid(prolepticYear, ((nvalue - 1) / 30) + 1, ((nvalue - 1) % 30) + 1);
-                case EPOCH_DAY: return ofEpochDay(nvalue);
-                case ALIGNED_WEEK_OF_MONTH: return plusDays((newValue - getLong(ALIGNED_WEEK_OF_MONTH)) * 7);
-                case ALIGNED_WEEK_OF_YEAR: return plusDays((newValue - getLong(ALIGNED_WEEK_OF_YEAR)) * 7);
-                case MONTH_OF_YEAR: return resolvePreviousValid(prolepticYear, nvalue, day);
-                case YEAR_OF_ERA: return resolvePreviousValid(prolepticYear >= 1 ? nvalue : 1 - nvalue, month, day);
-                case YEAR: return resolvePreviousValid(nvalue, month, day);
-                case ERA: return resolvePreviousValid(1 - prolepticYear, month, day);
-            }
-            throw new DateTimeException("Unsupported field: " + field.getName());
+            return create(CALENDAR.with((ChronoField) field, newValue, prolepticYear, month, day));
         }
         return field.adjustInto(this, newValue);
     }
@@ -282,46 +206,12 @@ public final class CopticDate
     @Override
     public CopticDate plus(long amountToAdd, TemporalUnit unit) {
         if (unit instanceof ChronoUnit) {
-            ChronoUnit f = (ChronoUnit) unit;
-            switch (f) {
-                case DAYS: return plusDays(amountToAdd);
-                case WEEKS: return plusDays(Jdk8Methods.safeMultiply(amountToAdd, 7));
-                case MONTHS: return plusMonths(amountToAdd);
-                case YEARS: return plusYears(amountToAdd);
-                case DECADES: return plusYears(Jdk8Methods.safeMultiply(amountToAdd, 10));
-                case CENTURIES: return plusYears(Jdk8Methods.safeMultiply(amountToAdd, 100));
-                case MILLENNIA: return plusYears(Jdk8Methods.safeMultiply(amountToAdd, 1000));
-//                case ERAS: throw new DateTimeException("Unable to add era, standard calendar system only has one era");
-//                case FOREVER: return (period == 0 ? this : (period > 0 ? LocalDate.MAX_DATE : LocalDate.MIN_DATE));
-            }
-            throw new DateTimeException(unit.getName() + " not valid for CopticDate");
+            long ymd = CALENDAR.plus(prolepticYear, month, day, amountToAdd, (ChronoUnit) unit);
+            return (ymd == toYmd() ? this : create(ymd));
         }
         return unit.addTo(this, amountToAdd);
     }
 
-    //-----------------------------------------------------------------------
-    private CopticDate plusYears(long years) {
-        return plusMonths(Jdk8Methods.safeMultiply(years, 13));
-    }
-
-    private CopticDate plusMonths(long months) {
-        if (months == 0) {
-            return this;
-        }
-        long curEm = prolepticYear * 13L + (month - 1);
-        long calcEm = Jdk8Methods.safeAdd(curEm, months);
-        int newYear = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(calcEm, 13));
-        int newMonth = Jdk8Methods.floorMod(calcEm, 13) + 1;
-        return resolvePreviousValid(newYear, newMonth, day);
-    }
-
-    private CopticDate plusDays(long days) {
-        if (days == 0) {
-            return this;
-        }
-        return CopticDate.ofEpochDay(Jdk8Methods.safeAdd(toEpochDay(), days));
-    }
-
     //-------------------------------------------------------------------------
     @Override
     public CopticDate minus(TemporalAmount amount) {
@@ -379,22 +269,70 @@ public final class CopticDate
             throw new DateTimeException("Unable to calculate period between two different chronologies");
         }
         if (unit instanceof ChronoUnit) {
-            return LocalDate.from(this).periodUntil(end, unit);  // TODO: this is wrong
+            return CALENDAR.until(toYmd(), getChronology().date(end).toYmd(), (ChronoUnit) unit);
         }
         return unit.between(this, endDateTime);
     }
 
     @Override
     public Period periodUntil(ChronoLocalDate<?> endDate) {
-        throw new UnsupportedOperationException();
+        if (getChronology().equals(endDate.getChronology()) == false) {
+            throw new DateTimeException("Unable to calculate period between two different chronologies");
+        }
+        return CALENDAR.periodUntil(toYmd(), getChronology().date(endDate).toYmd());
+    }
+
+    private long toYmd() {
+        return ThirteenMonthCalendar.ymd(prolepticYear, month, day);
+    }
+
+    /**
+     * Packs this date into a single {@code int}.
+     *
+     * @return the packed date
+     * @throws DateTimeException if the year is outside the packed range
+     */
+    int toPacked() {
+        ThirteenMonthCalendar.checkPackedYear(prolepticYear);
+        return PackedDates.packUnchecked(prolepticYear, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a range of every day from this date to the end date.
+     * <p>
+     * The range is lazy and its iterator does not convert each epoch-day back to a date.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the range of dates, not null
+     * @throws IllegalArgumentException if the end date is before this date
+     */
+    public ChronoDateRange<CopticDate> datesUntil(CopticDate endExclusive) {
+        return ChronoDateRange.coptic(this, endExclusive);
+    }
+
+    /**
+     * Returns a range of dates from this date to the end date stepping by the specified amount.
+     * <p>
+     * The step is a positive number of days, weeks or months.
+     * When stepping by months the day-of-month is reduced to the last valid day of
+     * the month if necessary, as per {@link #plus(long, TemporalUnit)}.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @param amount  the amount of the step, positive
+     * @param unit  the unit of the step, DAYS, WEEKS or MONTHS, not null
+     * @return the range of dates, not null
+     * @throws IllegalArgumentException if the end date is before this date or the amount is not positive
+     * @throws DateTimeException if the unit is not supported
+     */
+    public ChronoDateRange<CopticDate> datesUntil(CopticDate endExclusive, int amount, TemporalUnit unit) {
+        return ChronoDateRange.coptic(this, endExclusive, amount, unit);
     }
 
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = (long) prolepticYear;
-        long copticEpochDay = ((year - 1) * 365) + Jdk8Methods.floorDiv(year, 4) + (getDayOfYear() - 1);
-        return copticEpochDay - EPOCH_DAY_DIFFERENCE;
+        return CALENDAR.toEpochDay(prolepticYear, month, day);
     }
 
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.threeten.bp.chrono.ChronoLocalDate;
+
+/**
+ * A bounded cache of dates keyed by epoch-day.
+ * <p>
+ * The cache is direct-mapped, with each epoch-day held in the slot given by
+ * its low bits. Any run of consecutive days no longer than the size of the
+ * cache can therefore be held at once, which suits workloads that repeatedly
+ * convert dates near the current month. A date added to an occupied slot
+ * replaces the previous entry.
+ * <p>
+ * The slots are updated without locking, as each entry is immutable.
+ * Two threads converting the same epoch-day at the same time may both create
+ * a date, in which case the cache keeps one of them.
+ * <p>
+ * The size is read from the system property {@code org.threeten.extra.chrono.dateCacheSize},
+ * rounded up to a power of two and limited to {@code 65536}.
+ * A size of zero disables caching.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ *
+ * @param <D> the type of date
+ */
+final class EpochDayCache<D extends ChronoLocalDate<D>> {
+
+    /**
+     * The system property used to configure the size.
+     */
+    static final String SIZE_PROPERTY = "org.threeten.extra.chrono.dateCacheSize";
+    /**
+     * The default size.
+     */
+    static final int DEFAULT_SIZE = 2048;
+    /**
+     * The maximum size.
+     */
+    static final int MAX_SIZE = 65536;
+
+    /**
+     * The cached entries, null if caching is disabled.
+     */
+    private final AtomicReferenceArray<Entry<D>> slots;
+    /**
+     * The mask used to find the slot of an epoch-day.
+     */
+    private final int mask;
+
+    /**
+     * Creates a cache using the configured size.
+     *
+     * @param <D> the type of date
+     * @return the cache, not null
+     */
+    static <D extends ChronoLocalDate<D>> EpochDayCache<D> create() {
+        int size = DEFAULT_SIZE;
+        try {
+            size = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE);
+        } catch (SecurityException ex) {
+            // use the default
+        }
+        return new EpochDayCache<D>(size);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param size  the requested size, zero or negative to disable caching
+     */
+    EpochDayCache(int size) {
+        if (size <= 0) {
+            slots = null;
+            mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(Math.min(size, MAX_SIZE) - 1) << 1;
+            capacity = Math.max(capacity, 1);
+            slots = new AtomicReferenceArray<Entry<D>>(capacity);
+            mask = capacity - 1;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of slots in the cache.
+     *
+     * @return the number of slots, zero if caching is disabled
+     */
+    int size() {
+        return (slots != null ? slots.length() : 0);
+    }
+
+    /**
+     * Gets the cached date for the epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the cached date, null if not cached
+     */
+    D get(long epochDay) {
+        if (slots != null) {
+            Entry<D> entry = slots.get((int) epochDay & mask);
+            if (entry != null && entry.epochDay == epochDay) {
+                return entry.date;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a date to the cache, replacing any entry in the same slot.
+     *
+     * @param epochDay  the epoch-day of the date
+     * @param date  the date, not null
+     */
+    void put(long epochDay, D date) {
+        if (slots != null) {
+            slots.lazySet((int) epochDay & mask, new Entry<D>(epochDay, date));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable cache entry.
+     */
+    private static final class Entry<D> {
+        private final long epochDay;
+        private final D date;
+
+        private Entry(long epochDay, D date) {
+            this.epochDay = epochDay;
+            this.date = date;
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.threeten.bp.Clock;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.chrono.ChronoLocalDateTime;
+import org.threeten.bp.chrono.ChronoZonedDateTime;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.Era;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * The Ethiopic calendar system.
+ * <p>
+ * This chronology defines the rules of the Ethiopic calendar system.
+ * This calendar system is primarily used in Ethiopia.
+ * Dates are aligned such that {@code 0001-01-01 (Ethiopic)} is {@code 0008-08-27 (ISO)}.
+ * <p>
+ * The Ethiopic calendar has the same structure as the {@link CopticChronology Coptic calendar}, with the
+ * year numbered 276 higher. Both share the same arithmetic.
+ * <p>
+ * The fields are defined as follows:
+ * <p><ul>
+ * <li>era - There are two eras, the current 'Era of the Incarnation' (INCARNATION)
+ *  and the previous era (BEFORE_INCARNATION).
+ * <li>year-of-era - The year-of-era for the current era increases uniformly from the epoch at year one.
+ *  For the previous era the year increases from one as time goes backwards.
+ * <li>proleptic-year - The proleptic year is the same as the year-of-era for the
+ *  current era. For the previous era, years have zero, then negative values.
+ * <li>month-of-year - There are 13 months in an Ethiopic year, numbered from 1 to 13.
+ * <li>day-of-month - There are 30 days in each of the first 12 Ethiopic months, numbered 1 to 30.
+ *  The 13th month has 5 days, or 6 in a leap year, numbered 1 to 5 or 1 to 6.
+ * <li>day-of-year - There are 365 days in a standard Ethiopic year and 366 in a leap year.
+ *  The days are numbered from 1 to 365 or 1 to 366.
+ * <li>leap-year - Leap years occur every 4 years.
+ * </ul><p>
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class EthiopicChronology extends Chronology implements Serializable {
+
+    /**
+     * Singleton instance of the Ethiopic chronology.
+     */
+    public static final EthiopicChronology INSTANCE = new EthiopicChronology();
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 53287687268768L;
+
+    /**
+     * Restricted constructor.
+     */
+    private EthiopicChronology() {
+    }
+
+    /**
+     * Resolve singleton.
+     *
+     * @return the singleton instance, not null
+     */
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the ID of the chronology - 'Ethiopic'.
+     * <p>
+     * The ID uniquely identifies the {@code Chrono}.
+     * It can be used to lookup the {@code Chrono} using {@link #of(String)}.
+     *
+     * @return the chronology ID - 'Ethiopic'
+     * @see #getCalendarType()
+     */
+    @Override
+    public String getId() {
+        return "Ethiopic";
+    }
+
+    /**
+     * Gets the calendar type of the underlying calendar system - 'ethiopic'.
+     * <p>
+     * The calendar type is an identifier defined by the
+     * <em>Unicode Locale Data Markup Language (LDML)</em> specification.
+     * It can be used to lookup the {@code Chrono} using {@link #of(String)}.
+     * It can also be used as part of a locale, accessible via
+     * {@link Locale#getUnicodeLocaleType(String)} with the key 'ca'.
+     *
+     * @return the calendar system type - 'ethiopic'
+     * @see #getId()
+     */
+    @Override
+    public String getCalendarType() {
+        return "ethiopic";
+    }
+
+    //-----------------------------------------------------------------------
+    @Override  // override with covariant return type
+    public EthiopicDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return (EthiopicDate) super.date(era, yearOfEra, month, dayOfMonth);
+    }
+
+    @Override  // override with covariant return type
+    public EthiopicDate date(int prolepticYear, int month, int dayOfMonth) {
+        return new EthiopicDate(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override  // override with covariant return type
+    public EthiopicDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return (EthiopicDate) super.dateYearDay(era, yearOfEra, dayOfYear);
+    }
+
+    @Override  // override with covariant return type
+    public EthiopicDate dateYearDay(int prolepticYear, int dayOfYear) {
+        return EthiopicDate.create(ThirteenMonthCalendar.ofYearDay(prolepticYear, dayOfYear));
+    }
+
+    //-----------------------------------------------------------------------
+    @Override  // override with covariant return type
+    public EthiopicDate date(TemporalAccessor temporal) {
+        if (temporal instanceof EthiopicDate) {
+            return (EthiopicDate) temporal;
+        }
+        return EthiopicDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
+    }
+
+    @Override  // override with covariant return type
+    public ChronoLocalDateTime<EthiopicDate> localDateTime(TemporalAccessor temporal) {
+        return (ChronoLocalDateTime<EthiopicDate>) super.localDateTime(temporal);
+    }
+
+    @Override  // override with covariant return type
+    public ChronoZonedDateTime<EthiopicDate> zonedDateTime(TemporalAccessor temporal) {
+        return (ChronoZonedDateTime<EthiopicDate>) super.zonedDateTime(temporal);
+    }
+
+    @Override  // override with covariant return type
+    public ChronoZonedDateTime<EthiopicDate> zonedDateTime(Instant instant, ZoneId zone) {
+        return (ChronoZonedDateTime<EthiopicDate>) super.zonedDateTime(instant, zone);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override  // override with covariant return type
+    public EthiopicDate dateNow() {
+        return (EthiopicDate) super.dateNow();
+    }
+
+    @Override  // override with covariant return type
+    public EthiopicDate dateNow(ZoneId zone) {
+        return (EthiopicDate) super.dateNow(zone);
+    }
+
+    @Override  // override with covariant return type
+    public EthiopicDate dateNow(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return (EthiopicDate) super.dateNow(clock);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the specified year is a leap year.
+     * <p>
+     * An Ethiopic proleptic-year is leap if the remainder after division by four equals three.
+     * This method does not validate the year passed in, and only has a
+     * well-defined result for years in the supported range.
+     *
+     * @param prolepticYear  the proleptic-year to check, not validated for range
+     * @return true if the year is a leap year
+     */
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return ThirteenMonthCalendar.isLeapYear(prolepticYear);
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (era instanceof EthiopicEra == false) {
+            throw new DateTimeException("Era must be EthiopicEra");
+        }
+        return (era == EthiopicEra.INCARNATION ? yearOfEra : 1 - yearOfEra);
+    }
+
+    @Override
+    public Era eraOf(int eraValue) {
+        return EthiopicEra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return Arrays.<Era>asList(EthiopicEra.values());
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ValueRange range(ChronoField field) {
+        return ThirteenMonthCalendar.range(field);
+    }
+
+}
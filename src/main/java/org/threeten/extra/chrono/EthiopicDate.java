@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.io.Serializable;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Period;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.jdk8.DefaultInterfaceChronoLocalDate;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalAmount;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * A date in the Ethiopic calendar system.
+ * <p>
+ * This implements {@code ChronoLocalDate} for the {@link EthiopicChronology Ethiopic calendar}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class EthiopicDate
+        extends DefaultInterfaceChronoLocalDate<EthiopicDate>
+        implements ChronoLocalDate<EthiopicDate>, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -2954533205376220839L;
+    /**
+     * The calendar arithmetic.
+     */
+    private static final ThirteenMonthCalendar CALENDAR = ThirteenMonthCalendar.ETHIOPIC;
+
+    /**
+     * The proleptic year.
+     */
+    private final int prolepticYear;
+    /**
+     * The month.
+     */
+    private final short month;
+    /**
+     * The day.
+     */
+    private final short day;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a date in Ethiopic calendar system from the Era, year-of-era,
+     * month-of-year and day-of-month.
+     *
+     * @param era  the EthiopicEra, not null
+     * @param year  the calendar system year-of-era
+     * @param month  the calendar system month-of-year
+     * @param dayOfMonth  the calendar system day-of-month
+     * @return the date in this calendar system, not null
+     */
+    public static EthiopicDate of(EthiopicEra era, int year, int month, int dayOfMonth) {
+        return (EthiopicDate)EthiopicChronology.INSTANCE.date(era, year, month, dayOfMonth);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the Ethiopic date, not null
+     * @throws DateTimeException if the date is invalid
+     */
+    public static EthiopicDate ofEpochDay(long epochDay) {
+        return create(CALENDAR.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Creates an instance from the combined year, month and day of the calendar arithmetic.
+     *
+     * @param ymd  the combined year, month and day
+     * @return the Ethiopic date, not null
+     * @throws DateTimeException if the date is invalid
+     */
+    static EthiopicDate create(long ymd) {
+        return new EthiopicDate(ThirteenMonthCalendar.year(ymd), ThirteenMonthCalendar.month(ymd), ThirteenMonthCalendar.day(ymd));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an instance.
+     *
+     * @param prolepticYear  the Ethiopic proleptic-year
+     * @param month  the Ethiopic month, from 1 to 13
+     * @param dayOfMonth  the Ethiopic day-of-month, from 1 to 30
+     * @throws DateTimeException if the date is invalid
+     */
+    EthiopicDate(int prolepticYear, int month, int dayOfMonth) {
+        ThirteenMonthCalendar.checkValid(prolepticYear, month, dayOfMonth);
+
+        this.prolepticYear = prolepticYear;
+        this.month = (short) month;
+        this.day = (short) dayOfMonth;
+    }
+
+    /**
+     * Validates the object.
+     *
+     * @return the resolved date, not null
+     */
+    private Object readResolve() {
+        // TODO: validate
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public EthiopicChronology getChronology() {
+        return EthiopicChronology.INSTANCE;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int lengthOfMonth() {
+        return ThirteenMonthCalendar.lengthOfMonth(prolepticYear, month);
+    }
+
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return ((ChronoField) field).isDateField();
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (isSupported(field)) {
+                return ThirteenMonthCalendar.range((ChronoField) field, prolepticYear, month);
+            }
+            throw new DateTimeException("Unsupported field: " + field.getName());
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return CALENDAR.getLong((ChronoField) field, prolepticYear, month, day);
+        }
+        return field.getFrom(this);
+    }
+
+    //-------------------------------------------------------------------------
+    @Override
+    public EthiopicDate with(TemporalAdjuster adjuster) {
+        return (EthiopicDate) adjuster.adjustInto(this);
+    }
+
+    @Override
+    public EthiopicDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            return create(CALENDAR.with((ChronoField) field, newValue, prolepticYear, month, day));
+        }
+        return field.adjustInto(this, newValue);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public EthiopicDate plus(TemporalAmount amount) {
+        return (EthiopicDate) super.plus(amount);
+    }
+
+    @Override
+    public EthiopicDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            long ymd = CALENDAR.plus(prolepticYear, month, day, amountToAdd, (ChronoUnit) unit);
+            return (ymd == toYmd() ? this : create(ymd));
+        }
+        return unit.addTo(this, amountToAdd);
+    }
+
+    //-------------------------------------------------------------------------
+    @Override
+    public EthiopicDate minus(TemporalAmount amount) {
+        return (EthiopicDate) super.minus(amount);
+    }
+
+    @Override
+    public EthiopicDate minus(long amountToSubtract, TemporalUnit unit) {
+        return (EthiopicDate) super.minus(amountToSubtract, unit);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public long periodUntil(Temporal endDateTime, TemporalUnit unit) {
+        if (endDateTime instanceof ChronoLocalDate == false) {
+            throw new DateTimeException("Unable to calculate period between objects of two different types");
+        }
+        ChronoLocalDate<?> end = (ChronoLocalDate<?>) endDateTime;
+        if (getChronology().equals(end.getChronology()) == false) {
+            throw new DateTimeException("Unable to calculate period between two different chronologies");
+        }
+        if (unit instanceof ChronoUnit) {
+            return CALENDAR.until(toYmd(), getChronology().date(end).toYmd(), (ChronoUnit) unit);
+        }
+        return unit.between(this, endDateTime);
+    }
+
+    @Override
+    public Period periodUntil(ChronoLocalDate<?> endDate) {
+        if (getChronology().equals(endDate.getChronology()) == false) {
+            throw new DateTimeException("Unable to calculate period between two different chronologies");
+        }
+        return CALENDAR.periodUntil(toYmd(), getChronology().date(endDate).toYmd());
+    }
+
+    private long toYmd() {
+        return ThirteenMonthCalendar.ymd(prolepticYear, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public long toEpochDay() {
+        return CALENDAR.toEpochDay(prolepticYear, month, day);
+    }
+
+}
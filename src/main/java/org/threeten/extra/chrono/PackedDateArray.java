@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
+
+/**
+ * A growable list of Coptic or Persian dates stored as packed {@code int} values.
+ * <p>
+ * Each date occupies four bytes, rather than a separate object per date.
+ * The list can be sorted in place using a primitive sort, and a sorted list can be
+ * searched and viewed by date range without creating any date objects.
+ * Dates are only created when read using {@link #get(int)}.
+ * <p>
+ * The packed encoding is described by {@link CopticChronology#pack(int, int, int)}.
+ * <p>
+ * Elements cannot be removed other than by {@link #clear()}.
+ * The views returned by {@link #subList(int, int)} and {@link #range} are
+ * backed by this list, as per the {@code List} specification.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ *
+ * @param <D> the type of date
+ */
+public final class PackedDateArray<D extends ChronoLocalDate<D>>
+        extends AbstractList<D>
+        implements RandomAccess {
+
+    /**
+     * The default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The chronology, either Coptic or Persian.
+     */
+    private final Chronology chrono;
+    /**
+     * The packed dates.
+     */
+    private int[] packed;
+    /**
+     * The number of dates.
+     */
+    private int size;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates an empty array of Coptic dates.
+     *
+     * @return the empty array, not null
+     */
+    public static PackedDateArray<CopticDate> coptic() {
+        return new PackedDateArray<CopticDate>(CopticChronology.INSTANCE, new int[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Creates an array of Coptic dates from packed values.
+     * <p>
+     * The values are copied and must have been packed by {@link CopticChronology#pack}.
+     *
+     * @param packedDates  the packed Coptic dates, not null
+     * @return the array, not null
+     */
+    public static PackedDateArray<CopticDate> coptic(int[] packedDates) {
+        return new PackedDateArray<CopticDate>(CopticChronology.INSTANCE, packedDates.clone(), packedDates.length);
+    }
+
+    /**
+     * Creates an empty array of Persian dates.
+     *
+     * @return the empty array, not null
+     */
+    public static PackedDateArray<PersianDate> persian() {
+        return new PackedDateArray<PersianDate>(PersianChronology.INSTANCE, new int[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Creates an array of Persian dates from packed values.
+     * <p>
+     * The values are copied and must have been packed by {@link PersianChronology#pack}.
+     *
+     * @param packedDates  the packed Persian dates, not null
+     * @return the array, not null
+     */
+    public static PackedDateArray<PersianDate> persian(int[] packedDates) {
+        return new PackedDateArray<PersianDate>(PersianChronology.INSTANCE, packedDates.clone(), packedDates.length);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param chrono  the chronology, not null
+     * @param packed  the packed dates, not null
+     * @param size  the number of dates
+     */
+    private PackedDateArray(Chronology chrono, int[] packed, int size) {
+        this.chrono = chrono;
+        this.packed = packed;
+        this.size = size;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the chronology of the dates in this array.
+     *
+     * @return the chronology, not null
+     */
+    public Chronology getChronology() {
+        return chrono;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public D get(int index) {
+        return unpack(getPacked(index));
+    }
+
+    /**
+     * Gets the packed date at the specified index.
+     *
+     * @param index  the index
+     * @return the packed date
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getPacked(int index) {
+        checkIndex(index);
+        return packed[index];
+    }
+
+    @Override
+    public D set(int index, D date) {
+        int newValue = pack(date);
+        checkIndex(index);
+        int old = packed[index];
+        packed[index] = newValue;
+        return unpack(old);
+    }
+
+    @Override
+    public boolean add(D date) {
+        addPacked(pack(date));
+        return true;
+    }
+
+    /**
+     * Adds a packed date to the end of this array.
+     * <p>
+     * The value must have been packed by the chronology of this array.
+     *
+     * @param packedDate  the packed date to add
+     */
+    public void addPacked(int packedDate) {
+        if (size == packed.length) {
+            packed = Arrays.copyOf(packed, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        packed[size++] = packedDate;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a copy of the packed dates in this array.
+     *
+     * @return the packed dates, not null
+     */
+    public int[] toPackedArray() {
+        return Arrays.copyOf(packed, size);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sorts this array into date order.
+     * <p>
+     * This uses a primitive sort of the packed values.
+     */
+    public void sort() {
+        Arrays.sort(packed, 0, size);
+        modCount++;
+    }
+
+    /**
+     * Searches this array for the specified date.
+     * <p>
+     * The array must be sorted. If the array contains multiple elements
+     * equal to the date, the index of the first is returned.
+     *
+     * @param date  the date to search for, not null
+     * @return the index of the date if found, otherwise {@code (-(insertion point) - 1)}
+     */
+    public int binarySearch(D date) {
+        int key = pack(date);
+        int index = lowerBound(key);
+        return (index < size && packed[index] == key ? index : -index - 1);
+    }
+
+    /**
+     * Returns a view of the dates in this array within the specified range.
+     * <p>
+     * The array must be sorted. The view contains all dates greater than or equal to
+     * {@code fromInclusive} and less than {@code toExclusive}.
+     * No date objects are created to find the range.
+     *
+     * @param fromInclusive  the start date, inclusive, not null
+     * @param toExclusive  the end date, exclusive, not null
+     * @return the view of this array, not null
+     * @throws IllegalArgumentException if the start is after the end
+     */
+    public List<D> range(D fromInclusive, D toExclusive) {
+        int from = pack(fromInclusive);
+        int to = pack(toExclusive);
+        if (from > to) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        return subList(lowerBound(from), lowerBound(to));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the index of the first element not less than the key.
+     *
+     * @param key  the packed key
+     * @return the index, from 0 to size
+     */
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (packed[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private int pack(D date) {
+        Objects.requireNonNull(date, "date");
+        if (date instanceof CopticDate && chrono == CopticChronology.INSTANCE) {
+            return ((CopticDate) date).toPacked();
+        }
+        if (date instanceof PersianDate && chrono == PersianChronology.INSTANCE) {
+            return ((PersianDate) date).toPacked();
+        }
+        throw new ClassCastException("Date must be in the " + chrono.getId() + " calendar system");
+    }
+
+    @SuppressWarnings("unchecked")
+    private D unpack(int packedDate) {
+        if (chrono == CopticChronology.INSTANCE) {
+            return (D) CopticChronology.unpack(packedDate);
+        }
+        return (D) PersianChronology.unpack(packedDate);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+/**
+ * Packed int encoding of dates in calendar systems with up to fifteen months of up to 31 days.
+ * <p>
+ * A packed date holds the proleptic-year in the top 23 bits, the month-of-year in
+ * the next 4 bits and the day-of-month in the bottom 5 bits.
+ * As the year is signed and the month and day are not, comparing two packed
+ * values as signed integers gives the same result as comparing the dates.
+ * <p>
+ * This class only handles the encoding. The validation and epoch-day conversions
+ * are provided by {@link ThirteenMonthCalendar} and {@link PersianCalendarTable}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+final class PackedDates {
+
+    /**
+     * The minimum year that can be packed.
+     */
+    static final int MIN_YEAR = -(1 << 22);
+    /**
+     * The maximum year that can be packed.
+     */
+    static final int MAX_YEAR = (1 << 22) - 1;
+
+    /**
+     * Restricted constructor.
+     */
+    private PackedDates() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a date that is known to be valid.
+     *
+     * @param prolepticYear  the proleptic-year, from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year, from 1 to 15
+     * @param dayOfMonth  the day-of-month, from 1 to 31
+     * @return the packed date
+     */
+    static int packUnchecked(int prolepticYear, int month, int dayOfMonth) {
+        return (prolepticYear << 9) | (month << 5) | dayOfMonth;
+    }
+
+    static int year(int packed) {
+        return packed >> 9;
+    }
+
+    static int month(int packed) {
+        return (packed >>> 5) & 0xF;
+    }
+
+    static int day(int packed) {
+        return packed & 0x1F;
+    }
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import java.nio.LongBuffer;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+
+/**
+ * The year-start table of the Solar Hijri calendar used by {@link PersianChronology}.
+ * <p>
+ * The Solar Hijri year starts on the day of the March equinox in Iran, so the pattern
+ * of leap years is not a simple cycle. This class holds the epoch-day of the first day
+ * of each year in the supported range, making conversions to and from the epoch-day
+ * constant time.
+ * <p>
+ * The table is built when the class is loaded using the algorithm by Kazimierz M. Borkowski,
+ * which matches the astronomical calendar over the supported range. The algorithm counts
+ * leap years in 33 year cycles between a list of break years where the cycle is reset.
+ * <p>
+ * The first six months have 31 days, the next five have 30 days and the last month
+ * has 29 days, or 30 in a leap year.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+final class PersianCalendarTable {
+
+    /**
+     * The minimum supported year.
+     */
+    static final int MIN_YEAR = 1;
+    /**
+     * The maximum supported year.
+     */
+    static final int MAX_YEAR = 3000;
+    /**
+     * The years at which the 33 year leap cycle is reset.
+     */
+    private static final int[] BREAKS = {
+        -61, 9, 38, 199, 426, 686, 756, 818, 1111, 1181, 1210, 1635, 2060, 2097, 2192, 2262, 2324, 2394, 2456, 3178,
+    };
+    /**
+     * The epoch-day of the first day of each year, from MIN_YEAR to MAX_YEAR + 1.
+     */
+    private static final long[] YEAR_STARTS = buildYearStarts();
+    /**
+     * The minimum supported epoch-day.
+     */
+    static final long MIN_EPOCH_DAY = YEAR_STARTS[0];
+    /**
+     * The maximum supported epoch-day.
+     */
+    static final long MAX_EPOCH_DAY = YEAR_STARTS[YEAR_STARTS.length - 1] - 1;
+
+    /**
+     * Restricted constructor.
+     */
+    private PersianCalendarTable() {
+    }
+
+    /**
+     * Builds the table of year starts.
+     *
+     * @return the epoch-days of the first day of each year, not null
+     */
+    private static long[] buildYearStarts() {
+        long[] starts = new long[MAX_YEAR - MIN_YEAR + 2];
+        for (int year = MIN_YEAR; year <= MAX_YEAR + 1; year++) {
+            // count leap years up to the cycle containing the year
+            int leapCount = -14;
+            int cycleStart = BREAKS[0];
+            int jump = 0;
+            for (int i = 1; i < BREAKS.length; i++) {
+                int cycleEnd = BREAKS[i];
+                jump = cycleEnd - cycleStart;
+                if (year < cycleEnd) {
+                    break;
+                }
+                leapCount += (jump / 33) * 8 + (jump % 33) / 4;
+                cycleStart = cycleEnd;
+            }
+            int n = year - cycleStart;
+            leapCount += (n / 33) * 8 + ((n % 33) + 3) / 4;
+            if (jump % 33 == 4 && jump - n == 4) {
+                leapCount++;
+            }
+            // the first day of the year is in March of the ISO year
+            int isoYear = year + 621;
+            int isoLeapCount = isoYear / 4 - ((isoYear / 100 + 1) * 3) / 4 - 150;
+            int march = 20 + leapCount - isoLeapCount;
+            starts[year - MIN_YEAR] = LocalDate.of(isoYear, 3, march).toEpochDay();
+        }
+        return starts;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks the year is within the supported range.
+     *
+     * @param prolepticYear  the year to check
+     * @throws DateTimeException if the year is invalid
+     */
+    static void checkValidYear(long prolepticYear) {
+        if (prolepticYear < MIN_YEAR || prolepticYear > MAX_YEAR) {
+            throw new DateTimeException("Invalid Persian year, must be from " + MIN_YEAR + " to " + MAX_YEAR + ": " + prolepticYear);
+        }
+    }
+
+    /**
+     * Checks if the year is a leap year.
+     *
+     * @param prolepticYear  the year, false if outside the supported range
+     * @return true if the year is a leap year
+     */
+    static boolean isLeapYear(long prolepticYear) {
+        if (prolepticYear < MIN_YEAR || prolepticYear > MAX_YEAR) {
+            return false;
+        }
+        int index = (int) prolepticYear - MIN_YEAR;
+        return YEAR_STARTS[index + 1] - YEAR_STARTS[index] == 366;
+    }
+
+    /**
+     * Gets the length of the month.
+     *
+     * @param prolepticYear  the year, within the supported range
+     * @param month  the month-of-year, from 1 to 12
+     * @return the length of the month, from 29 to 31
+     */
+    static int lengthOfMonth(int prolepticYear, int month) {
+        if (month <= 6) {
+            return 31;
+        }
+        if (month <= 11) {
+            return 30;
+        }
+        return (isLeapYear(prolepticYear) ? 30 : 29);
+    }
+
+    /**
+     * Gets the day-of-year.
+     *
+     * @param month  the month-of-year, from 1 to 12
+     * @param dayOfMonth  the day-of-month, from 1 to 31
+     * @return the day-of-year, from 1 to 366
+     */
+    static int dayOfYear(int month, int dayOfMonth) {
+        return (month <= 7 ? (month - 1) * 31 : 186 + (month - 7) * 30) + dayOfMonth;
+    }
+
+    /**
+     * Gets the month-of-year from the zero-based day-of-year.
+     *
+     * @param dayOfYear0  the zero-based day-of-year, from 0 to 365
+     * @return the month-of-year, from 1 to 12
+     */
+    static int monthOfDayOfYear0(int dayOfYear0) {
+        return (dayOfYear0 < 186 ? dayOfYear0 / 31 + 1 : (dayOfYear0 - 186) / 30 + 7);
+    }
+
+    /**
+     * Gets the day-of-month from the zero-based day-of-year.
+     *
+     * @param dayOfYear0  the zero-based day-of-year, from 0 to 365
+     * @return the day-of-month, from 1 to 31
+     */
+    static int dayOfMonthOfDayOfYear0(int dayOfYear0) {
+        return (dayOfYear0 < 186 ? dayOfYear0 % 31 + 1 : (dayOfYear0 - 186) % 30 + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the epoch-day of the first day of the year.
+     *
+     * @param prolepticYear  the year, from MIN_YEAR to MAX_YEAR + 1
+     * @return the epoch-day
+     */
+    static long yearStart(int prolepticYear) {
+        return YEAR_STARTS[prolepticYear - MIN_YEAR];
+    }
+
+    /**
+     * Converts a date to an epoch-day.
+     *
+     * @param prolepticYear  the year, within the supported range
+     * @param month  the month-of-year, from 1 to 12
+     * @param dayOfMonth  the day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    static long toEpochDay(int prolepticYear, int month, int dayOfMonth) {
+        return YEAR_STARTS[prolepticYear - MIN_YEAR] + dayOfYear(month, dayOfMonth) - 1;
+    }
+
+    /**
+     * Finds the year containing the epoch-day.
+     * <p>
+     * The year is estimated from the mean length of the year and then corrected,
+     * which requires at most two comparisons.
+     *
+     * @param epochDay  the epoch-day
+     * @return the year
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    static int yearOfEpochDay(long epochDay) {
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new DateTimeException("Invalid epoch-day for Persian calendar: " + epochDay);
+        }
+        int index = (int) (((epochDay - MIN_EPOCH_DAY) * 400) / 146097);
+        if (index > MAX_YEAR - MIN_YEAR) {
+            index = MAX_YEAR - MIN_YEAR;
+        }
+        while (YEAR_STARTS[index] > epochDay) {
+            index--;
+        }
+        while (YEAR_STARTS[index + 1] <= epochDay) {
+            index++;
+        }
+        return index + MIN_YEAR;
+    }
+
+    /**
+     * Converts an epoch-day to a packed date.
+     *
+     * @param epochDay  the epoch-day
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    static int packedOfEpochDay(long epochDay) {
+        int year = yearOfEpochDay(epochDay);
+        int doy0 = (int) (epochDay - YEAR_STARTS[year - MIN_YEAR]);
+        return PackedDates.packUnchecked(year, monthOfDayOfYear0(doy0), dayOfMonthOfDayOfYear0(doy0));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to year, month and day columns.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     */
+    static void toFields(long[] epochDays, int[] years, int[] months, int[] days) {
+        int length = epochDays.length;
+        if (years.length != length || months.length != length || days.length != length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < length; i++) {
+            long epochDay = epochDays[i];
+            int year = yearOfEpochDay(epochDay);
+            int doy0 = (int) (epochDay - YEAR_STARTS[year - MIN_YEAR]);
+            years[i] = year;
+            months[i] = monthOfDayOfYear0(doy0);
+            days[i] = dayOfMonthOfDayOfYear0(doy0);
+        }
+    }
+
+    /**
+     * Converts a buffer of epoch-days to year, month and day columns.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @return the number of epoch-days converted
+     * @throws IllegalArgumentException if the arrays are shorter than the remaining buffer
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     */
+    static int toFields(LongBuffer epochDays, int[] years, int[] months, int[] days) {
+        int count = epochDays.remaining();
+        if (years.length < count || months.length < count || days.length < count) {
+            throw new IllegalArgumentException("Arrays must not be shorter than the remaining buffer");
+        }
+        for (int i = 0; i < count; i++) {
+            long epochDay = epochDays.get();
+            int year = yearOfEpochDay(epochDay);
+            int doy0 = (int) (epochDay - YEAR_STARTS[year - MIN_YEAR]);
+            years[i] = year;
+            months[i] = monthOfDayOfYear0(doy0);
+            days[i] = dayOfMonthOfDayOfYear0(doy0);
+        }
+        return count;
+    }
+
+}
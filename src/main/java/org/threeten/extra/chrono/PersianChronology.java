@@ -1,8 +1,11 @@
 package org.threeten.extra.chrono;
 
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
 
 import java.io.Serializable;
+import java.nio.LongBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -25,30 +28,38 @@ import org.threeten.bp.temporal.ValueRange;
  * The Persian calendar system.
  * <p>
  * This chronology defines the rules of the Persian calendar system.
- * This calendar system is primarily used in Iran and Afghanistan.
- * Dates are aligned such that {@code 0001AM-01-01 (Persian)} is {@code 0284-08-29 (ISO)}.
+ * This calendar system is the Solar Hijri calendar, primarily used in Iran and Afghanistan.
+ * Dates are aligned such that {@code 0001AP-01-01 (Persian)} is {@code 0622-03-22 (ISO)}.
  * <p>
  * The fields are defined as follows:
  * <p><ul>
- * <li>era - There are two eras, the current 'Era of the Martyrs' (AM) and the previous era (ERA_ERA_BEFORE_AM).
+ * <li>era - There are two eras, the current era (AM) and the previous era (BEFORE_AM).
+ *  Only the current era is supported.
  * <li>year-of-era - The year-of-era for the current era increases uniformly from the epoch at year one.
- *  For the previous era the year increases from one as time goes backwards.
- * <li>proleptic-year - The proleptic year is the same as the year-of-era for the
- *  current era. For the previous era, years have zero, then negative values.
- * <li>month-of-year - There are 13 months in a Persian year, numbered from 1 to 13.
- * <li>day-of-month - There are 30 days in each of the first 12 Persian months, numbered 1 to 30.
- *  The 13th month has 5 days, or 6 in a leap year, numbered 1 to 5 or 1 to 6.
+ * <li>proleptic-year - The proleptic year is the same as the year-of-era for the current era.
+ *  The supported range is from 1 to 3000.
+ * <li>month-of-year - There are 12 months in a Persian year, numbered from 1 to 12.
+ * <li>day-of-month - There are 31 days in each of the first six months and 30 days in each
+ *  of the next five. The 12th month has 29 days, or 30 in a leap year.
  * <li>day-of-year - There are 365 days in a standard Persian year and 366 in a leap year.
  *  The days are numbered from 1 to 365 or 1 to 366.
- * <li>leap-year - Leap years occur every 4 years.
+ * <li>leap-year - The year starts on the day of the March equinox, which determines the leap years.
+ *  There are usually eight leap years in each 33 years.
  * </ul><p>
+ * Conversion to and from the epoch-day uses a table of the first day of each year,
+ * thus {@code isLeapYear}, {@code toEpochDay} and {@code ofEpochDay} are constant time.
+ * <p>
+ * Dates obtained using {@link #date(TemporalAccessor)} are cached by epoch-day, so
+ * repeated conversions of the same date return the same instance.
+ * The number of cached dates can be set using the system property
+ * {@code org.threeten.extra.chrono.dateCacheSize}, where zero disables the cache.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
  */
 public final class PersianChronology extends Chronology implements Serializable {
 
-	/**
+    /**
      * Singleton instance of the Persian chronology.
      */
     public static final PersianChronology INSTANCE = new PersianChronology();
@@ -56,23 +67,24 @@ public final class PersianChronology extends Chronology implements Serializable
     /**
      * Serialization version.
      */
-	private static final long serialVersionUID = 7414731895332135129L;
+    private static final long serialVersionUID = 7414731895332135129L;
     /**
      * Range of months.
      */
-    static final ValueRange MOY_RANGE = ValueRange.of(1, 13);
+    static final ValueRange MOY_RANGE = ValueRange.of(1, 12);
     /**
      * Range of days.
      */
-    static final ValueRange DOM_RANGE = ValueRange.of(1, 5, 30);
+    static final ValueRange DOM_RANGE = ValueRange.of(1, 29, 31);
     /**
-     * Range of days.
+     * Range of years.
      */
-    static final ValueRange DOM_RANGE_NONLEAP = ValueRange.of(1, 5);
+    static final ValueRange YEAR_RANGE = ValueRange.of(PersianCalendarTable.MIN_YEAR, PersianCalendarTable.MAX_YEAR);
+
     /**
-     * Range of days.
+     * Cache of dates converted by {@link #date(TemporalAccessor)}.
      */
-    static final ValueRange DOM_RANGE_LEAP = ValueRange.of(1, 6);
+    private static final EpochDayCache<PersianDate> CACHE = EpochDayCache.create();
 
     /**
      * Restricted constructor.
@@ -139,7 +151,11 @@ public final class PersianChronology extends Chronology implements Serializable
 
     @Override  // override with covariant return type
     public PersianDate dateYearDay(int prolepticYear, int dayOfYear) {
-        return new PersianDate(prolepticYear, (dayOfYear - 1) / 30 + 1, (dayOfYear - 1) % 30 + 1);
+        YEAR_RANGE.checkValidValue(prolepticYear, YEAR);
+        ValueRange.of(1, isLeapYear(prolepticYear) ? 366 : 365).checkValidValue(dayOfYear, DAY_OF_YEAR);
+        int doy0 = dayOfYear - 1;
+        return new PersianDate(prolepticYear,
+                PersianCalendarTable.monthOfDayOfYear0(doy0), PersianCalendarTable.dayOfMonthOfDayOfYear0(doy0));
     }
 
     //-----------------------------------------------------------------------
@@ -148,7 +164,13 @@ public final class PersianChronology extends Chronology implements Serializable
         if (temporal instanceof PersianDate) {
             return (PersianDate) temporal;
         }
-        return PersianDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
+        long epochDay = temporal.getLong(EPOCH_DAY);
+        PersianDate date = CACHE.get(epochDay);
+        if (date == null) {
+            date = PersianDate.ofEpochDay(epochDay);
+            CACHE.put(epochDay, date);
+        }
+        return date;
     }
 
     @Override  // override with covariant return type
@@ -187,16 +209,18 @@ public final class PersianChronology extends Chronology implements Serializable
     /**
      * Checks if the specified year is a leap year.
      * <p>
-     * A Persian proleptic-year is leap if the remainder after division by four equals three.
-     * This method does not validate the year passed in, and only has a
-     * well-defined result for years in the supported range.
+     * A Persian proleptic-year is leap if it has 366 days, which is determined
+     * by the day of the March equinox.
+     * This is a constant time lookup in the year-start table.
+     * This method does not validate the year passed in, and returns false
+     * for years outside the supported range.
      *
      * @param prolepticYear  the proleptic-year to check, not validated for range
      * @return true if the year is a leap year
      */
     @Override
     public boolean isLeapYear(long prolepticYear) {
-        return Jdk8Methods.floorMod(prolepticYear, 4) == 3;
+        return PersianCalendarTable.isLeapYear(prolepticYear);
     }
 
     @Override
@@ -217,16 +241,188 @@ public final class PersianChronology extends Chronology implements Serializable
         return Arrays.<Era>asList(PersianEra.values());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a Persian date into a single {@code int}.
+     * <p>
+     * The packed form holds the proleptic-year, month-of-year and day-of-month as bit-fields,
+     * allowing large numbers of dates to be held in primitive arrays such as {@link PackedDateArray}.
+     * Packed dates compare in the same order as the dates they represent,
+     * thus a sorted {@code int[]} of packed dates is in date order.
+     *
+     * @param prolepticYear  the Persian proleptic-year, from 1 to 3000
+     * @param month  the Persian month-of-year, from 1 to 12
+     * @param dayOfMonth  the Persian day-of-month, from 1 to 31
+     * @return the packed date
+     * @throws DateTimeException if the date is invalid
+     */
+    public static int pack(int prolepticYear, int month, int dayOfMonth) {
+        PersianDate.checkValid(prolepticYear, month, dayOfMonth);
+        return PackedDates.packUnchecked(prolepticYear, month, dayOfMonth);
+    }
+
+    /**
+     * Packs a Persian date into a single {@code int}.
+     *
+     * @param date  the date to pack, not null
+     * @return the packed date
+     */
+    public static int pack(PersianDate date) {
+        return date.toPacked();
+    }
+
+    /**
+     * Unpacks a Persian date from a single {@code int}.
+     *
+     * @param packed  the packed date
+     * @return the date, not null
+     * @throws DateTimeException if the packed value is not a valid date
+     */
+    public static PersianDate unpack(int packed) {
+        return new PersianDate(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Gets the proleptic-year of a packed Persian date.
+     *
+     * @param packed  the packed date
+     * @return the proleptic-year
+     */
+    public static int packedYear(int packed) {
+        return PackedDates.year(packed);
+    }
+
+    /**
+     * Gets the month-of-year of a packed Persian date.
+     *
+     * @param packed  the packed date
+     * @return the month-of-year, from 1 to 12
+     */
+    public static int packedMonth(int packed) {
+        return PackedDates.month(packed);
+    }
+
+    /**
+     * Gets the day-of-month of a packed Persian date.
+     *
+     * @param packed  the packed date
+     * @return the day-of-month, from 1 to 31
+     */
+    public static int packedDay(int packed) {
+        return PackedDates.day(packed);
+    }
+
+    /**
+     * Gets the length of the month of a packed Persian date.
+     *
+     * @param packed  the packed date
+     * @return the length of the month in days
+     */
+    public static int packedLengthOfMonth(int packed) {
+        return PersianCalendarTable.lengthOfMonth(PackedDates.year(packed), PackedDates.month(packed));
+    }
+
+    /**
+     * Compares two packed Persian dates.
+     * <p>
+     * This is the same as comparing the unpacked dates, but without creating them.
+     *
+     * @param packed1  the first packed date
+     * @param packed2  the second packed date
+     * @return the comparator value, negative if less, positive if greater
+     */
+    public static int compare(int packed1, int packed2) {
+        return (packed1 < packed2 ? -1 : (packed1 == packed2 ? 0 : 1));
+    }
+
+    /**
+     * Adds a number of days to a packed Persian date.
+     *
+     * @param packed  the packed date
+     * @param days  the days to add, may be negative
+     * @return the packed date with the days added
+     * @throws DateTimeException if the result is outside the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static int plusDays(int packed, long days) {
+        if (days == 0) {
+            return packed;
+        }
+        return packedOfEpochDay(Jdk8Methods.safeAdd(packedToEpochDay(packed), days));
+    }
+
+    /**
+     * Converts a packed Persian date to an epoch-day.
+     *
+     * @param packed  the packed date
+     * @return the epoch-day based on 1970-01-01 (ISO)
+     */
+    public static long packedToEpochDay(int packed) {
+        return PersianCalendarTable.toEpochDay(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Converts an epoch-day to a packed Persian date.
+     *
+     * @param epochDay  the epoch-day based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    public static int packedOfEpochDay(long epochDay) {
+        return PersianCalendarTable.packedOfEpochDay(epochDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to Persian year, month and day columns.
+     * <p>
+     * This is the batch form of {@link PersianDate#ofEpochDay(long)} using the same year-start table.
+     * No date objects are created.
+     * Element {@code i} of the input is written to element {@code i} of each column.
+     *
+     * @param epochDays  the epoch-days based on 1970-01-01 (ISO), not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     */
+    public static void epochDaysToFields(long[] epochDays, int[] years, int[] months, int[] days) {
+        PersianCalendarTable.toFields(epochDays, years, months, days);
+    }
+
+    /**
+     * Converts a buffer of epoch-days to Persian year, month and day columns.
+     * <p>
+     * This is the batch form of {@link PersianDate#ofEpochDay(long)} using the same year-start table.
+     * No date objects are created.
+     * The remaining epoch-days in the buffer are converted, advancing its position to the limit.
+     * The columns are filled from index zero.
+     *
+     * @param epochDays  the epoch-days based on 1970-01-01 (ISO), not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @return the number of epoch-days converted
+     * @throws IllegalArgumentException if the arrays are shorter than the remaining buffer
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     */
+    public static int epochDaysToFields(LongBuffer epochDays, int[] years, int[] months, int[] days) {
+        return PersianCalendarTable.toFields(epochDays, years, months, days);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ValueRange range(ChronoField field) {
         switch (field) {
-            case DAY_OF_MONTH: return ValueRange.of(1, 5, 30);
-            case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, 1, 5);
-            case MONTH_OF_YEAR: return ValueRange.of(1, 13);
+            case DAY_OF_MONTH: return DOM_RANGE;
+            case DAY_OF_YEAR: return ValueRange.of(1, 365, 366);
+            case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, 5);
+            case MONTH_OF_YEAR: return MOY_RANGE;
             case EPOCH_MONTH: return ValueRange.of(-1000, 1000);  // TODO
-            case YEAR_OF_ERA: return ValueRange.of(1, 999, 1000);  // TODO
-            case YEAR: return ValueRange.of(-1000, 1000);  // TODO
+            case YEAR_OF_ERA: return YEAR_RANGE;
+            case YEAR: return YEAR_RANGE;
+            case EPOCH_DAY: return ValueRange.of(PersianCalendarTable.MIN_EPOCH_DAY, PersianCalendarTable.MAX_EPOCH_DAY);
         }
         return field.range();
     }
@@ -5,14 +5,13 @@ import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.ERA;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 
 import java.io.Serializable;
 
 import org.threeten.bp.DateTimeException;
-import org.threeten.bp.LocalDate;
 import org.threeten.bp.Period;
-import org.threeten.bp.Year;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.jdk8.DefaultInterfaceChronoLocalDate;
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -41,10 +40,6 @@ public final class PersianDate
      * Serialization version.
      */
 	private static final long serialVersionUID = 3796406004087932495L;
-    /**
-     * The difference between the Persian and Persian epoch day count.
-     */
-    private static final int EPOCH_DAY_DIFFERENCE = 574971 + 40587;
 
     /**
      * The proleptic year.
@@ -79,47 +74,47 @@ public final class PersianDate
      *
      * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
      * @return the Persian date, not null
-     * @throws DateTimeException if the date is invalid
+     * @throws DateTimeException if the date is outside the supported range
      */
     public static PersianDate ofEpochDay(long epochDay) {
-        // TODO: validate
-//        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
-//            throw new CalendricalRuleException("Date exceeds supported range for PersianDate", Persian.YEAR);
-//        }
-        epochDay += EPOCH_DAY_DIFFERENCE;
-        int prolepticYear = (int) (((epochDay * 4) + 1463) / 1461);
-        int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
-        int doy0 = (int) (epochDay - startYearEpochDay);
-        int month = doy0 / 30 + 1;
-        int dom = doy0 % 30 + 1;
-        return new PersianDate(prolepticYear, month, dom);
+        int prolepticYear = PersianCalendarTable.yearOfEpochDay(epochDay);
+        int doy0 = (int) (epochDay - PersianCalendarTable.yearStart(prolepticYear));
+        return new PersianDate(prolepticYear,
+                PersianCalendarTable.monthOfDayOfYear0(doy0), PersianCalendarTable.dayOfMonthOfDayOfYear0(doy0));
     }
 
     private static PersianDate resolvePreviousValid(int prolepticYear, int month, int day) {
-        if (month == 13 && day > 5) {
-            day = PersianChronology.INSTANCE.isLeapYear(prolepticYear) ? 6 : 5;
-        }
+        PersianCalendarTable.checkValidYear(prolepticYear);
+        PersianChronology.MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
+        day = Math.min(day, PersianCalendarTable.lengthOfMonth(prolepticYear, month));
         return new PersianDate(prolepticYear, month, day);
     }
 
+    /**
+     * Validates the year, month and day against the Persian calendar.
+     *
+     * @param prolepticYear  the Persian proleptic-year
+     * @param month  the Persian month, from 1 to 12
+     * @param dayOfMonth  the Persian day-of-month, from 1 to 31
+     * @throws DateTimeException if the date is invalid
+     */
+    static void checkValid(int prolepticYear, int month, int dayOfMonth) {
+        PersianCalendarTable.checkValidYear(prolepticYear);
+        PersianChronology.MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
+        ValueRange.of(1, PersianCalendarTable.lengthOfMonth(prolepticYear, month)).checkValidValue(dayOfMonth, DAY_OF_MONTH);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an instance.
      *
-     * @param prolepticYear  the Persian proleptic-year
-     * @param month  the Persian month, from 1 to 13
-     * @param dayOfMonth  the Persian day-of-month, from 1 to 30
+     * @param prolepticYear  the Persian proleptic-year, from 1 to 3000
+     * @param month  the Persian month, from 1 to 12
+     * @param dayOfMonth  the Persian day-of-month, from 1 to 31
      * @throws DateTimeException if the date is invalid
      */
     PersianDate(int prolepticYear, int month, int dayOfMonth) {
-        PersianChronology.MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
-        ValueRange range;
-        if (month == 13) {
-            range = PersianChronology.INSTANCE.isLeapYear(prolepticYear) ? PersianChronology.DOM_RANGE_LEAP : PersianChronology.DOM_RANGE_NONLEAP;
-        } else {
-            range = PersianChronology.DOM_RANGE;
-        }
-        range.checkValidValue(dayOfMonth, DAY_OF_MONTH);
+        checkValid(prolepticYear, month, dayOfMonth);
 
         this.prolepticYear = prolepticYear;
         this.month = (short) month;
@@ -145,12 +140,7 @@ public final class PersianDate
     //-----------------------------------------------------------------------
     @Override
     public int lengthOfMonth() {
-        switch (month) {
-            case 13:
-                return (isLeapYear() ? 6 : 5);
-            default:
-                return 30;
-        }
+        return PersianCalendarTable.lengthOfMonth(prolepticYear, month);
     }
 
     @Override
@@ -169,10 +159,9 @@ public final class PersianDate
                 switch (f) {
                     case DAY_OF_MONTH: return ValueRange.of(1, lengthOfMonth());
                     case DAY_OF_YEAR: return ValueRange.of(1, lengthOfYear());
-                    case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, month == 13 ? 1 : 5);
+                    case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, 5);
                     case YEAR:
-                    case YEAR_OF_ERA: return (prolepticYear <= 0 ?
-                            ValueRange.of(1, Year.MAX_VALUE + 1) : ValueRange.of(1, Year.MAX_VALUE));  // TODO
+                    case YEAR_OF_ERA: return PersianChronology.YEAR_RANGE;
                 }
                 return getChronology().range(f);
             }
@@ -204,7 +193,7 @@ public final class PersianDate
     }
 
     private int getDayOfYear() {
-        return (month - 1) * 30 + day;
+        return PersianCalendarTable.dayOfYear(month, day);
     }
 
     private int getDayOfWeek() {
@@ -228,8 +217,12 @@ public final class PersianDate
                 case ALIGNED_DAY_OF_WEEK_IN_MONTH: return plusDays(newValue - getLong(ALIGNED_DAY_OF_WEEK_IN_MONTH));
                 case ALIGNED_DAY_OF_WEEK_IN_YEAR: return plusDays(newValue - getLong(ALIGNED_DAY_OF_WEEK_IN_YEAR));
                 case DAY_OF_MONTH: return resolvePreviousValid(prolepticYear, month, nvalue);
-                case DAY_OF_YEAR: return resolvePreviousValid(prolepticYear, ((nvalue - 1) / 30) + 1, ((nvalue - 1) % 30) + 1);
-                case EPOCH_DAY: return ofEpochDay(nvalue);
+                case DAY_OF_YEAR: {
+                    int doy0 = Math.min(nvalue, lengthOfYear()) - 1;
+                    return new PersianDate(prolepticYear,
+                            PersianCalendarTable.monthOfDayOfYear0(doy0), PersianCalendarTable.dayOfMonthOfDayOfYear0(doy0));
+                }
+                case EPOCH_DAY: return ofEpochDay(newValue);
                 case ALIGNED_WEEK_OF_MONTH: return plusDays((newValue - getLong(ALIGNED_WEEK_OF_MONTH)) * 7);
                 case ALIGNED_WEEK_OF_YEAR: return plusDays((newValue - getLong(ALIGNED_WEEK_OF_YEAR)) * 7);
                 case MONTH_OF_YEAR: return resolvePreviousValid(prolepticYear, nvalue, day);
@@ -270,17 +263,17 @@ public final class PersianDate
 
     //-----------------------------------------------------------------------
     private PersianDate plusYears(long years) {
-        return plusMonths(Jdk8Methods.safeMultiply(years, 13));
+        return plusMonths(Jdk8Methods.safeMultiply(years, 12));
     }
 
     private PersianDate plusMonths(long months) {
         if (months == 0) {
             return this;
         }
-        long curEm = prolepticYear * 13L + (month - 1);
+        long curEm = getProlepticMonth();
         long calcEm = Jdk8Methods.safeAdd(curEm, months);
-        int newYear = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(calcEm, 13));
-        int newMonth = Jdk8Methods.floorMod(calcEm, 13) + 1;
+        int newYear = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(calcEm, 12));
+        int newMonth = Jdk8Methods.floorMod(calcEm, 12) + 1;
         return resolvePreviousValid(newYear, newMonth, day);
     }
 
@@ -348,22 +341,102 @@ public final class PersianDate
             throw new DateTimeException("Unable to calculate period between two different chronologies");
         }
         if (unit instanceof ChronoUnit) {
-            return LocalDate.from(this).periodUntil(end, unit);  // TODO: this is wrong
+            PersianDate endDate = getChronology().date(end);
+            switch ((ChronoUnit) unit) {
+                case DAYS: return daysUntil(endDate);
+                case WEEKS: return daysUntil(endDate) / 7;
+                case MONTHS: return monthsUntil(endDate);
+                case YEARS: return monthsUntil(endDate) / 12;
+                case DECADES: return monthsUntil(endDate) / 120;
+                case CENTURIES: return monthsUntil(endDate) / 1200;
+                case MILLENNIA: return monthsUntil(endDate) / 12000;
+                case ERAS: return endDate.getLong(ERA) - getLong(ERA);
+            }
+            throw new DateTimeException("Unsupported unit: " + unit.getName());
         }
         return unit.between(this, endDateTime);
     }
 
     @Override
     public Period periodUntil(ChronoLocalDate<?> endDate) {
-        throw new UnsupportedOperationException();
+        if (getChronology().equals(endDate.getChronology()) == false) {
+            throw new DateTimeException("Unable to calculate period between two different chronologies");
+        }
+        PersianDate end = getChronology().date(endDate);
+        long totalMonths = end.getProlepticMonth() - getProlepticMonth();  // safe
+        int days = end.day - day;
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            PersianDate calcDate = plusMonths(totalMonths);
+            days = (int) (end.toEpochDay() - calcDate.toEpochDay());  // safe
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        long years = totalMonths / 12;  // safe
+        int months = (int) (totalMonths % 12);  // safe
+        return Period.of(Jdk8Methods.safeToInt(years), months, days);
+    }
+
+    private long getProlepticMonth() {
+        return prolepticYear * 12L + (month - 1);
+    }
+
+    private long daysUntil(PersianDate end) {
+        return end.toEpochDay() - toEpochDay();  // no overflow
+    }
+
+    private long monthsUntil(PersianDate end) {
+        long packed1 = getProlepticMonth() * 32L + day;  // no overflow
+        long packed2 = end.getProlepticMonth() * 32L + end.day;  // no overflow
+        return (packed2 - packed1) / 32;
+    }
+
+    /**
+     * Packs this date into a single {@code int}.
+     *
+     * @return the packed date
+     */
+    int toPacked() {
+        return PackedDates.packUnchecked(prolepticYear, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a range of every day from this date to the end date.
+     * <p>
+     * The range is lazy and its iterator does not convert each epoch-day back to a date.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the range of dates, not null
+     * @throws IllegalArgumentException if the end date is before this date
+     */
+    public ChronoDateRange<PersianDate> datesUntil(PersianDate endExclusive) {
+        return ChronoDateRange.persian(this, endExclusive);
+    }
+
+    /**
+     * Returns a range of dates from this date to the end date stepping by the specified amount.
+     * <p>
+     * The step is a positive number of days, weeks or months.
+     * When stepping by months the day-of-month is reduced to the last valid day of
+     * the month if necessary, as per {@link #plus(long, TemporalUnit)}.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @param amount  the amount of the step, positive
+     * @param unit  the unit of the step, DAYS, WEEKS or MONTHS, not null
+     * @return the range of dates, not null
+     * @throws IllegalArgumentException if the end date is before this date or the amount is not positive
+     * @throws DateTimeException if the unit is not supported
+     */
+    public ChronoDateRange<PersianDate> datesUntil(PersianDate endExclusive, int amount, TemporalUnit unit) {
+        return ChronoDateRange.persian(this, endExclusive, amount, unit);
     }
 
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = (long) prolepticYear;
-        long persianEpochDay = ((year - 1) * 365) + Jdk8Methods.floorDiv(year, 4) + (getDayOfYear() - 1);
-        return persianEpochDay - EPOCH_DAY_DIFFERENCE;
+        return PersianCalendarTable.toEpochDay(prolepticYear, month, day);
     }
 
 }
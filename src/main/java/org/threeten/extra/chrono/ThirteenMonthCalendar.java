@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+
+import java.nio.LongBuffer;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Period;
+import org.threeten.bp.Year;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * The shared arithmetic of calendar systems with twelve months of 30 days
+ * followed by a thirteenth month of five days, or six in a leap year.
+ * <p>
+ * The Coptic and Ethiopic calendar systems differ only in their epoch, thus both
+ * date classes delegate to a single instance of this class parameterized by the
+ * epoch-day offset. Keeping the arithmetic in one final class means there is a
+ * single implementation of each operation for the JIT to compile.
+ * <p>
+ * The year, month and day results are returned as a single {@code long},
+ * using the same bit layout as {@link PackedDates} but with the full {@code int}
+ * range of years. This avoids creating intermediate date objects.
+ * Leap years occur every four years, when the remainder after dividing the
+ * proleptic-year by four is three.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class ThirteenMonthCalendar {
+
+    /**
+     * The arithmetic of the Coptic calendar system.
+     */
+    static final ThirteenMonthCalendar COPTIC = new ThirteenMonthCalendar(574971 + 40587, "CopticDate");
+    /**
+     * The arithmetic of the Ethiopic calendar system, whose years are numbered 276 higher than the Coptic.
+     */
+    static final ThirteenMonthCalendar ETHIOPIC = new ThirteenMonthCalendar(574971 + 40587 + 276 / 4 * 1461, "EthiopicDate");
+    /**
+     * Range of months.
+     */
+    static final ValueRange MOY_RANGE = ValueRange.of(1, 13);
+    /**
+     * Range of days.
+     */
+    static final ValueRange DOM_RANGE = ValueRange.of(1, 5, 30);
+    /**
+     * Range of days.
+     */
+    static final ValueRange DOM_RANGE_NONLEAP = ValueRange.of(1, 5);
+    /**
+     * Range of days.
+     */
+    static final ValueRange DOM_RANGE_LEAP = ValueRange.of(1, 6);
+
+    /**
+     * The calendar epoch-day of 1970-01-01 (ISO).
+     */
+    private final long epochDayDifference;
+    /**
+     * The name of the date class, used in error messages.
+     */
+    private final String dateName;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param epochDayDifference  the calendar epoch-day of 1970-01-01 (ISO)
+     * @param dateName  the name of the date class, not null
+     */
+    private ThirteenMonthCalendar(long epochDayDifference, String dateName) {
+        this.epochDayDifference = epochDayDifference;
+        this.dateName = dateName;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Combines a year, month and day into a single {@code long}.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year, from 1 to 13
+     * @param dayOfMonth  the day-of-month, from 1 to 30
+     * @return the combined value
+     */
+    static long ymd(int prolepticYear, int month, int dayOfMonth) {
+        return ((long) prolepticYear << 9) | (month << 5) | dayOfMonth;
+    }
+
+    static int year(long ymd) {
+        return (int) (ymd >> 9);
+    }
+
+    static int month(long ymd) {
+        return (int) (ymd >>> 5) & 0xF;
+    }
+
+    static int day(long ymd) {
+        return (int) ymd & 0x1F;
+    }
+
+    //-----------------------------------------------------------------------
+    static boolean isLeapYear(long prolepticYear) {
+        return Jdk8Methods.floorMod(prolepticYear, 4) == 3;
+    }
+
+    static int lengthOfMonth(int prolepticYear, int month) {
+        return (month == 13 ? (isLeapYear(prolepticYear) ? 6 : 5) : 30);
+    }
+
+    static int dayOfYear(int month, int dayOfMonth) {
+        return (month - 1) * 30 + dayOfMonth;
+    }
+
+    /**
+     * Validates a date.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @throws DateTimeException if the date is invalid
+     */
+    static void checkValid(int prolepticYear, int month, int dayOfMonth) {
+        MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
+        ValueRange range;
+        if (month == 13) {
+            range = isLeapYear(prolepticYear) ? DOM_RANGE_LEAP : DOM_RANGE_NONLEAP;
+        } else {
+            range = DOM_RANGE;
+        }
+        range.checkValidValue(dayOfMonth, DAY_OF_MONTH);
+    }
+
+    /**
+     * Obtains a date from the year and day-of-year.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param dayOfYear  the day-of-year, from 1 to 366
+     * @return the combined year, month and day
+     */
+    static long ofYearDay(int prolepticYear, int dayOfYear) {
+        return ymd(prolepticYear, (dayOfYear - 1) / 30 + 1, (dayOfYear - 1) % 30 + 1);
+    }
+
+    /**
+     * Resolves a date, reducing the day-of-month to the end of the month if necessary.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @return the combined year, month and day
+     */
+    static long resolvePreviousValid(int prolepticYear, int month, int dayOfMonth) {
+        if (month == 13 && dayOfMonth > 5) {
+            dayOfMonth = isLeapYear(prolepticYear) ? 6 : 5;
+        }
+        return ymd(prolepticYear, month, dayOfMonth);
+    }
+
+    static long prolepticMonth(int prolepticYear, int month) {
+        return prolepticYear * 13L + (month - 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a date to an epoch-day.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @return the epoch-day based on 1970-01-01 (ISO)
+     */
+    long toEpochDay(int prolepticYear, int month, int dayOfMonth) {
+        long year = (long) prolepticYear;
+        long calendarEpochDay = ((year - 1) * 365) + Jdk8Methods.floorDiv(year, 4) + (dayOfYear(month, dayOfMonth) - 1);
+        return calendarEpochDay - epochDayDifference;
+    }
+
+    /**
+     * Converts an epoch-day to a date.
+     *
+     * @param epochDay  the epoch-day based on 1970-01-01 (ISO)
+     * @return the combined year, month and day
+     * @throws ArithmeticException if the year exceeds an {@code int}
+     */
+    long ofEpochDay(long epochDay) {
+        long calendarEpochDay = Jdk8Methods.safeAdd(epochDay, epochDayDifference);
+        int prolepticYear = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(Jdk8Methods.safeMultiply(calendarEpochDay, 4) + 1463, 1461));
+        long startYearEpochDay = (prolepticYear - 1) * 365L + Jdk8Methods.floorDiv(prolepticYear, 4);
+        int doy0 = (int) (calendarEpochDay - startYearEpochDay);
+        return ymd(prolepticYear, doy0 / 30 + 1, doy0 % 30 + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the range of a field for a date.
+     *
+     * @param field  the date field, not null
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @return the range, not null
+     */
+    static ValueRange range(ChronoField field, int prolepticYear, int month) {
+        switch (field) {
+            case DAY_OF_MONTH: return ValueRange.of(1, lengthOfMonth(prolepticYear, month));
+            case DAY_OF_YEAR: return ValueRange.of(1, isLeapYear(prolepticYear) ? 366 : 365);
+            case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, month == 13 ? 1 : 5);
+            case YEAR:
+            case YEAR_OF_ERA: return (prolepticYear <= 0 ?
+                    ValueRange.of(1, Year.MAX_VALUE + 1) : ValueRange.of(1, Year.MAX_VALUE));  // TODO
+        }
+        return range(field);
+    }
+
+    /**
+     * Gets the range of a field for the calendar system.
+     *
+     * @param field  the field, not null
+     * @return the range, not null
+     */
+    static ValueRange range(ChronoField field) {
+        switch (field) {
+            case DAY_OF_MONTH: return ValueRange.of(1, 5, 30);
+            case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, 1, 5);
+            case MONTH_OF_YEAR: return ValueRange.of(1, 13);
+            case EPOCH_MONTH: return ValueRange.of(-1000, 1000);  // TODO
+            case YEAR_OF_ERA: return ValueRange.of(1, 999, 1000);  // TODO
+            case YEAR: return ValueRange.of(-1000, 1000);  // TODO
+        }
+        return field.range();
+    }
+
+    /**
+     * Gets the value of a date field.
+     *
+     * @param field  the date field, not null
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @return the value
+     * @throws DateTimeException if the field is not supported
+     */
+    long getLong(ChronoField field, int prolepticYear, int month, int dayOfMonth) {
+        switch (field) {
+            case DAY_OF_WEEK: return getDayOfWeek(prolepticYear, month, dayOfMonth);
+            case ALIGNED_DAY_OF_WEEK_IN_MONTH: return ((dayOfMonth - 1) % 7) + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_YEAR: return ((dayOfYear(month, dayOfMonth) - 1) % 7) + 1;
+            case DAY_OF_MONTH: return dayOfMonth;
+            case DAY_OF_YEAR: return dayOfYear(month, dayOfMonth);
+            case EPOCH_DAY: return toEpochDay(prolepticYear, month, dayOfMonth);
+            case ALIGNED_WEEK_OF_MONTH: return ((dayOfMonth - 1) / 7) + 1;
+            case ALIGNED_WEEK_OF_YEAR: return ((dayOfYear(month, dayOfMonth) - 1) / 7) + 1;
+            case MONTH_OF_YEAR: return month;
+            case YEAR_OF_ERA: return (prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+            case YEAR: return prolepticYear;
+            case ERA: return (prolepticYear >= 1 ? 1 : 0);
+        }
+        throw new DateTimeException("Unsupported field: " + field.getName());
+    }
+
+    private int getDayOfWeek(int prolepticYear, int month, int dayOfMonth) {
+        return Jdk8Methods.floorMod(toEpochDay(prolepticYear, month, dayOfMonth) + 3, 7) + 1;
+    }
+
+    /**
+     * Returns a date with the specified field altered.
+     *
+     * @param field  the date field, not null
+     * @param newValue  the new value of the field
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @return the combined year, month and day of the result
+     * @throws DateTimeException if the field is not supported or the value is invalid
+     */
+    long with(ChronoField field, long newValue, int prolepticYear, int month, int dayOfMonth) {
+        field.checkValidValue(newValue);        // TODO: validate value
+        int nvalue = (int) newValue;
+        switch (field) {
+            case DAY_OF_WEEK:
+                return plusDays(prolepticYear, month, dayOfMonth, newValue - getDayOfWeek(prolepticYear, month, dayOfMonth));
+            case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+            case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                return plusDays(prolepticYear, month, dayOfMonth, newValue - getLong(field, prolepticYear, month, dayOfMonth));
+            case DAY_OF_MONTH: return resolvePreviousValid(prolepticYear, month, nvalue);
+            case DAY_OF_YEAR: return resolvePreviousValid(prolepticYear, ((nvalue - 1) / 30) + 1, ((nvalue - 1) % 30) + 1);
+            case EPOCH_DAY: return ofEpochDay(newValue);
+            case ALIGNED_WEEK_OF_MONTH:
+            case ALIGNED_WEEK_OF_YEAR:
+                return plusDays(prolepticYear, month, dayOfMonth, (newValue - getLong(field, prolepticYear, month, dayOfMonth)) * 7);
+            case MONTH_OF_YEAR: return resolvePreviousValid(prolepticYear, nvalue, dayOfMonth);
+            case YEAR_OF_ERA: return resolvePreviousValid(prolepticYear >= 1 ? nvalue : 1 - nvalue, month, dayOfMonth);
+            case YEAR: return resolvePreviousValid(nvalue, month, dayOfMonth);
+            case ERA: return resolvePreviousValid(1 - prolepticYear, month, dayOfMonth);
+        }
+        throw new DateTimeException("Unsupported field: " + field.getName());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds an amount of a unit to a date.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @param amountToAdd  the amount to add, may be negative
+     * @param unit  the unit, not null
+     * @return the combined year, month and day of the result
+     * @throws DateTimeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    long plus(int prolepticYear, int month, int dayOfMonth, long amountToAdd, ChronoUnit unit) {
+        switch (unit) {
+            case DAYS: return plusDays(prolepticYear, month, dayOfMonth, amountToAdd);
+            case WEEKS: return plusDays(prolepticYear, month, dayOfMonth, Jdk8Methods.safeMultiply(amountToAdd, 7));
+            case MONTHS: return plusMonths(prolepticYear, month, dayOfMonth, amountToAdd);
+            case YEARS: return plusYears(prolepticYear, month, dayOfMonth, amountToAdd);
+            case DECADES: return plusYears(prolepticYear, month, dayOfMonth, Jdk8Methods.safeMultiply(amountToAdd, 10));
+            case CENTURIES: return plusYears(prolepticYear, month, dayOfMonth, Jdk8Methods.safeMultiply(amountToAdd, 100));
+            case MILLENNIA: return plusYears(prolepticYear, month, dayOfMonth, Jdk8Methods.safeMultiply(amountToAdd, 1000));
+        }
+        throw new DateTimeException(unit.getName() + " not valid for " + dateName);
+    }
+
+    private static long plusYears(int prolepticYear, int month, int dayOfMonth, long years) {
+        return plusMonths(prolepticYear, month, dayOfMonth, Jdk8Methods.safeMultiply(years, 13));
+    }
+
+    static long plusMonths(int prolepticYear, int month, int dayOfMonth, long months) {
+        if (months == 0) {
+            return ymd(prolepticYear, month, dayOfMonth);
+        }
+        long calcEm = Jdk8Methods.safeAdd(prolepticMonth(prolepticYear, month), months);
+        int newYear = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(calcEm, 13));
+        int newMonth = Jdk8Methods.floorMod(calcEm, 13) + 1;
+        return resolvePreviousValid(newYear, newMonth, dayOfMonth);
+    }
+
+    long plusDays(int prolepticYear, int month, int dayOfMonth, long days) {
+        if (days == 0) {
+            return ymd(prolepticYear, month, dayOfMonth);
+        }
+        return ofEpochDay(Jdk8Methods.safeAdd(toEpochDay(prolepticYear, month, dayOfMonth), days));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the amount of time between two dates in terms of a unit.
+     *
+     * @param start  the combined year, month and day of the start date
+     * @param end  the combined year, month and day of the end date
+     * @param unit  the unit, not null
+     * @return the amount of time, negative if the end is before the start
+     * @throws DateTimeException if the unit is not supported
+     */
+    long until(long start, long end, ChronoUnit unit) {
+        switch (unit) {
+            case DAYS: return daysUntil(start, end);
+            case WEEKS: return daysUntil(start, end) / 7;
+            case MONTHS: return monthsUntil(start, end);
+            case YEARS: return monthsUntil(start, end) / 13;
+            case DECADES: return monthsUntil(start, end) / 130;
+            case CENTURIES: return monthsUntil(start, end) / 1300;
+            case MILLENNIA: return monthsUntil(start, end) / 13000;
+            case ERAS: return (year(end) >= 1 ? 1 : 0) - (year(start) >= 1 ? 1 : 0);
+        }
+        throw new DateTimeException("Unsupported unit: " + unit.getName());
+    }
+
+    /**
+     * Calculates the period between two dates.
+     *
+     * @param start  the combined year, month and day of the start date
+     * @param end  the combined year, month and day of the end date
+     * @return the period, not null
+     */
+    Period periodUntil(long start, long end) {
+        long totalMonths = prolepticMonth(year(end), month(end)) - prolepticMonth(year(start), month(start));  // safe
+        int days = day(end) - day(start);
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            long calcDate = plusMonths(year(start), month(start), day(start), totalMonths);
+            days = (int) daysUntil(calcDate, end);  // safe
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= lengthOfMonth(year(end), month(end));
+        }
+        long years = totalMonths / 13;  // safe
+        int months = (int) (totalMonths % 13);  // safe
+        return Period.of(Jdk8Methods.safeToInt(years), months, days);
+    }
+
+    private long daysUntil(long start, long end) {
+        return toEpochDay(year(end), month(end), day(end)) - toEpochDay(year(start), month(start), day(start));  // no overflow
+    }
+
+    private static long monthsUntil(long start, long end) {
+        long packed1 = prolepticMonth(year(start), month(start)) * 32L + day(start);  // no overflow
+        long packed2 = prolepticMonth(year(end), month(end)) * 32L + day(end);  // no overflow
+        return (packed2 - packed1) / 32;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Packs a date, validating the fields.
+     *
+     * @param prolepticYear  the proleptic-year, from PackedDates.MIN_YEAR to PackedDates.MAX_YEAR
+     * @param month  the month-of-year, from 1 to 13
+     * @param dayOfMonth  the day-of-month, from 1 to 30
+     * @return the packed date
+     * @throws DateTimeException if the date is invalid
+     */
+    static int pack(int prolepticYear, int month, int dayOfMonth) {
+        checkPackedYear(prolepticYear);
+        if (month < 1 || month > 13) {
+            throw new DateTimeException("Invalid month-of-year: " + month);
+        }
+        if (dayOfMonth < 1 || dayOfMonth > lengthOfMonth(prolepticYear, month)) {
+            throw new DateTimeException("Invalid day-of-month: " + dayOfMonth);
+        }
+        return PackedDates.packUnchecked(prolepticYear, month, dayOfMonth);
+    }
+
+    static void checkPackedYear(long prolepticYear) {
+        if (prolepticYear < PackedDates.MIN_YEAR || prolepticYear > PackedDates.MAX_YEAR) {
+            throw new DateTimeException("Invalid year for packed date: " + prolepticYear);
+        }
+    }
+
+    /**
+     * Converts a packed date to an epoch-day.
+     *
+     * @param packed  the packed date
+     * @return the epoch-day based on 1970-01-01 (ISO)
+     */
+    long packedToEpochDay(int packed) {
+        return toEpochDay(PackedDates.year(packed), PackedDates.month(packed), PackedDates.day(packed));
+    }
+
+    /**
+     * Converts an epoch-day to a packed date.
+     *
+     * @param epochDay  the epoch-day based on 1970-01-01 (ISO)
+     * @return the packed date
+     * @throws DateTimeException if the year is outside the packed range
+     */
+    int packedOfEpochDay(long epochDay) {
+        long calendarEpochDay = Jdk8Methods.safeAdd(epochDay, epochDayDifference);
+        long year = Jdk8Methods.floorDiv(Jdk8Methods.safeMultiply(calendarEpochDay, 4) + 1463, 1461);
+        checkPackedYear(year);
+        long startYearEpochDay = (year - 1) * 365 + Jdk8Methods.floorDiv(year, 4);
+        int doy0 = (int) (calendarEpochDay - startYearEpochDay);
+        return PackedDates.packUnchecked((int) year, doy0 / 30 + 1, doy0 % 30 + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to year, month and day columns.
+     *
+     * @param epochDays  the epoch-days based on 1970-01-01 (ISO), not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if numeric overflow occurs or a year exceeds an {@code int}
+     */
+    void toFields(long[] epochDays, int[] years, int[] months, int[] days) {
+        int length = epochDays.length;
+        if (years.length != length || months.length != length || days.length != length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        for (int i = 0; i < length; i++) {
+            long calendarEpochDay = Jdk8Methods.safeAdd(epochDays[i], epochDayDifference);
+            int year = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(Jdk8Methods.safeMultiply(calendarEpochDay, 4) + 1463, 1461));
+            int doy0 = (int) (calendarEpochDay - ((year - 1) * 365L + Jdk8Methods.floorDiv(year, 4)));
+            years[i] = year;
+            months[i] = doy0 / 30 + 1;
+            days[i] = doy0 % 30 + 1;
+        }
+    }
+
+    /**
+     * Converts a buffer of epoch-days to year, month and day columns.
+     * <p>
+     * The remaining epoch-days in the buffer are converted, advancing the
+     * position to the limit. The columns are filled from index zero.
+     *
+     * @param epochDays  the epoch-days based on 1970-01-01 (ISO), not null
+     * @param years  the array to store the proleptic-years in, not null
+     * @param months  the array to store the month-of-years in, not null
+     * @param days  the array to store the day-of-months in, not null
+     * @return the number of epoch-days converted
+     * @throws IllegalArgumentException if the arrays are shorter than the remaining buffer
+     * @throws ArithmeticException if numeric overflow occurs or a year exceeds an {@code int}
+     */
+    int toFields(LongBuffer epochDays, int[] years, int[] months, int[] days) {
+        int count = epochDays.remaining();
+        if (years.length < count || months.length < count || days.length < count) {
+            throw new IllegalArgumentException("Arrays must not be shorter than the remaining buffer");
+        }
+        for (int i = 0; i < count; i++) {
+            long calendarEpochDay = Jdk8Methods.safeAdd(epochDays.get(), epochDayDifference);
+            int year = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(Jdk8Methods.safeMultiply(calendarEpochDay, 4) + 1463, 1461));
+            int doy0 = (int) (calendarEpochDay - ((year - 1) * 365L + Jdk8Methods.floorDiv(year, 4)));
+            years[i] = year;
+            months[i] = doy0 / 30 + 1;
+            days[i] = doy0 % 30 + 1;
+        }
+        return count;
+    }
+
+}
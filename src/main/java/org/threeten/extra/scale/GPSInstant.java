@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An instantaneous point on the time-line measured in the GPS time-scale.
+ * <p>
+ * GPS time is the time-scale broadcast by the Global Positioning System and emitted
+ * by most GNSS receivers. It is a single incrementing count of SI seconds from
+ * the epoch of {@code 1980-01-06T00:00:00(GPS)}, which was also midnight UTC.
+ * There are no leap seconds or other discontinuities.
+ * <p>
+ * GPS and TAI differ by the fixed amount of 19 seconds, thus all conversions
+ * to and from UTC are performed by adding a constant and delegating to the TAI
+ * conversion of the leap second rules. The static {@code convertToUTC} methods
+ * perform this conversion for arrays of primitive timestamps without creating
+ * an object per timestamp.
+ * <p>
+ * The duration between two points on the GPS time-scale is calculated solely using this class.
+ * Do not use the {@code between} method on {@code Duration} as that will lose information.
+ * Instead use {@link #durationUntil(GPSInstant)} on this class.
+ *
+ * <h4>Time-scale</h4>
+ * <p>
+ * GPS time is defined as {@code TAI - 19s}. Receivers commonly report it as a week
+ * number and second-of-week, where week zero starts at the epoch. This class uses a full
+ * week number rather than the 10 or 13 bit rolling number of the broadcast navigation message.
+ * <p>
+ * This class may be used for instants in the far past and far future.
+ * Since some instants will be prior to 1980, it is a proleptic time-scale based on GPS.
+ *
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class GPSInstant
+        implements Comparable<GPSInstant>, Serializable {
+
+    /**
+     * Constant for nanos per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000000000;
+    /**
+     * Constant for seconds per week.
+     */
+    private static final int SECS_PER_WEEK = 7 * 24 * 60 * 60;
+    /**
+     * The TAI seconds of the GPS epoch, 1980-01-06T00:00:19(TAI).
+     */
+    private static final long TAI_SECONDS_AT_EPOCH = (44244L - 36204L) * 86400L + 19L;
+    /**
+     * Parse regex.
+     */
+    private static final Pattern PARSER = Pattern.compile("([-]?[0-9]+)\\.([0-9]{9})s[(]GPS[)]");
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 4316518371638342019L;
+
+    /**
+     * The number of seconds from the epoch of 1980-01-06T00:00:00(GPS).
+     */
+    private final long seconds;
+    /**
+     * The number of nanoseconds, later along the time-line, from the seconds field.
+     * This is always positive, and never exceeds 999,999,999.
+     */
+    private final int nanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code GPSInstant} from the number of seconds from
+     * the GPS epoch of 1980-01-06T00:00:00(GPS) with a nanosecond fraction of second.
+     * <p>
+     * This method allows an arbitrary number of nanoseconds to be passed in.
+     * The factory will alter the values of the second and nanosecond in order
+     * to ensure that the stored nanosecond is in the range 0 to 999,999,999.
+     *
+     * @param gpsSeconds  the number of seconds from the epoch of 1980-01-06T00:00:00(GPS)
+     * @param nanoAdjustment  the nanosecond adjustment to the number of seconds, positive or negative
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant ofGPSSeconds(long gpsSeconds, long nanoAdjustment) {
+        long secs = Jdk8Methods.safeAdd(gpsSeconds, Jdk8Methods.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
+        int nos = Jdk8Methods.floorMod(nanoAdjustment, NANOS_PER_SECOND);
+        return new GPSInstant(secs, nos);
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a GPS week number and second-of-week.
+     * <p>
+     * This is the form in which most receivers report time.
+     * The week number is the full week number from the epoch, not the rolling number.
+     * The second-of-week and nanosecond adjustment may be outside their normal ranges.
+     *
+     * @param week  the full week number from the epoch of 1980-01-06T00:00:00(GPS)
+     * @param secondOfWeek  the second-of-week, normally from 0 to 604,799
+     * @param nanoAdjustment  the nanosecond adjustment to the number of seconds, positive or negative
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant ofGPSWeek(long week, long secondOfWeek, long nanoAdjustment) {
+        long secs = Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(week, SECS_PER_WEEK), secondOfWeek);
+        return ofGPSSeconds(secs, nanoAdjustment);
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a {@code TAIInstant}.
+     * <p>
+     * The conversion is exact as GPS is a fixed offset from TAI.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant of(TAIInstant instant) {
+        return new GPSInstant(taiToGPSSeconds(instant.getTAISeconds()), instant.getNano());
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a {@code UTCInstant}.
+     * <p>
+     * Converting a UTC instant to a GPS instant requires leap second rules.
+     * This method uses the rules held in within the UTC instant.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant of(UTCInstant instant) {
+        return of(instant.toTAIInstant());
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from an {@code Instant}
+     * using the system default leap second rules.
+     * <p>
+     * Conversion from an {@code Instant} will not be completely accurate near
+     * a leap second in accordance with UTC-SLS.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant of(Instant instant) {
+        return of(UTCInstant.of(instant).toTAIInstant());
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a text string.
+     * <p>
+     * The following format is accepted:
+     * <p><ul>
+     * <li>{@code {seconds}.{nanosOfSecond}s(GPS)}
+     * </ul><p>
+     * The accepted format is strict.
+     * The seconds part must contain only numbers and a possible leading negative sign.
+     * The nanoseconds part must contain exactly nine digits.
+     * The trailing literal must be exactly specified.
+     * This format parses the {@code toString} format.
+     *
+     * @param text  the text to parse such as "12345.123456789s(GPS)", not null
+     * @return the parsed instant, not null
+     * @throws DateTimeException if the text cannot be parsed
+     */
+    public static GPSInstant parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        Matcher matcher = PARSER.matcher(text);
+        if (matcher.matches()) {
+            try {
+                long seconds = Long.parseLong(matcher.group(1));
+                long nanos = Long.parseLong(matcher.group(2));
+                return GPSInstant.ofGPSSeconds(seconds, nanos);
+            } catch (NumberFormatException ex) {
+                throw new DateTimeParseException("The text could not be parsed", text, 0, ex);
+            }
+        }
+        throw new DateTimeParseException("The text could not be parsed", text, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a count of GPS seconds to a count of TAI seconds.
+     * <p>
+     * This is the primitive form of {@link #toTAIInstant()}.
+     * The nano-of-second is unaffected by the conversion.
+     *
+     * @param gpsSeconds  the number of seconds from the epoch of 1980-01-06T00:00:00(GPS)
+     * @return the number of seconds from the epoch of 1958-01-01T00:00:00(TAI)
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static long gpsToTAISeconds(long gpsSeconds) {
+        return Jdk8Methods.safeAdd(gpsSeconds, TAI_SECONDS_AT_EPOCH);
+    }
+
+    /**
+     * Converts a count of TAI seconds to a count of GPS seconds.
+     * <p>
+     * This is the primitive form of {@link #of(TAIInstant)}.
+     * The nano-of-second is unaffected by the conversion.
+     *
+     * @param taiSeconds  the number of seconds from the epoch of 1958-01-01T00:00:00(TAI)
+     * @return the number of seconds from the epoch of 1980-01-06T00:00:00(GPS)
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static long taiToGPSSeconds(long taiSeconds) {
+        return Jdk8Methods.safeSubtract(taiSeconds, TAI_SECONDS_AT_EPOCH);
+    }
+
+    /**
+     * Converts arrays of GPS timestamps to UTC using the system default leap second rules.
+     * <p>
+     * This is the bulk form of {@link #toUTCInstant()}, intended for large volumes of
+     * receiver timestamps. No objects are created per timestamp.
+     * Element {@code i} of the input is written to element {@code i} of the output arrays
+     * as a Modified Julian Day and nano-of-day, as per {@link UTCInstant}.
+     *
+     * @param gpsSeconds  the seconds from the epoch of 1980-01-06T00:00:00(GPS), not null
+     * @param nanos  the nano-of-second of each timestamp, from 0 to 999,999,999, not null
+     * @param mjDays  the array to store the Modified Julian Days in, not null
+     * @param nanoOfDays  the array to store the nano-of-days in, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static void convertToUTC(long[] gpsSeconds, int[] nanos, long[] mjDays, long[] nanoOfDays) {
+        convertToUTC(gpsSeconds, nanos, mjDays, nanoOfDays, UTCRules.system());
+    }
+
+    /**
+     * Converts arrays of GPS timestamps to UTC using the specified leap second rules.
+     * <p>
+     * This is the bulk form of {@link #toUTCInstant()}, intended for large volumes of
+     * receiver timestamps. No objects are created per timestamp when using the system rules.
+     * Element {@code i} of the input is written to element {@code i} of the output arrays
+     * as a Modified Julian Day and nano-of-day, as per {@link UTCInstant}.
+     *
+     * @param gpsSeconds  the seconds from the epoch of 1980-01-06T00:00:00(GPS), not null
+     * @param nanos  the nano-of-second of each timestamp, from 0 to 999,999,999, not null
+     * @param mjDays  the array to store the Modified Julian Days in, not null
+     * @param nanoOfDays  the array to store the nano-of-days in, not null
+     * @param rules  the leap second rules, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static void convertToUTC(long[] gpsSeconds, int[] nanos, long[] mjDays, long[] nanoOfDays, UTCRules rules) {
+        UTCRules.checkBulkArrays(gpsSeconds, nanos, mjDays, nanoOfDays);
+        Objects.requireNonNull(rules, "rules");
+        rules.convertToUTC(gpsSeconds, nanos, TAI_SECONDS_AT_EPOCH, 0, mjDays, nanoOfDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param gpsSeconds  the number of GPS seconds from the epoch
+     * @param nanoOfSecond  the nanoseconds within the second, from 0 to 999,999,999
+     */
+    private GPSInstant(long gpsSeconds, int nanoOfSecond) {
+        super();
+        this.seconds = gpsSeconds;
+        this.nanos = nanoOfSecond;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of seconds from the GPS epoch of 1980-01-06T00:00:00(GPS).
+     *
+     * @return the seconds from the epoch of 1980-01-06T00:00:00(GPS)
+     */
+    public long getGPSSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Gets the number of nanoseconds, later along the time-line, from the start
+     * of the second.
+     *
+     * @return the nanoseconds within the second, from 0 to 999,999,999
+     */
+    public int getNano() {
+        return nanos;
+    }
+
+    /**
+     * Gets the full GPS week number.
+     * <p>
+     * Week zero starts at the epoch of 1980-01-06T00:00:00(GPS).
+     * Instants before the epoch have a negative week number.
+     *
+     * @return the full week number from the epoch
+     */
+    public long getGPSWeek() {
+        return Jdk8Methods.floorDiv(seconds, SECS_PER_WEEK);
+    }
+
+    /**
+     * Gets the second-of-week.
+     * <p>
+     * The nanosecond part of the second is returned by {@code getNano}.
+     *
+     * @return the second within the GPS week, from 0 to 604,799
+     */
+    public int getSecondOfWeek() {
+        return Jdk8Methods.floorMod(seconds, SECS_PER_WEEK);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this instant with the specified duration added.
+     * <p>
+     * The duration is treated as being measured in GPS compatible seconds.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to add, not null
+     * @return a {@code GPSInstant} based on this instant with the duration added, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public GPSInstant plus(Duration duration) {
+        long secsToAdd = duration.getSeconds();
+        int nanosToAdd = duration.getNano();
+        if ((secsToAdd | nanosToAdd) == 0) {
+            return this;
+        }
+        long secs = Jdk8Methods.safeAdd(seconds, secsToAdd);
+        long nanoAdjustment = ((long) nanos) + nanosToAdd;  // safe int+int
+        return ofGPSSeconds(secs, nanoAdjustment);
+    }
+
+    /**
+     * Returns a copy of this instant with the specified duration subtracted.
+     * <p>
+     * The duration is treated as being measured in GPS compatible seconds.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to subtract, not null
+     * @return a {@code GPSInstant} based on this instant with the duration subtracted, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public GPSInstant minus(Duration duration) {
+        long secsToSubtract = duration.getSeconds();
+        int nanosToSubtract = duration.getNano();
+        if ((secsToSubtract | nanosToSubtract) == 0) {
+            return this;
+        }
+        long secs = Jdk8Methods.safeSubtract(seconds, secsToSubtract);
+        long nanoAdjustment = ((long) nanos) - nanosToSubtract;  // safe int+int
+        return ofGPSSeconds(secs, nanoAdjustment);
+    }
+
+    /**
+     * Returns the duration between this instant and the specified instant.
+     * <p>
+     * Adding the duration to this instant using {@link #plus}
+     * will always result in an instant equal to the specified instant.
+     *
+     * @param gpsInstant  the instant to calculate the duration until, not null
+     * @return the duration until the specified instant, may be negative, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public Duration durationUntil(GPSInstant gpsInstant) {
+        long durSecs = Jdk8Methods.safeSubtract(gpsInstant.seconds, seconds);
+        long durNanos = gpsInstant.nanos - nanos;
+        return Duration.ofSeconds(durSecs, durNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this instant to a {@code TAIInstant}.
+     * <p>
+     * The conversion is exact as GPS is a fixed offset from TAI.
+     *
+     * @return a {@code TAIInstant} representing the same instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public TAIInstant toTAIInstant() {
+        return TAIInstant.ofTAISeconds(gpsToTAISeconds(seconds), nanos);
+    }
+
+    /**
+     * Converts this instant to a {@code UTCInstant} using the system default
+     * leap second rules.
+     * <p>
+     * This conversion does not lose information and the UTC instant may safely
+     * be converted back to a {@code GPSInstant}.
+     *
+     * @return a {@code UTCInstant} representing the same instant using the system leap second rules, not null
+     */
+    public UTCInstant toUTCInstant() {
+        return UTCInstant.of(toTAIInstant(), UTCRules.system());
+    }
+
+    /**
+     * Converts this instant to an {@code Instant} using the system default
+     * leap second rules.
+     * <p>
+     * This conversion will lose information around a leap second in accordance with UTC-SLS.
+     *
+     * @return an {@code Instant} representing the best approximation of this instant, not null
+     */
+    public Instant toInstant() {
+        return toUTCInstant().toInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this instant to another based on the time-line.
+     *
+     * @param otherInstant  the other instant to compare to, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    public int compareTo(GPSInstant otherInstant) {
+        int cmp = Long.compare(seconds, otherInstant.seconds);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return nanos - otherInstant.nanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this instant is equal to the specified {@code GPSInstant}.
+     *
+     * @param otherInstant  the other instant, null returns false
+     * @return true if the other instant is equal to this one
+     */
+    @Override
+    public boolean equals(Object otherInstant) {
+        if (this == otherInstant) {
+            return true;
+        }
+        if (otherInstant instanceof GPSInstant) {
+            GPSInstant other = (GPSInstant) otherInstant;
+            return this.seconds == other.seconds &&
+                   this.nanos == other.nanos;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this instant.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return ((int) (seconds ^ (seconds >>> 32))) + 53 * nanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A string representation of this instant.
+     * <p>
+     * The string is formatted as {@code {seconds).(nanosOfSecond}s(GPS)}.
+     * At least one second digit will be present.
+     * The nanoseconds will always be nine digits.
+     *
+     * @return a representation of this instant, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append(seconds);
+        int pos = buf.length();
+        buf.append(nanos + NANOS_PER_SECOND);
+        buf.setCharAt(pos, '.');
+        buf.append("s(GPS)");
+        return buf.toString();
+    }
+
+}
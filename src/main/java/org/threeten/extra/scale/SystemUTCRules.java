@@ -95,8 +95,22 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     //-----------------------------------------------------------------------
     /**
      * Restricted constructor.
+     * <p>
+     * This is package-scoped to allow independent rules to be created for testing.
      */
-    private SystemUTCRules() {
+    SystemUTCRules() {
+    }
+
+    /**
+     * Gets the current table of leap seconds.
+     * <p>
+     * The table is immutable and is replaced whenever a leap second is registered,
+     * thus a change in identity indicates that the rules may have changed.
+     *
+     * @return the current table, not null
+     */
+    Object getTable() {
+        return dataRef.get();
     }
 
     /**
@@ -192,6 +206,33 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         return UTCInstant.ofModifiedJulianDay(mjd, nod, this);
     }
 
+    @Override
+    void convertToUTC(long[] seconds, int[] nanos, long offsetSeconds, int offsetNanos, long[] mjDays, long[] nanoOfDays) {
+        Data data = dataRef.get();
+        long[] mjds = data.dates;
+        long[] tais = data.taiSeconds;
+        int pos = -2;  // unknown, input is typically sorted so the region is retained
+        for (int i = 0; i < seconds.length; i++) {
+            long nanoSum = ((long) nanos[i]) + offsetNanos;
+            long taiSecs = Jdk8Methods.safeAdd(Jdk8Methods.safeAdd(seconds[i], offsetSeconds), Jdk8Methods.floorDiv(nanoSum, NANOS_PER_SECOND));
+            if (pos == -2 || (pos >= 0 && taiSecs < tais[pos]) || (pos + 1 < tais.length && taiSecs >= tais[pos + 1])) {
+                pos = Arrays.binarySearch(tais, taiSecs);
+                pos = (pos >= 0 ? pos : ~pos - 1);
+            }
+            int taiOffset = (pos >= 0 ? data.offsets[pos] : 10);
+            long adjustedTaiSecs = taiSecs - taiOffset;
+            long mjd = Jdk8Methods.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
+            long nod = Jdk8Methods.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + Jdk8Methods.floorMod(nanoSum, NANOS_PER_SECOND);
+            long mjdNextRegionStart = (pos + 1 < mjds.length ? mjds[pos + 1] + 1 : Long.MAX_VALUE);
+            if (mjd == mjdNextRegionStart) {  // in leap second
+                mjd--;
+                nod += SECS_PER_DAY * NANOS_PER_SECOND;
+            }
+            mjDays[i] = mjd;
+            nanoOfDays[i] = nod;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Loads the rules from files in the class loader, often jar files.
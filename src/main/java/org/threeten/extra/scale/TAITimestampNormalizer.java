@@ -0,0 +1,652 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * Normalizes the UTC timestamps in a log file to the TAI time-scale.
+ * <p>
+ * Log files typically record timestamps on the UTC time-scale.
+ * This class converts those timestamps to TAI seconds using the leap second rules,
+ * without creating a {@code UTCInstant} or {@code TAIInstant} per record.
+ * The file is memory-mapped and processed in parallel chunks that are
+ * split on record boundaries.
+ * <p>
+ * Two layouts of log file are supported:
+ * <p><ul>
+ * <li>text - newline separated records, each with an ISO-8601 UTC timestamp in the
+ *  format {@code yyyy-MM-ddTHH:mm:ss}, optionally followed by a fraction of up to
+ *  nine digits, starting at a fixed byte column. The leap second {@code 23:59:60}
+ *  is accepted on days where the rules define one.
+ * <li>binary - fixed length records, each with an 8 byte big-endian count of UTC
+ *  seconds from 1970-01-01 at a fixed byte offset. The count has 86400 seconds per day,
+ *  as written by most loggers, and is mapped directly to the UTC day and second-of-day.
+ * </ul><p>
+ * The converted timestamps may be written to a sidecar column file, which contains one
+ * 12 byte entry per record, in record order, holding the 8 byte big-endian number
+ * of seconds from the epoch of 1958-01-01T00:00:00(TAI) followed by the 4 byte
+ * big-endian nano-of-second. Binary files may alternatively be converted in place,
+ * replacing each UTC second count with the TAI second count.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class TAITimestampNormalizer {
+
+    /**
+     * The size of each entry in the sidecar file.
+     */
+    public static final int SIDECAR_ENTRY_SIZE = 12;
+    /**
+     * Constant for the offset from MJD day 0 to the Java Epoch of 1970-01-01: 40587.
+     */
+    private static final int OFFSET_MJD_EPOCH = 40587;
+    /**
+     * Constant for the number of days from year zero to 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    /**
+     * Constant for seconds per day.
+     */
+    private static final long SECS_PER_DAY = 24 * 60 * 60;
+    /**
+     * The length of the fixed part of a text timestamp, 'yyyy-MM-ddTHH:mm:ss'.
+     */
+    private static final int TEXT_LENGTH = 19;
+    /**
+     * The default chunk size, 64Mb.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The leap second rules.
+     */
+    private final UTCRules rules;
+    /**
+     * The binary record length, zero for text.
+     */
+    private final int recordLength;
+    /**
+     * The column or field offset of the timestamp within the record.
+     */
+    private final int fieldOffset;
+    /**
+     * The maximum size of each chunk in bytes.
+     */
+    private final int chunkSize;
+    /**
+     * The number of threads to use.
+     */
+    private final int parallelism;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a normalizer for newline separated text records.
+     * <p>
+     * The timestamp must start at the specified byte column of every record.
+     * The system leap second rules are used.
+     *
+     * @param column  the zero-based byte column of the timestamp, zero or greater
+     * @return the normalizer, not null
+     * @throws IllegalArgumentException if the column is negative
+     */
+    public static TAITimestampNormalizer ofText(int column) {
+        if (column < 0) {
+            throw new IllegalArgumentException("Column must not be negative");
+        }
+        return new TAITimestampNormalizer(UTCRules.system(), 0, column, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Obtains a normalizer for fixed length binary records.
+     * <p>
+     * The 8 byte timestamp must be at the specified offset of every record.
+     * The system leap second rules are used.
+     *
+     * @param recordLength  the length of each record in bytes, positive
+     * @param fieldOffset  the zero-based byte offset of the timestamp within the record
+     * @return the normalizer, not null
+     * @throws IllegalArgumentException if the field does not fit within the record
+     */
+    public static TAITimestampNormalizer ofBinary(int recordLength, int fieldOffset) {
+        if (fieldOffset < 0 || recordLength < 8 || fieldOffset > recordLength - 8) {
+            throw new IllegalArgumentException("Timestamp field must fit within the record");
+        }
+        return new TAITimestampNormalizer(UTCRules.system(), recordLength, fieldOffset, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param rules  the leap second rules, not null
+     * @param recordLength  the binary record length, zero for text
+     * @param fieldOffset  the offset of the timestamp
+     * @param chunkSize  the chunk size, positive
+     * @param parallelism  the number of threads, positive
+     */
+    private TAITimestampNormalizer(UTCRules rules, int recordLength, int fieldOffset, int chunkSize, int parallelism) {
+        this.rules = rules;
+        this.recordLength = recordLength;
+        this.fieldOffset = fieldOffset;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this normalizer with the specified leap second rules.
+     *
+     * @param rules  the leap second rules, not null
+     * @return a normalizer based on this one with the specified rules, not null
+     */
+    public TAITimestampNormalizer withRules(UTCRules rules) {
+        Objects.requireNonNull(rules, "rules");
+        return new TAITimestampNormalizer(rules, recordLength, fieldOffset, chunkSize, parallelism);
+    }
+
+    /**
+     * Returns a copy of this normalizer with the specified maximum chunk size.
+     * <p>
+     * The file is split into chunks of approximately this size, adjusted to
+     * fall on record boundaries. Each chunk is mapped and processed separately.
+     * The default is 64Mb.
+     *
+     * @param chunkSize  the maximum chunk size in bytes, positive
+     * @return a normalizer based on this one with the specified chunk size, not null
+     * @throws IllegalArgumentException if the chunk size is not positive
+     */
+    public TAITimestampNormalizer withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        return new TAITimestampNormalizer(rules, recordLength, fieldOffset, chunkSize, parallelism);
+    }
+
+    /**
+     * Returns a copy of this normalizer with the specified number of threads.
+     * <p>
+     * The default is the number of available processors.
+     *
+     * @param parallelism  the number of threads to process chunks with, positive
+     * @return a normalizer based on this one with the specified parallelism, not null
+     * @throws IllegalArgumentException if the parallelism is not positive
+     */
+    public TAITimestampNormalizer withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        return new TAITimestampNormalizer(rules, recordLength, fieldOffset, chunkSize, parallelism);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the timestamps in the input file, writing them to a sidecar file.
+     * <p>
+     * The sidecar file is created or truncated. It will contain one entry of
+     * {@link #SIDECAR_ENTRY_SIZE} bytes per record in the same order as the input.
+     *
+     * @param input  the log file to read, not null
+     * @param sidecar  the column file to write, not null
+     * @return the number of records converted
+     * @throws IOException if an IO error occurs
+     * @throws DateTimeException if a timestamp cannot be parsed or is invalid
+     */
+    public long normalizeToSidecar(Path input, Path sidecar) throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(sidecar, "sidecar");
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(sidecar, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            List<long[]> chunks = split(in);
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                long[] rows = new long[chunks.size() + 1];
+                if (recordLength > 0) {
+                    for (int i = 0; i < chunks.size(); i++) {
+                        rows[i + 1] = rows[i] + chunks.get(i)[1] / recordLength;
+                    }
+                } else {
+                    List<Callable<Long>> counters = new ArrayList<Callable<Long>>();
+                    for (long[] chunk : chunks) {
+                        counters.add(new TextCounter(in, chunk[0], chunk[1]));
+                    }
+                    List<Long> counts = invoke(executor, counters);
+                    for (int i = 0; i < counts.size(); i++) {
+                        rows[i + 1] = rows[i] + counts.get(i);
+                    }
+                }
+                List<Callable<Long>> converters = new ArrayList<Callable<Long>>();
+                for (int i = 0; i < chunks.size(); i++) {
+                    long[] chunk = chunks.get(i);
+                    converters.add(new Converter(in, chunk[0], chunk[1], out, rows[i], rows[i + 1] - rows[i]));
+                }
+                invoke(executor, converters);
+                return rows[chunks.size()];
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Converts the timestamps in a binary file in place.
+     * <p>
+     * Each UTC second count is replaced by the number of seconds from the
+     * epoch of 1958-01-01T00:00:00(TAI).
+     *
+     * @param file  the binary log file to update, not null
+     * @return the number of records converted
+     * @throws IOException if an IO error occurs
+     * @throws IllegalStateException if this normalizer is for text records
+     * @throws DateTimeException if a timestamp is invalid
+     */
+    public long normalizeInPlace(Path file) throws IOException {
+        Objects.requireNonNull(file, "file");
+        if (recordLength == 0) {
+            throw new IllegalStateException("Text records cannot be normalized in place");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            List<long[]> chunks = split(channel);
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Callable<Long>> converters = new ArrayList<Callable<Long>>();
+                for (long[] chunk : chunks) {
+                    converters.add(new Converter(channel, chunk[0], chunk[1], null, 0, chunk[1] / recordLength));
+                }
+                long total = 0;
+                for (Long count : invoke(executor, converters)) {
+                    total += count;
+                }
+                return total;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Splits the file into chunks on record boundaries.
+     *
+     * @param channel  the channel to split, not null
+     * @return the list of chunks, each holding the start position and length, not null
+     * @throws IOException if an IO error occurs
+     */
+    private List<long[]> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<long[]>();
+        if (recordLength > 0) {
+            if (size % recordLength != 0) {
+                throw new IOException("File size is not a multiple of the record length");
+            }
+            long step = Math.max(chunkSize / recordLength, 1) * (long) recordLength;
+            for (long pos = 0; pos < size; pos += step) {
+                chunks.add(new long[] {pos, Math.min(step, size - pos)});
+            }
+            return chunks;
+        }
+        ByteBuffer buf = ByteBuffer.allocate(256);
+        long pos = 0;
+        while (pos < size) {
+            long end = pos + chunkSize;
+            if (end >= size) {
+                end = size;
+            } else {
+                end = nextLineStart(channel, buf, end - 1, size);
+                if (end - pos > Integer.MAX_VALUE) {
+                    throw new IOException("Record too long to be mapped at position " + pos);
+                }
+            }
+            chunks.add(new long[] {pos, end - pos});
+            pos = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the position just after the next newline.
+     *
+     * @param channel  the channel to search, not null
+     * @param buf  the buffer to use, not null
+     * @param pos  the position to search from
+     * @param size  the size of the file
+     * @return the position of the start of the next line, or the size of the file
+     * @throws IOException if an IO error occurs
+     */
+    private static long nextLineStart(FileChannel channel, ByteBuffer buf, long pos, long size) throws IOException {
+        while (pos < size) {
+            buf.clear();
+            int read = channel.read(buf, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buf.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    /**
+     * Runs the tasks, waiting for completion and unwrapping any failure.
+     *
+     * @param executor  the executor, not null
+     * @param tasks  the tasks to run, not null
+     * @return the results in task order, not null
+     * @throws IOException if a task threw an IO error
+     */
+    private static List<Long> invoke(ExecutorService executor, List<Callable<Long>> tasks) throws IOException {
+        List<Long> results = new ArrayList<Long>(tasks.size());
+        try {
+            for (Future<Long> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while normalizing timestamps", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+        return results;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Task that counts the text records in a chunk.
+     */
+    private static final class TextCounter implements Callable<Long> {
+        private final FileChannel channel;
+        private final long start;
+        private final long length;
+
+        TextCounter(FileChannel channel, long start, long length) {
+            this.channel = channel;
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public Long call() throws IOException {
+            MappedByteBuffer buf = channel.map(MapMode.READ_ONLY, start, length);
+            int len = (int) length;
+            long count = 0;
+            for (int i = 0; i < len; i++) {
+                if (buf.get(i) == '\n') {
+                    count++;
+                }
+            }
+            if (len > 0 && buf.get(len - 1) != '\n') {
+                count++;  // final record without a newline
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Task that converts the records in a chunk.
+     * The last converted day is cached, as log files are normally in time order.
+     */
+    private final class Converter implements Callable<Long> {
+        private final FileChannel channel;
+        private final long start;
+        private final long length;
+        private final FileChannel sidecar;
+        private final long firstRow;
+        private final long rowCount;
+        private long cachedMjd = Long.MIN_VALUE;
+        private long cachedDaySeconds;
+        private int cachedLeap;
+
+        Converter(FileChannel channel, long start, long length, FileChannel sidecar, long firstRow, long rowCount) {
+            this.channel = channel;
+            this.start = start;
+            this.length = length;
+            this.sidecar = sidecar;
+            this.firstRow = firstRow;
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public Long call() throws IOException {
+            MappedByteBuffer buf = channel.map(sidecar == null ? MapMode.READ_WRITE : MapMode.READ_ONLY, start, length);
+            MappedByteBuffer out = null;
+            if (sidecar != null && rowCount > 0) {
+                out = sidecar.map(MapMode.READ_WRITE, firstRow * SIDECAR_ENTRY_SIZE, rowCount * SIDECAR_ENTRY_SIZE);
+            }
+            long count = (recordLength > 0 ? convertBinary(buf, out) : convertText(buf, out));
+            if (sidecar == null) {
+                buf.force();
+            } else if (out != null) {
+                out.force();
+            }
+            return count;
+        }
+
+        private long convertBinary(MappedByteBuffer buf, MappedByteBuffer out) {
+            int len = (int) length;
+            long count = 0;
+            for (int pos = fieldOffset; pos < len; pos += recordLength) {
+                long utcSecs = buf.getLong(pos);
+                long mjd = Jdk8Methods.floorDiv(utcSecs, SECS_PER_DAY) + OFFSET_MJD_EPOCH;
+                long taiSecs = taiSeconds(mjd, Jdk8Methods.floorMod(utcSecs, SECS_PER_DAY));
+                if (out != null) {
+                    out.putLong(taiSecs).putInt(0);
+                } else {
+                    buf.putLong(pos, taiSecs);
+                }
+                count++;
+            }
+            return count;
+        }
+
+        private long convertText(MappedByteBuffer buf, MappedByteBuffer out) {
+            int len = (int) length;
+            long count = 0;
+            int pos = 0;
+            while (pos < len) {
+                int lineEnd = pos;
+                while (lineEnd < len && buf.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int p = pos + fieldOffset;
+                if (p + TEXT_LENGTH > lineEnd) {
+                    throw error(pos, "Record too short");
+                }
+                int year = digits(buf, p, 4);
+                literal(buf, p + 4, '-');
+                int month = digits(buf, p + 5, 2);
+                literal(buf, p + 7, '-');
+                int day = digits(buf, p + 8, 2);
+                literal(buf, p + 10, 'T');
+                int hour = digits(buf, p + 11, 2);
+                literal(buf, p + 13, ':');
+                int minute = digits(buf, p + 14, 2);
+                literal(buf, p + 16, ':');
+                int second = digits(buf, p + 17, 2);
+                p += TEXT_LENGTH;
+                int nano = 0;
+                if (p < lineEnd && buf.get(p) == '.') {
+                    int scale = 100000000;
+                    p++;
+                    while (p < lineEnd && scale > 0) {
+                        int digit = buf.get(p) - '0';
+                        if (digit < 0 || digit > 9) {
+                            break;
+                        }
+                        nano += digit * scale;
+                        scale /= 10;
+                        p++;
+                    }
+                    if (scale == 100000000) {
+                        throw error(p, "Expected digit");
+                    }
+                }
+                if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month) ||
+                        hour > 23 || minute > 59 || second > 60) {
+                    throw error(pos + fieldOffset, "Invalid timestamp");
+                }
+                long mjd = toEpochDay(year, month, day) + OFFSET_MJD_EPOCH;
+                long taiSecs = taiSeconds(mjd, hour * 3600 + minute * 60 + second);
+                if (second == 60 && (hour != 23 || minute != 59 || cachedLeap != 1)) {
+                    throw error(pos + fieldOffset, "Invalid leap second");
+                }
+                if (second == 59 && hour == 23 && minute == 59 && cachedLeap == -1) {
+                    throw error(pos + fieldOffset, "Invalid second, removed by negative leap second");
+                }
+                out.putLong(taiSecs).putInt(nano);
+                count++;
+                pos = lineEnd + 1;
+            }
+            return count;
+        }
+
+        private long taiSeconds(long mjd, long secondOfDay) {
+            if (mjd != cachedMjd) {
+                cachedDaySeconds = rules.convertToTAISeconds(mjd, 0);
+                cachedLeap = rules.getLeapSecondAdjustment(mjd);
+                cachedMjd = mjd;
+            }
+            return cachedDaySeconds + secondOfDay;
+        }
+
+        private int digits(ByteBuffer buf, int pos, int count) {
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                int digit = buf.get(pos + i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw error(pos + i, "Expected digit");
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private void literal(ByteBuffer buf, int pos, char expected) {
+            if (buf.get(pos) != expected) {
+                throw error(pos, "Expected '" + expected + "'");
+            }
+        }
+
+        private DateTimeException error(int pos, String message) {
+            return new DateTimeException(message + " at file offset " + (start + pos));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the length of the ISO month.
+     *
+     * @param year  the year
+     * @param month  the month, from 1 to 12
+     * @return the length of the month
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Converts an ISO date to the epoch day, matching {@code LocalDate.toEpochDay()}.
+     *
+     * @param year  the year, from 0 to 9999
+     * @param month  the month, from 1 to 12
+     * @param day  the day-of-month, valid
+     * @return the epoch day
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (lengthOfMonth(year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A string representation of this normalizer.
+     *
+     * @return the string representation, not null
+     */
+    @Override
+    public String toString() {
+        return "TAITimestampNormalizer[" + (recordLength > 0 ? "binary," + recordLength : "text") +
+                ',' + fieldOffset + ',' + rules.getName() + ']';
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.threeten.bp.Clock;
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZoneId;
+
+/**
+ * Adapters between {@link TimeSource} and {@link Clock}.
+ * <p>
+ * Much code accepts a {@code Clock}, while leap second aware code uses a {@code TimeSource}.
+ * The adapters in this class allow both to be driven by the same underlying source of time.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ * All returned adapters are immutable and thread-safe.
+ */
+public final class TimeSources {
+
+    /**
+     * Constant for seconds per day.
+     */
+    private static final long SECS_PER_DAY = 24 * 60 * 60;
+    /**
+     * Constant for nanos per second.
+     */
+    private static final long NANOS_PER_SECOND = 1000000000;
+    /**
+     * Constant for nanos per millisecond.
+     */
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    /**
+     * Restricted constructor.
+     */
+    private TimeSources() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a clock that is driven by the UTC instant of a time-source.
+     * <p>
+     * The clock obtains the current {@link TimeSource#utcInstant() UTC instant}
+     * and converts it to an {@code Instant} using the UTC-SLS mapping, smearing
+     * any leap second over the last 1000 seconds of the day.
+     * The conversion state of the current day is cached, thus a call to
+     * {@link Clock#instant()} or {@link Clock#millis()} only consults the
+     * leap second rules when the day changes.
+     *
+     * @param timeSource  the time-source to use, not null
+     * @param zone  the time-zone to use to convert the instant to date-time, not null
+     * @return a clock that uses the time-source, not null
+     */
+    public static Clock toClock(TimeSource timeSource, ZoneId zone) {
+        Objects.requireNonNull(timeSource, "timeSource");
+        Objects.requireNonNull(zone, "zone");
+        return new TimeSourceClock(timeSource, zone);
+    }
+
+    /**
+     * Obtains a time-source that is driven by a clock using the system default leap second rules.
+     * <p>
+     * The time-source returns the instant of the clock directly.
+     * The UTC and TAI instants are derived from it using the UTC-SLS mapping.
+     *
+     * @param clock  the clock to use, not null
+     * @return a time-source that uses the clock, not null
+     */
+    public static TimeSource fromClock(Clock clock) {
+        return fromClock(clock, UTCRules.system());
+    }
+
+    /**
+     * Obtains a time-source that is driven by a clock using the specified leap second rules.
+     * <p>
+     * The time-source returns the instant of the clock directly.
+     * The UTC and TAI instants are derived from it using the UTC-SLS mapping.
+     *
+     * @param clock  the clock to use, not null
+     * @param rules  the leap second rules, not null
+     * @return a time-source that uses the clock, not null
+     */
+    public static TimeSource fromClock(Clock clock, UTCRules rules) {
+        Objects.requireNonNull(clock, "clock");
+        Objects.requireNonNull(rules, "rules");
+        return new ClockTimeSource(clock, rules);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Clock driven by a time-source.
+     */
+    static final class TimeSourceClock extends Clock implements Serializable {
+        /** Serialization version. */
+        private static final long serialVersionUID = -4851362145629813517L;
+        /** The time-source. */
+        private final TimeSource timeSource;
+        /** The zone. */
+        private final ZoneId zone;
+        /** The cached state for the last seen day. */
+        private transient volatile DayState state;
+
+        TimeSourceClock(TimeSource timeSource, ZoneId zone) {
+            this.timeSource = timeSource;
+            this.zone = zone;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new TimeSourceClock(timeSource, zone);
+        }
+        @Override
+        public long millis() {
+            UTCInstant utc = timeSource.utcInstant();
+            DayState day = state(utc);
+            if (day == null) {
+                return utc.toInstant().toEpochMilli();
+            }
+            long slsNanos = UTCRules.convertToSlsNanoOfDay(utc.getNanoOfDay(), day.leapAdj);
+            return day.epochSecond * 1000 + slsNanos / NANOS_PER_MILLI;
+        }
+        @Override
+        public Instant instant() {
+            UTCInstant utc = timeSource.utcInstant();
+            DayState day = state(utc);
+            if (day == null) {
+                return utc.toInstant();
+            }
+            long slsNanos = UTCRules.convertToSlsNanoOfDay(utc.getNanoOfDay(), day.leapAdj);
+            return Instant.ofEpochSecond(day.epochSecond + slsNanos / NANOS_PER_SECOND, slsNanos % NANOS_PER_SECOND);
+        }
+        /**
+         * Gets the cached state for the day of the instant.
+         * Rules other than the system rules may override the conversion, so are not cached.
+         * The state is refreshed if a leap second has been registered since it was cached.
+         */
+        private DayState state(UTCInstant utc) {
+            UTCRules rules = utc.getRules();
+            if (rules instanceof SystemUTCRules == false) {
+                return null;
+            }
+            SystemUTCRules systemRules = (SystemUTCRules) rules;
+            Object table = systemRules.getTable();
+            long mjd = utc.getModifiedJulianDay();
+            DayState day = state;
+            if (day == null || day.mjd != mjd || day.rules != systemRules || day.table != table) {
+                day = new DayState(mjd, systemRules, table);
+                state = day;
+            }
+            return day;
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof TimeSourceClock) {
+                TimeSourceClock other = (TimeSourceClock) obj;
+                return timeSource.equals(other.timeSource) && zone.equals(other.zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return timeSource.hashCode() ^ zone.hashCode();
+        }
+        @Override
+        public String toString() {
+            return "TimeSourceClock[" + timeSource + "," + zone + "]";
+        }
+    }
+
+    /**
+     * The conversion state of a single day, immutable.
+     */
+    private static final class DayState {
+        /** The Modified Julian Day. */
+        final long mjd;
+        /** The epoch-second of the start of the day. */
+        final long epochSecond;
+        /** The rules the state was read from. */
+        final SystemUTCRules rules;
+        /** The leap second table the state was read from, compared by identity. */
+        final Object table;
+        /** The leap second adjustment of the day. */
+        final int leapAdj;
+
+        DayState(long mjd, SystemUTCRules rules, Object table) {
+            this.mjd = mjd;
+            this.epochSecond = (mjd - UTCRules.OFFSET_MJD_EPOCH) * SECS_PER_DAY;
+            this.rules = rules;
+            this.table = table;
+            this.leapAdj = rules.getLeapSecondAdjustment(mjd);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Time-source driven by a clock.
+     */
+    static final class ClockTimeSource implements TimeSource, Serializable {
+        /** Serialization version. */
+        private static final long serialVersionUID = 2986574308128736543L;
+        /** The clock. */
+        private final Clock clock;
+        /** The leap second rules. */
+        private final UTCRules rules;
+
+        ClockTimeSource(Clock clock, UTCRules rules) {
+            this.clock = clock;
+            this.rules = rules;
+        }
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+        @Override
+        public UTCInstant utcInstant() {
+            return UTCInstant.of(clock.instant(), rules);
+        }
+        @Override
+        public TAIInstant taiInstant() {
+            return utcInstant().toTAIInstant();
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof ClockTimeSource) {
+                ClockTimeSource other = (ClockTimeSource) obj;
+                return clock.equals(other.clock) && rules.equals(other.rules);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return clock.hashCode() ^ rules.hashCode();
+        }
+        @Override
+        public String toString() {
+            return "ClockTimeSource[" + clock + "," + rules + "]";
+        }
+    }
+
+}
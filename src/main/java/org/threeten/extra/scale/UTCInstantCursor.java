@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.threeten.bp.Duration;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A cursor that walks the UTC time-scale in fixed steps between two instants.
+ * <p>
+ * This class provides an efficient way to generate a regular grid of instants
+ * on the UTC time-scale, such as one entry per second or per millisecond.
+ * Each step adds a fixed number of SI seconds, exactly as
+ * {@link UTCInstant#plus(Duration)} does, however no objects are created per step.
+ * The current position is exposed as the Modified Julian Day and nano-of-day primitives.
+ * <p>
+ * The leap second rules are only consulted when the cursor crosses a day boundary.
+ * As such, a cursor stepping in whole seconds across a day with a positive
+ * leap second will stop at {@code 23:59:60}.
+ * <p>
+ * The cursor covers the half-open range from the start instant, inclusive,
+ * to the end instant, exclusive. It is used as follows:
+ * <pre>
+ *  UTCInstantCursor cursor = UTCInstantCursor.of(start, end, Duration.ofSeconds(1));
+ *  while (cursor.next()) {
+ *    long mjd = cursor.getModifiedJulianDay();
+ *    long nod = cursor.getNanoOfDay();
+ *    // process
+ *  }
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It must only be used by a single thread.
+ */
+public final class UTCInstantCursor {
+
+    /**
+     * Constant for seconds per day.
+     */
+    private static final long SECS_PER_DAY = 24 * 60 * 60;
+    /**
+     * Constant for nanos per second.
+     */
+    private static final long NANOS_PER_SECOND = 1000000000;
+
+    /**
+     * The leap second rules.
+     */
+    private final UTCRules rules;
+    /**
+     * The step in nanoseconds, always positive.
+     */
+    private final long stepNanos;
+    /**
+     * The Modified Julian Day of the end, exclusive.
+     */
+    private final long endMjDay;
+    /**
+     * The nano-of-day of the end, exclusive.
+     */
+    private final long endNanoOfDay;
+    /**
+     * The current Modified Julian Day.
+     */
+    private long mjDay;
+    /**
+     * The current nano-of-day, including leap seconds.
+     */
+    private long nanoOfDay;
+    /**
+     * The length of the current day in nanoseconds, including leap seconds.
+     */
+    private long dayLengthNanos;
+    /**
+     * The state of the cursor, 0 before start, 1 active, 2 finished.
+     */
+    private int state;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a cursor that walks from the start instant, inclusive, to the
+     * end instant, exclusive, in fixed steps.
+     * <p>
+     * The leap second rules of the start instant are used throughout.
+     * The step is measured in SI seconds, consistent with {@link UTCInstant#plus(Duration)}.
+     *
+     * @param start  the start instant, inclusive, not null
+     * @param end  the end instant, exclusive, not null
+     * @param step  the step to advance by, positive, not null
+     * @return the cursor, positioned before the start instant, not null
+     * @throws IllegalArgumentException if the step is zero or negative
+     * @throws ArithmeticException if the step exceeds the capacity of a {@code long} in nanoseconds
+     */
+    public static UTCInstantCursor of(UTCInstant start, UTCInstant end, Duration step) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(end, "end");
+        Objects.requireNonNull(step, "step");
+        if (step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("Step must be positive");
+        }
+        long stepNanos = Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(step.getSeconds(), NANOS_PER_SECOND), step.getNano());
+        return new UTCInstantCursor(start, end, stepNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param start  the start instant, not null
+     * @param end  the end instant, not null
+     * @param stepNanos  the step in nanoseconds, positive
+     */
+    private UTCInstantCursor(UTCInstant start, UTCInstant end, long stepNanos) {
+        this.rules = start.getRules();
+        this.stepNanos = stepNanos;
+        this.endMjDay = end.getModifiedJulianDay();
+        this.endNanoOfDay = end.getNanoOfDay();
+        this.mjDay = start.getModifiedJulianDay();
+        this.nanoOfDay = start.getNanoOfDay();
+        this.dayLengthNanos = dayLengthNanos(mjDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Moves the cursor to the next instant in the grid.
+     * <p>
+     * The first call positions the cursor at the start instant.
+     * Each subsequent call adds the step.
+     *
+     * @return true if the cursor is positioned at an instant before the end,
+     *  false if the end has been reached
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public boolean next() {
+        if (state == 0) {
+            state = 1;
+        } else if (state == 1) {
+            advance();
+        } else {
+            return false;
+        }
+        if (mjDay < endMjDay || (mjDay == endMjDay && nanoOfDay < endNanoOfDay)) {
+            return true;
+        }
+        state = 2;
+        return false;
+    }
+
+    /**
+     * Adds the step to the current position, rolling over day boundaries.
+     */
+    private void advance() {
+        long nod = Jdk8Methods.safeAdd(nanoOfDay, stepNanos);
+        long mjd = mjDay;
+        long dayLength = dayLengthNanos;
+        while (nod >= dayLength) {
+            nod -= dayLength;
+            mjd = Jdk8Methods.safeAdd(mjd, 1);
+            dayLength = dayLengthNanos(mjd);
+        }
+        mjDay = mjd;
+        nanoOfDay = nod;
+        dayLengthNanos = dayLength;
+    }
+
+    /**
+     * Gets the length of the specified day in nanoseconds.
+     *
+     * @param mjd  the Modified Julian Day
+     * @return the length of the day in nanoseconds, including leap seconds
+     */
+    private long dayLengthNanos(long mjd) {
+        return (SECS_PER_DAY + rules.getLeapSecondAdjustment(mjd)) * NANOS_PER_SECOND;
+    }
+
+    /**
+     * Checks that the cursor is positioned at an instant.
+     *
+     * @throws NoSuchElementException if the cursor is not positioned at an instant
+     */
+    private void checkPositioned() {
+        if (state != 1) {
+            throw new NoSuchElementException("Cursor is not positioned at an instant");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the leap second rules used by this cursor.
+     *
+     * @return the leap seconds rules, not null
+     */
+    public UTCRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the Modified Julian Day (MJD) of the current instant.
+     *
+     * @return the Modified Julian Day based on the epoch 1858-11-17
+     * @throws NoSuchElementException if the cursor is not positioned at an instant
+     */
+    public long getModifiedJulianDay() {
+        checkPositioned();
+        return mjDay;
+    }
+
+    /**
+     * Gets the nano-of-day of the current instant.
+     * <p>
+     * This value will include any additional leap seconds.
+     *
+     * @return the nanoseconds within the day, including leap seconds
+     * @throws NoSuchElementException if the cursor is not positioned at an instant
+     */
+    public long getNanoOfDay() {
+        checkPositioned();
+        return nanoOfDay;
+    }
+
+    /**
+     * Checks if the current instant is within a leap second.
+     * <p>
+     * This method returns true when an accurate clock would return a seconds
+     * field of 60.
+     *
+     * @return true if the current instant is within a leap second
+     * @throws NoSuchElementException if the cursor is not positioned at an instant
+     */
+    public boolean isLeapSecond() {
+        checkPositioned();
+        return nanoOfDay >= SECS_PER_DAY * NANOS_PER_SECOND;
+    }
+
+    /**
+     * Converts the current position to a {@code UTCInstant}.
+     * <p>
+     * This creates an object, and should be avoided in performance sensitive loops.
+     *
+     * @return the current instant, not null
+     * @throws NoSuchElementException if the cursor is not positioned at an instant
+     */
+    public UTCInstant toUTCInstant() {
+        checkPositioned();
+        return UTCInstant.ofModifiedJulianDay(mjDay, nanoOfDay, rules);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A string representation of this cursor.
+     *
+     * @return the string representation, not null
+     */
+    @Override
+    public String toString() {
+        return "UTCInstantCursor[" + mjDay + ',' + nanoOfDay + ',' + rules.getName() + ']';
+    }
+
+}
@@ -176,12 +176,28 @@ public abstract class UTCRules {
     protected TAIInstant convertToTAI(UTCInstant utcInstant) {
         long mjd = utcInstant.getModifiedJulianDay();
         long nod = utcInstant.getNanoOfDay();
-        long taiUtcDaySeconds = Jdk8Methods.safeMultiply(mjd - OFFSET_MJD_TAI, SECS_PER_DAY);
-        long taiSecs = Jdk8Methods.safeAdd(taiUtcDaySeconds, nod / NANOS_PER_SECOND + getTAIOffset(mjd));
+        long taiSecs = convertToTAISeconds(mjd, nod / NANOS_PER_SECOND);
         int nos = (int) (nod % NANOS_PER_SECOND);
         return TAIInstant.ofTAISeconds(taiSecs, nos);
     }
 
+    /**
+     * Converts a UTC day and second-of-day to the number of TAI seconds.
+     * <p>
+     * This is the primitive form of {@link #convertToTAI(UTCInstant)}, avoiding
+     * the creation of objects. The second-of-day may be 86400 on a day with a
+     * positive leap second. It is not validated.
+     *
+     * @param mjDay  the date as a Modified Julian Day (number of days from the epoch of 1858-11-17)
+     * @param secondOfDay  the second within the day, including leap seconds
+     * @return the number of seconds from the epoch of 1958-01-01T00:00:00(TAI)
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    long convertToTAISeconds(long mjDay, long secondOfDay) {
+        long taiUtcDaySeconds = Jdk8Methods.safeMultiply(mjDay - OFFSET_MJD_TAI, SECS_PER_DAY);
+        return Jdk8Methods.safeAdd(taiUtcDaySeconds, secondOfDay + getTAIOffset(mjDay));
+    }
+
     /**
      * Converts a {@code TAIInstant} to a {@code UTCInstant}.
      * <p>
@@ -194,6 +210,49 @@ public abstract class UTCRules {
      */
     protected abstract UTCInstant convertToUTC(TAIInstant taiInstant);
 
+    /**
+     * Converts an array of time-scale instants that are a fixed offset from TAI to UTC.
+     * <p>
+     * This is the bulk primitive form of {@link #convertToUTC(TAIInstant)}.
+     * Each input instant is converted to TAI by adding the offset,
+     * then converted to the UTC Modified Julian Day and nano-of-day.
+     * The arrays must be at least as long as the seconds array.
+     * <p>
+     * The standard implementation converts each element using {@code convertToUTC(TAIInstant)}.
+     *
+     * @param seconds  the seconds of each instant, not null
+     * @param nanos  the nano-of-second of each instant, from 0 to 999,999,999, not null
+     * @param offsetSeconds  the seconds to add to convert to TAI
+     * @param offsetNanos  the nanoseconds to add to convert to TAI, positive or negative
+     * @param mjDays  the array to store the Modified Julian Days in, not null
+     * @param nanoOfDays  the array to store the nano-of-days in, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    void convertToUTC(long[] seconds, int[] nanos, long offsetSeconds, int offsetNanos, long[] mjDays, long[] nanoOfDays) {
+        for (int i = 0; i < seconds.length; i++) {
+            long secs = Jdk8Methods.safeAdd(seconds[i], offsetSeconds);
+            UTCInstant utc = convertToUTC(TAIInstant.ofTAISeconds(secs, ((long) nanos[i]) + offsetNanos));
+            mjDays[i] = utc.getModifiedJulianDay();
+            nanoOfDays[i] = utc.getNanoOfDay();
+        }
+    }
+
+    /**
+     * Checks that the arrays passed to a bulk conversion all have the same length.
+     *
+     * @param seconds  the seconds array, not null
+     * @param nanos  the nanos array, not null
+     * @param mjDays  the Modified Julian Day array, not null
+     * @param nanoOfDays  the nano-of-day array, not null
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    static void checkBulkArrays(long[] seconds, int[] nanos, long[] mjDays, long[] nanoOfDays) {
+        int length = seconds.length;
+        if (nanos.length != length || mjDays.length != length || nanoOfDays.length != length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Converts a {@code UTCInstant} to an {@code Instant}.
@@ -220,13 +279,27 @@ public abstract class UTCRules {
         long utcNanos = utcInstant.getNanoOfDay();
         long epochDay = Jdk8Methods.safeSubtract(mjd, OFFSET_MJD_EPOCH);
         long epochSec = Jdk8Methods.safeMultiply(epochDay, SECS_PER_DAY);
-        int leapAdj = getLeapSecondAdjustment(mjd);
+        long slsNanos = convertToSlsNanoOfDay(utcNanos, getLeapSecondAdjustment(mjd));
+        return Instant.ofEpochSecond(epochSec + slsNanos / NANOS_PER_SECOND, slsNanos % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Converts a UTC nano-of-day to a UTC-SLS nano-of-day.
+     * <p>
+     * This is the primitive form of the UTC-SLS mapping used by the standard
+     * implementation of {@link #convertToInstant(UTCInstant)}.
+     *
+     * @param utcNanos  the UTC nano-of-day, including leap seconds
+     * @param leapAdj  the leap second adjustment of the day, from -1 to 1
+     * @return the UTC-SLS nano-of-day, from 0 to 86,400,000,000,000 - 1
+     */
+    static long convertToSlsNanoOfDay(long utcNanos, int leapAdj) {
         long startSlsNanos = (SECS_PER_DAY + leapAdj - 1000) * NANOS_PER_SECOND;
         long slsNanos = utcNanos;
         if (leapAdj != 0 && utcNanos >= startSlsNanos) {
             slsNanos = utcNanos - leapAdj * (utcNanos - startSlsNanos) / 1000;  // apply UTC-SLS mapping
         }
-        return Instant.ofEpochSecond(epochSec + slsNanos / NANOS_PER_SECOND, slsNanos % NANOS_PER_SECOND);
+        return slsNanos;
     }
 
     /**
@@ -41,8 +41,14 @@ import java.util.Locale;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAccessor;
 
 /**
@@ -114,6 +120,26 @@ public class TestAmPm {
         assertEquals(AmPm.AM.getDisplayName(TextStyle.SHORT, Locale.US), "AM");
     }
 
+    @Test(groups={"tck"})
+    public void test_getText_matchesFormatter() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                for (AmPm value : AmPm.values()) {
+                    String expected = new DateTimeFormatterBuilder().appendText(ChronoField.AMPM_OF_DAY, style).toFormatter(locale).format(value);
+                    assertEquals(value.getDisplayName(style, locale), expected);
+                }
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_getText_cached() {
+        String first = AmPm.AM.getDisplayName(TextStyle.FULL, Locale.GERMANY);
+        assertSame(AmPm.AM.getDisplayName(TextStyle.FULL, Locale.GERMANY), first);
+        assertEquals(AmPm.PM.getDisplayName(TextStyle.FULL, Locale.GERMANY),
+                new DateTimeFormatterBuilder().appendText(ChronoField.AMPM_OF_DAY, TextStyle.FULL).toFormatter(Locale.GERMANY).format(AmPm.PM));
+    }
+
     @Test(expectedExceptions = NullPointerException.class, groups={"tck"})
     public void test_getText_nullStyle() {
         AmPm.AM.getDisplayName(null, Locale.US);
@@ -133,6 +159,42 @@ public class TestAmPm {
         assertEquals(AmPm.PM.toString(), "PM");
     }
 
+    //-----------------------------------------------------------------------
+    // from() and adjustInto() for common ISO types
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_from_isoTypes() {
+        for (int hour = 0; hour < 24; hour++) {
+            LocalDateTime dateTime = LocalDateTime.of(2012, 6, 30, hour, 45);
+            AmPm expected = AmPm.of(dateTime.get(ChronoField.AMPM_OF_DAY));
+            assertSame(AmPm.from(dateTime.toLocalTime()), expected);
+            assertSame(AmPm.from(dateTime), expected);
+            assertSame(AmPm.from(dateTime.atZone(ZoneOffset.ofHours(2))), expected);
+            assertSame(AmPm.from(dateTime.atOffset(ZoneOffset.ofHours(-5))), expected);
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_adjustInto_isoTypes() {
+        for (int hour = 0; hour < 24; hour++) {
+            LocalDateTime dateTime = LocalDateTime.of(2012, 6, 30, hour, 45, 12, 345);
+            ZonedDateTime zoned = dateTime.atZone(ZoneOffset.ofHours(2));
+            OffsetDateTime offset = dateTime.atOffset(ZoneOffset.ofHours(-5));
+            for (AmPm amPm : AmPm.values()) {
+                int value = amPm.getValue();
+                assertEquals(amPm.adjustInto(dateTime.toLocalTime()), dateTime.toLocalTime().with(ChronoField.AMPM_OF_DAY, value));
+                assertEquals(amPm.adjustInto(dateTime), dateTime.with(ChronoField.AMPM_OF_DAY, value));
+                assertEquals(amPm.adjustInto(zoned), zoned.with(ChronoField.AMPM_OF_DAY, value));
+                assertEquals(amPm.adjustInto(offset), offset.with(ChronoField.AMPM_OF_DAY, value));
+            }
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class, groups={"tck"})
+    public void test_adjustInto_LocalDate() {
+        AmPm.PM.adjustInto(LocalDate.of(2012, 6, 30));
+    }
+
     //-----------------------------------------------------------------------
     // generated methods
     //-----------------------------------------------------------------------
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+
+/**
+ * Test AmountArrays.
+ */
+@Test
+public class TestAmountArrays {
+
+    //-----------------------------------------------------------------------
+    // sum()
+    //-----------------------------------------------------------------------
+    public void test_sum() {
+        assertEquals(AmountArrays.sum(new int[0]), 0);
+        assertEquals(AmountArrays.sum(new int[] {1, 2, 3, -10}), -4);
+        assertEquals(AmountArrays.sum(new int[] {1, 2, 3, -10}, 1, 3), 5);
+        assertEquals(AmountArrays.sum(new int[] {1, 2, 3, -10}, 2, 2), 0);
+    }
+
+    public void test_sum_matchesPlus() {
+        Random random = new Random(31);
+        int[] amounts = new int[1000];
+        Days total = Days.ZERO;
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = random.nextInt(2000000) - 1000000;
+            total = total.plus(Days.of(amounts[i]));
+        }
+        assertEquals(AmountArrays.sum(amounts), total.getAmount());
+    }
+
+    public void test_sum_intermediateOverflowAllowed() {
+        assertEquals(AmountArrays.sum(new int[] {Integer.MAX_VALUE, 1, -1}), Integer.MAX_VALUE);
+        assertEquals(AmountArrays.sum(new int[] {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}), -2);
+    }
+
+    public void test_sum_overflowIndex() {
+        try {
+            AmountArrays.sum(new int[] {5, Integer.MAX_VALUE - 10, 3, 2, 1, 1});
+            fail();
+        } catch (ArithmeticException ex) {
+            assertTrue(ex.getMessage().endsWith("index 4"), ex.getMessage());
+        }
+    }
+
+    public void test_sum_overflowIndexRange() {
+        try {
+            AmountArrays.sum(new int[] {-5, Integer.MIN_VALUE, -1, 0}, 1, 4);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertTrue(ex.getMessage().endsWith("index 2"), ex.getMessage());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_sum_badRange() {
+        AmountArrays.sum(new int[3], 2, 1);
+    }
+
+    @Test(expectedExceptions = ArrayIndexOutOfBoundsException.class)
+    public void test_sum_rangeOutside() {
+        AmountArrays.sum(new int[3], 0, 4);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_sum_null() {
+        AmountArrays.sum(null, 0, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    // min()/max()
+    //-----------------------------------------------------------------------
+    public void test_minMax() {
+        int[] amounts = {4, -2, 9, Integer.MIN_VALUE, Integer.MAX_VALUE, 0};
+        assertEquals(AmountArrays.min(amounts), Integer.MIN_VALUE);
+        assertEquals(AmountArrays.max(amounts), Integer.MAX_VALUE);
+        assertEquals(AmountArrays.min(amounts, 0, 3), -2);
+        assertEquals(AmountArrays.max(amounts, 0, 3), 9);
+        assertEquals(AmountArrays.min(amounts, 5, 6), 0);
+        assertEquals(AmountArrays.max(amounts, 5, 6), 0);
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_min_empty() {
+        AmountArrays.min(new int[0]);
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_max_emptyRange() {
+        AmountArrays.max(new int[5], 2, 2);
+    }
+
+    //-----------------------------------------------------------------------
+    // multipliedBy()
+    //-----------------------------------------------------------------------
+    public void test_multipliedBy() {
+        int[] amounts = {1, -2, 3, 0};
+        int[] result = new int[5];
+        AmountArrays.multipliedBy(amounts, -3, result);
+        assertEquals(result, new int[] {-3, 6, -9, 0, 0});
+        AmountArrays.multipliedBy(amounts, 2, amounts);
+        assertEquals(amounts, new int[] {2, -4, 6, 0});
+    }
+
+    public void test_multipliedBy_overflowIndex() {
+        int[] amounts = {1, 2, Integer.MIN_VALUE, 4};
+        int[] result = new int[4];
+        try {
+            AmountArrays.multipliedBy(amounts, -1, result);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertTrue(ex.getMessage().endsWith("index 2"), ex.getMessage());
+        }
+        assertEquals(result, new int[] {-1, -2, 0, 0});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_multipliedBy_resultTooShort() {
+        AmountArrays.multipliedBy(new int[3], 2, new int[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    // convert()
+    //-----------------------------------------------------------------------
+    public void test_convert() {
+        int[] result = new int[2];
+        AmountArrays.convert(new int[] {2, -1}, WEEKS, DAYS, result);
+        assertEquals(result, new int[] {14, -7});
+        AmountArrays.convert(new int[] {2, -1}, HOURS, MINUTES, result);
+        assertEquals(result, new int[] {120, -60});
+        AmountArrays.convert(new int[] {2, -1}, HOURS, SECONDS, result);
+        assertEquals(result, new int[] {7200, -3600});
+        AmountArrays.convert(new int[] {2, -1}, MINUTES, SECONDS, result);
+        assertEquals(result, new int[] {120, -60});
+        AmountArrays.convert(new int[] {2, -1}, DAYS, HOURS, result);
+        assertEquals(result, new int[] {48, -24});
+        AmountArrays.convert(new int[] {2, -1}, WEEKS, SECONDS, result);
+        assertEquals(result, new int[] {1209600, -604800});
+        AmountArrays.convert(new int[] {2, -1}, MONTHS, MONTHS, result);
+        assertEquals(result, new int[] {2, -1});
+    }
+
+    public void test_convert_matchesAmounts() {
+        int[] amounts = {0, 1, 25, -1000};
+        int[] result = new int[amounts.length];
+        AmountArrays.convert(amounts, WEEKS, DAYS, result);
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(Days.of(result[i]), Days.of(Weeks.of(amounts[i]).getAmount() * 7));
+        }
+    }
+
+    public void test_convert_overflowIndex() {
+        try {
+            AmountArrays.convert(new int[] {1, Integer.MAX_VALUE / 60 + 1}, HOURS, MINUTES, new int[2]);
+            fail();
+        } catch (ArithmeticException ex) {
+            assertTrue(ex.getMessage().endsWith("index 1"), ex.getMessage());
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convert_unsupported() {
+        AmountArrays.convert(new int[1], DAYS, WEEKS, new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convert_larger() {
+        AmountArrays.convert(new int[1], SECONDS, MINUTES, new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convert_inexact() {
+        AmountArrays.convert(new int[1], YEARS, MONTHS, new int[1]);
+    }
+
+}
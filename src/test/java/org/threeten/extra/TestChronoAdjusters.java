@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.HijrahChronology;
+import org.threeten.bp.chrono.MinguoChronology;
+import org.threeten.bp.chrono.ThaiBuddhistChronology;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.extra.chrono.CopticChronology;
+import org.threeten.extra.chrono.CopticDate;
+import org.threeten.extra.chrono.PersianChronology;
+import org.threeten.extra.chrono.PersianDate;
+import org.threeten.extra.chrono.PersianEra;
+
+/**
+ * Test ChronoAdjusters.
+ */
+@Test
+public class TestChronoAdjusters {
+
+    private static final TemporalAdjuster[] INNERS = {
+        TemporalAdjusters.firstDayOfMonth(),
+        TemporalAdjusters.lastDayOfMonth(),
+        TemporalAdjusters.firstDayOfNextMonth(),
+        TemporalAdjusters.firstDayOfYear(),
+        TemporalAdjusters.lastDayOfYear(),
+        TemporalAdjusters.firstDayOfNextYear(),
+    };
+
+    // JapaneseChronology cannot be loaded on newer JDKs, so is only checked for caching
+    @DataProvider(name="fused")
+    Object[][] data_fused() {
+        Object[][] data = new Object[INNERS.length * 5][];
+        for (int i = 0; i < INNERS.length; i++) {
+            data[i * 5] = new Object[] {MinguoChronology.INSTANCE, ChronoAdjusters.minguo(INNERS[i]), i};
+            data[i * 5 + 1] = new Object[] {HijrahChronology.INSTANCE, ChronoAdjusters.hijrah(INNERS[i]), i};
+            data[i * 5 + 2] = new Object[] {ThaiBuddhistChronology.INSTANCE, ChronoAdjusters.thaiBuddhist(INNERS[i]), i};
+            data[i * 5 + 3] = new Object[] {CopticChronology.INSTANCE, ChronoAdjusters.coptic(INNERS[i]), i};
+            data[i * 5 + 4] = new Object[] {PersianChronology.INSTANCE, ChronoAdjusters.persian(INNERS[i]), i};
+        }
+        return data;
+    }
+
+    @Test(dataProvider="fused", groups={"tck"})
+    public void test_fused(Chronology chrono, TemporalAdjuster fused, int type) {
+        LocalDate date = LocalDate.of(1988, 12, 20);
+        for (int i = 0; i < 900; i++) {
+            assertAdjusted(chrono, type, date, date.with(fused));
+            date = date.plusDays(3);
+        }
+    }
+
+    @Test(dataProvider="fused", groups={"tck"})
+    public void test_fused_LocalDateTime(Chronology chrono, TemporalAdjuster fused, int type) {
+        LocalDateTime dateTime = LocalDateTime.of(LocalDate.of(2012, 7, 5), LocalTime.of(11, 30));
+        LocalDateTime test = dateTime.with(fused);
+        assertEquals(test.toLocalTime(), dateTime.toLocalTime());
+        assertAdjusted(chrono, type, dateTime.toLocalDate(), test.toLocalDate());
+    }
+
+    @Test(groups={"tck"})
+    public void test_fused_matchesIso() {
+        LocalDate date = LocalDate.of(2011, 12, 20);
+        for (int i = 0; i < 500; i++) {
+            for (TemporalAdjuster inner : INNERS) {
+                assertEquals(date.with(ChronoAdjusters.minguo(inner)), date.with(inner));
+                assertEquals(date.with(ChronoAdjusters.thaiBuddhist(inner)), date.with(inner));
+            }
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_fused_matchesCoptic() {
+        LocalDate date = LocalDate.of(2011, 8, 20);
+        for (int i = 0; i < 800; i++) {
+            CopticDate coptic = CopticChronology.INSTANCE.date(date);
+            PersianDate persian = PersianChronology.INSTANCE.date(date);
+            for (TemporalAdjuster inner : INNERS) {
+                assertEquals(date.with(ChronoAdjusters.coptic(inner)), LocalDate.from(coptic.with(inner)));
+                assertEquals(date.with(ChronoAdjusters.persian(inner)), LocalDate.from(persian.with(inner)));
+            }
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_fused_maxYear() {
+        PersianDate persian = PersianDate.of(PersianEra.AM, 3000, 5, 1);
+        for (int i = 0; i < 5; i++) {
+            TemporalAdjuster inner = INNERS[i];
+            assertEquals(LocalDate.from(persian).with(ChronoAdjusters.persian(inner)), LocalDate.from(persian.with(inner)));
+        }
+        CopticDate coptic = CopticChronology.INSTANCE.date((1 << 22) - 1, 5, 1);
+        for (int i = 0; i < 5; i++) {
+            TemporalAdjuster inner = INNERS[i];
+            assertEquals(LocalDate.from(coptic).with(ChronoAdjusters.coptic(inner)), LocalDate.from(coptic.with(inner)));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_coptic_general() {
+        TemporalAdjuster plusMonth = new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                return temporal.plus(1, org.threeten.bp.temporal.ChronoUnit.MONTHS);
+            }
+        };
+        LocalDate date = LocalDate.of(2012, 8, 20);  // Coptic 1728-12-14
+        assertEquals(date.with(ChronoAdjusters.coptic(plusMonth)), LocalDate.from(CopticChronology.INSTANCE.date(1728, 13, 5)));
+    }
+
+    @Test(groups={"tck"})
+    public void test_fused_cached() {
+        for (TemporalAdjuster inner : INNERS) {
+            assertSame(ChronoAdjusters.minguo(inner), ChronoAdjusters.minguo(inner));
+            assertSame(ChronoAdjusters.hijrah(inner), ChronoAdjusters.hijrah(inner));
+            assertSame(ChronoAdjusters.japanese(inner), ChronoAdjusters.japanese(inner));
+            assertSame(ChronoAdjusters.thaiBuddhist(inner), ChronoAdjusters.thaiBuddhist(inner));
+            assertSame(ChronoAdjusters.coptic(inner), ChronoAdjusters.coptic(inner));
+            assertSame(ChronoAdjusters.persian(inner), ChronoAdjusters.persian(inner));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_general_adjuster() {
+        TemporalAdjuster plusMonth = new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                return temporal.plus(1, org.threeten.bp.temporal.ChronoUnit.MONTHS);
+            }
+        };
+        LocalDate date = LocalDate.of(2012, 7, 5);
+        assertEquals(date.with(ChronoAdjusters.minguo(plusMonth)), LocalDate.of(2012, 8, 5));
+    }
+
+    private static void assertAdjusted(Chronology chrono, int type, LocalDate base, LocalDate adjusted) {
+        ChronoLocalDate<?> baseDate = chrono.date(base);
+        ChronoLocalDate<?> test = chrono.date(adjusted);
+        long diff = adjusted.toEpochDay() - base.toEpochDay();
+        boolean year = type >= 3;
+        long dom = test.getLong(year ? DAY_OF_YEAR : DAY_OF_MONTH);
+        int length = (year ? baseDate.lengthOfYear() : baseDate.lengthOfMonth());
+        int testLength = (year ? test.lengthOfYear() : test.lengthOfMonth());
+        switch (type % 3) {
+            case 0:
+                assertEquals(dom, 1, base.toString());
+                assertTrue(diff <= 0 && diff > -length, base.toString());
+                break;
+            case 1:
+                assertEquals(dom, testLength, base.toString());
+                assertTrue(diff >= 0 && diff < length, base.toString());
+                break;
+            default:
+                assertEquals(dom, 1, base.toString());
+                assertTrue(diff > 0 && diff <= length, base.toString());
+                break;
+        }
+    }
+
+}
@@ -49,7 +49,11 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.temporal.TemporalAdjuster;
@@ -240,6 +244,23 @@ public class TestDayOfMonth {
         test.adjustInto(date);
     }
 
+    public void test_adjustInto_isoTypes() {
+        LocalDateTime dateTime = LocalDateTime.of(2012, 2, 10, 13, 45);
+        ZonedDateTime zoned = dateTime.atZone(ZoneOffset.ofHours(2));
+        OffsetDateTime offset = dateTime.atOffset(ZoneOffset.ofHours(-5));
+        for (int i = 1; i <= 29; i++) {
+            DayOfMonth test = DayOfMonth.of(i);
+            assertEquals(test.adjustInto(dateTime), dateTime.with(DAY_OF_MONTH, i));
+            assertEquals(test.adjustInto(zoned), zoned.with(DAY_OF_MONTH, i));
+            assertEquals(test.adjustInto(offset), offset.with(DAY_OF_MONTH, i));
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_adjustInto_zonedDateTime_february30() {
+        DayOfMonth.of(30).adjustInto(LocalDateTime.of(2012, 2, 10, 13, 45).atZone(ZoneOffset.UTC));
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
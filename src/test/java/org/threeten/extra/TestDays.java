@@ -35,15 +35,31 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +103,246 @@ public class TestDays {
         assertSame(Days.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Days.of(1), Days.of(1));
+        assertSame(Days.of(-256), Days.of(-256));
+        assertSame(Days.of(1024), Days.of(1024));
+        assertSame(Days.of(1).plus(1), Days.of(2));
+        assertEquals(1025, Days.of(1025).getAmount());
+        assertEquals(-257, Days.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Days orginal = Days.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Days ser = (Days) in.readObject();
+        assertSame(Days.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Days.between(LocalDate.of(2012, 1, 1), LocalDate.of(2012, 3, 1)), Days.of(60));
+        assertEquals(Days.between(LocalDate.of(2012, 3, 1), LocalDate.of(2012, 1, 1)), Days.of(-60));
+        assertEquals(Days.between(LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 3, 9, 59)), Days.of(1));
+        assertEquals(Days.between(Instant.ofEpochSecond(0), Instant.ofEpochSecond(86400 * 2 - 1)), Days.of(1));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDate date1 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            LocalDate date2 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            assertEquals(Days.between(date1, date2).getAmount(), DAYS.between(date1, date2));
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            assertEquals(Days.between(dateTime1, dateTime2).getAmount(), NANOS.between(dateTime1, dateTime2) / (86400000000000L));
+            Instant instant1 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            Instant instant2 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            assertEquals(Days.between(instant1, instant2).getAmount(), NANOS.between(instant1, instant2) / (86400000000000L));
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Days.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Days test = Days.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(DAYS));
+        assertEquals(test.get(DAYS), 5);
+        assertSame(Days.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Days.of(5).get(NANOS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDate date = LocalDate.of(2012, 1, 31);
+        assertEquals(date.plus(Days.of(1)), date.plus(1, DAYS));
+        assertEquals(date.minus(Days.of(-25)), date.plus(25, DAYS));
+        assertEquals(Days.of(13).subtractFrom(date), date.minus(13, DAYS));
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Days.of(3)), dateTime.plus(3, DAYS));
+        assertEquals(dateTime.minus(Days.of(3)), dateTime.minus(3, DAYS));
+        Instant instant = Instant.ofEpochSecond(1000000, 5);
+        assertEquals(instant.plus(Days.of(7)), instant.plus(7, DAYS));
+        assertEquals(instant.minus(Days.of(Integer.MIN_VALUE)), instant.plus(-(long) Integer.MIN_VALUE, DAYS));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        Year.of(2012).plus(Days.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Days.parse("P5D"), Days.of(5));
+        assertEquals(Days.parse("P0D"), Days.ZERO);
+        assertEquals(Days.parse("p7d"), Days.of(7));
+        assertEquals(Days.parse("-P5D"), Days.of(-5));
+        assertEquals(Days.parse("P-5D"), Days.of(-5));
+        assertEquals(Days.parse("-P-5D"), Days.of(5));
+        assertEquals(Days.parse("+P+5D"), Days.of(5));
+        assertEquals(Days.parse("P2147483647D"), Days.of(Integer.MAX_VALUE));
+        assertEquals(Days.parse("P-2147483648D"), Days.of(Integer.MIN_VALUE));
+        assertEquals(Days.parse(new StringBuilder("P0012D")), Days.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Days.parse(Days.of(amount).toString()), Days.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Days.parse("abP12Dxy", 2, 6), Days.of(12));
+        assertEquals(Days.parse("P12DP3D", 4, 7), Days.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5D", 0},
+            {"P", 1},
+            {"PD", 1},
+            {"P-D", 2},
+            {"P5", 2},
+            {"P5X", 2},
+            {"P5D ", 3},
+            {"P2147483648D", 1},
+            {"P-2147483649D", 2},
+            {"P99999999999999999999D", 1},
+            {"--P5D", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Days.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Days.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Days.parse("P5D", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Days.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Days.of(-25).formatTo(buf);
+        Days.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xP-25DP0D");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Days test = Days.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Days.of(100).formatTo(new byte[8], 8 - Days.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Days.of(100).formatTo(ByteBuffer.allocateDirect(Days.of(100).toString().length() - 1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_formatTo_ioException() {
+        Days.of(5).formatTo(new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException();
+            }
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException();
+            }
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException();
+            }
+        });
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_conversions() {
+        assertEquals(Days.of(3).toHours(), Hours.of(72));
+        assertEquals(Days.of(-2).toHours(), Hours.of(-48));
+        assertSame(Days.ZERO.toHours(), Hours.ZERO);
+        assertEquals(Days.of(3).toMinutes(), Minutes.of(4320));
+        assertEquals(Days.of(-2).toMinutes(), Minutes.of(-2880));
+        assertSame(Days.ZERO.toMinutes(), Minutes.ZERO);
+        assertEquals(Days.of(3).toSeconds(), Seconds.of(259200));
+        assertEquals(Days.of(-2).toSeconds(), Seconds.of(-172800));
+        assertSame(Days.ZERO.toSeconds(), Seconds.ZERO);
+    }
+
+    public void test_conversions_limit() {
+        assertEquals(Days.of(Integer.MAX_VALUE / 86400).toSeconds().getAmount(), Integer.MAX_VALUE / 86400 * 86400);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_conversions_overflow() {
+        Days.of(Integer.MAX_VALUE / 86400 + 1).toSeconds();
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Days test5 = Days.of(5);
@@ -35,15 +35,29 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +101,222 @@ public class TestHours {
         assertSame(Hours.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Hours.of(1), Hours.of(1));
+        assertSame(Hours.of(-256), Hours.of(-256));
+        assertSame(Hours.of(1024), Hours.of(1024));
+        assertSame(Hours.of(1).plus(1), Hours.of(2));
+        assertEquals(1025, Hours.of(1025).getAmount());
+        assertEquals(-257, Hours.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Hours orginal = Hours.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Hours ser = (Hours) in.readObject();
+        assertSame(Hours.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Hours.between(LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 2, 9, 30)), Hours.of(23));
+        assertEquals(Hours.between(LocalDateTime.of(2012, 1, 2, 9, 30), LocalDateTime.of(2012, 1, 1, 10, 0)), Hours.of(-23));
+        assertEquals(Hours.between(Instant.ofEpochSecond(0, 500), Instant.ofEpochSecond(7200)), Hours.of(1));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            assertEquals(Hours.between(dateTime1, dateTime2).getAmount(), NANOS.between(dateTime1, dateTime2) / (3600000000000L));
+            Instant instant1 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            Instant instant2 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            assertEquals(Hours.between(instant1, instant2).getAmount(), NANOS.between(instant1, instant2) / (3600000000000L));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_between_localDate() {
+        Hours.between(LocalDate.of(2012, 1, 1), LocalDate.of(2012, 1, 2));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Hours.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Hours test = Hours.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(HOURS));
+        assertEquals(test.get(HOURS), 5);
+        assertSame(Hours.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Hours.of(5).get(NANOS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Hours.of(3)), dateTime.plus(3, HOURS));
+        assertEquals(dateTime.minus(Hours.of(3)), dateTime.minus(3, HOURS));
+        Instant instant = Instant.ofEpochSecond(1000000, 5);
+        assertEquals(instant.plus(Hours.of(7)), instant.plus(7, HOURS));
+        assertEquals(instant.minus(Hours.of(Integer.MIN_VALUE)), instant.plus(-(long) Integer.MIN_VALUE, HOURS));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        LocalDate.of(2012, 1, 1).plus(Hours.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Hours.parse("PT5H"), Hours.of(5));
+        assertEquals(Hours.parse("PT0H"), Hours.ZERO);
+        assertEquals(Hours.parse("pt7h"), Hours.of(7));
+        assertEquals(Hours.parse("-PT5H"), Hours.of(-5));
+        assertEquals(Hours.parse("PT-5H"), Hours.of(-5));
+        assertEquals(Hours.parse("-PT-5H"), Hours.of(5));
+        assertEquals(Hours.parse("+PT+5H"), Hours.of(5));
+        assertEquals(Hours.parse("PT2147483647H"), Hours.of(Integer.MAX_VALUE));
+        assertEquals(Hours.parse("PT-2147483648H"), Hours.of(Integer.MIN_VALUE));
+        assertEquals(Hours.parse(new StringBuilder("PT0012H")), Hours.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Hours.parse(Hours.of(amount).toString()), Hours.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Hours.parse("abPT12Hxy", 2, 7), Hours.of(12));
+        assertEquals(Hours.parse("PT12HPT3H", 5, 9), Hours.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5H", 0},
+            {"PT", 2},
+            {"PTH", 2},
+            {"PT-H", 3},
+            {"PT5", 3},
+            {"PT5X", 3},
+            {"PT5H ", 4},
+            {"PT2147483648H", 2},
+            {"PT-2147483649H", 3},
+            {"PT99999999999999999999H", 2},
+            {"--PT5H", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Hours.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Hours.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Hours.parse("PT5H", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Hours.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Hours.of(-25).formatTo(buf);
+        Hours.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xPT-25HPT0H");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Hours test = Hours.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Hours.of(100).formatTo(new byte[8], 8 - Hours.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Hours.of(100).formatTo(ByteBuffer.allocateDirect(Hours.of(100).toString().length() - 1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_conversions() {
+        assertEquals(Hours.of(3).toMinutes(), Minutes.of(180));
+        assertEquals(Hours.of(-2).toMinutes(), Minutes.of(-120));
+        assertSame(Hours.ZERO.toMinutes(), Minutes.ZERO);
+        assertEquals(Hours.of(3).toSeconds(), Seconds.of(10800));
+        assertEquals(Hours.of(-2).toSeconds(), Seconds.of(-7200));
+        assertSame(Hours.ZERO.toSeconds(), Seconds.ZERO);
+    }
+
+    public void test_conversions_limit() {
+        assertEquals(Hours.of(Integer.MAX_VALUE / 3600).toSeconds().getAmount(), Integer.MAX_VALUE / 3600 * 3600);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_conversions_overflow() {
+        Hours.of(Integer.MAX_VALUE / 3600 + 1).toSeconds();
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Hours test5 = Hours.of(5);
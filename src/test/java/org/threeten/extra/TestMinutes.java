@@ -35,15 +35,29 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +101,218 @@ public class TestMinutes {
         assertSame(Minutes.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Minutes.of(1), Minutes.of(1));
+        assertSame(Minutes.of(-256), Minutes.of(-256));
+        assertSame(Minutes.of(1024), Minutes.of(1024));
+        assertSame(Minutes.of(1).plus(1), Minutes.of(2));
+        assertEquals(1025, Minutes.of(1025).getAmount());
+        assertEquals(-257, Minutes.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Minutes orginal = Minutes.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Minutes ser = (Minutes) in.readObject();
+        assertSame(Minutes.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Minutes.between(LocalDateTime.of(2012, 1, 1, 23, 59, 30), LocalDateTime.of(2012, 1, 2, 0, 1)), Minutes.of(1));
+        assertEquals(Minutes.between(Instant.ofEpochSecond(120), Instant.ofEpochSecond(0)), Minutes.of(-2));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            assertEquals(Minutes.between(dateTime1, dateTime2).getAmount(), NANOS.between(dateTime1, dateTime2) / (60000000000L));
+            Instant instant1 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            Instant instant2 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            assertEquals(Minutes.between(instant1, instant2).getAmount(), NANOS.between(instant1, instant2) / (60000000000L));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_between_localDate() {
+        Minutes.between(LocalDate.of(2012, 1, 1), LocalDate.of(2012, 1, 2));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Minutes.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Minutes test = Minutes.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(MINUTES));
+        assertEquals(test.get(MINUTES), 5);
+        assertSame(Minutes.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Minutes.of(5).get(NANOS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Minutes.of(3)), dateTime.plus(3, MINUTES));
+        assertEquals(dateTime.minus(Minutes.of(3)), dateTime.minus(3, MINUTES));
+        Instant instant = Instant.ofEpochSecond(1000000, 5);
+        assertEquals(instant.plus(Minutes.of(7)), instant.plus(7, MINUTES));
+        assertEquals(instant.minus(Minutes.of(Integer.MIN_VALUE)), instant.plus(-(long) Integer.MIN_VALUE, MINUTES));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        LocalDate.of(2012, 1, 1).plus(Minutes.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Minutes.parse("PT5M"), Minutes.of(5));
+        assertEquals(Minutes.parse("PT0M"), Minutes.ZERO);
+        assertEquals(Minutes.parse("pt7m"), Minutes.of(7));
+        assertEquals(Minutes.parse("-PT5M"), Minutes.of(-5));
+        assertEquals(Minutes.parse("PT-5M"), Minutes.of(-5));
+        assertEquals(Minutes.parse("-PT-5M"), Minutes.of(5));
+        assertEquals(Minutes.parse("+PT+5M"), Minutes.of(5));
+        assertEquals(Minutes.parse("PT2147483647M"), Minutes.of(Integer.MAX_VALUE));
+        assertEquals(Minutes.parse("PT-2147483648M"), Minutes.of(Integer.MIN_VALUE));
+        assertEquals(Minutes.parse(new StringBuilder("PT0012M")), Minutes.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Minutes.parse(Minutes.of(amount).toString()), Minutes.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Minutes.parse("abPT12Mxy", 2, 7), Minutes.of(12));
+        assertEquals(Minutes.parse("PT12MPT3M", 5, 9), Minutes.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5M", 0},
+            {"PT", 2},
+            {"PTM", 2},
+            {"PT-M", 3},
+            {"PT5", 3},
+            {"PT5X", 3},
+            {"PT5M ", 4},
+            {"PT2147483648M", 2},
+            {"PT-2147483649M", 3},
+            {"PT99999999999999999999M", 2},
+            {"--PT5M", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Minutes.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Minutes.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Minutes.parse("PT5M", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Minutes.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Minutes.of(-25).formatTo(buf);
+        Minutes.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xPT-25MPT0M");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Minutes test = Minutes.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Minutes.of(100).formatTo(new byte[8], 8 - Minutes.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Minutes.of(100).formatTo(ByteBuffer.allocateDirect(Minutes.of(100).toString().length() - 1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_conversions() {
+        assertEquals(Minutes.of(3).toSeconds(), Seconds.of(180));
+        assertEquals(Minutes.of(-2).toSeconds(), Seconds.of(-120));
+        assertSame(Minutes.ZERO.toSeconds(), Seconds.ZERO);
+    }
+
+    public void test_conversions_limit() {
+        assertEquals(Minutes.of(Integer.MAX_VALUE / 60).toSeconds().getAmount(), Integer.MAX_VALUE / 60 * 60);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_conversions_overflow() {
+        Minutes.of(Integer.MAX_VALUE / 60 + 1).toSeconds();
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Minutes test5 = Minutes.of(5);
@@ -35,15 +35,29 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +101,211 @@ public class TestMonths {
         assertSame(Months.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Months.of(1), Months.of(1));
+        assertSame(Months.of(-256), Months.of(-256));
+        assertSame(Months.of(1024), Months.of(1024));
+        assertSame(Months.of(1).plus(1), Months.of(2));
+        assertEquals(1025, Months.of(1025).getAmount());
+        assertEquals(-257, Months.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Months orginal = Months.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Months ser = (Months) in.readObject();
+        assertSame(Months.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Months.between(LocalDate.of(2012, 1, 31), LocalDate.of(2012, 2, 29)), Months.of(0));
+        assertEquals(Months.between(LocalDate.of(2012, 1, 31), LocalDate.of(2012, 3, 31)), Months.of(2));
+        assertEquals(Months.between(LocalDate.of(2012, 3, 31), LocalDate.of(2012, 1, 31)), Months.of(-2));
+        assertEquals(Months.between(LocalDateTime.of(2012, 3, 31, 10, 0), LocalDateTime.of(2012, 5, 1, 9, 0)), Months.of(0));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDate date1 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            LocalDate date2 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            assertEquals(Months.between(date1, date2).getAmount(), MONTHS.between(date1, date2));
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDate endDate = dateTime2.toLocalDate();
+            if (endDate.isAfter(dateTime1.toLocalDate()) && dateTime2.toLocalTime().isBefore(dateTime1.toLocalTime())) {
+                endDate = endDate.minusDays(1);
+            } else if (endDate.isBefore(dateTime1.toLocalDate()) && dateTime2.toLocalTime().isAfter(dateTime1.toLocalTime())) {
+                endDate = endDate.plusDays(1);
+            }
+            assertEquals(Months.between(dateTime1, dateTime2).getAmount(), MONTHS.between(dateTime1.toLocalDate(), endDate));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_between_instant() {
+        Months.between(Instant.ofEpochSecond(0), Instant.ofEpochSecond(86400 * 400));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Months.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Months test = Months.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(MONTHS));
+        assertEquals(test.get(MONTHS), 5);
+        assertSame(Months.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Months.of(5).get(NANOS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDate date = LocalDate.of(2012, 1, 31);
+        assertEquals(date.plus(Months.of(1)), date.plus(1, MONTHS));
+        assertEquals(date.minus(Months.of(-25)), date.plus(25, MONTHS));
+        assertEquals(Months.of(13).subtractFrom(date), date.minus(13, MONTHS));
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Months.of(3)), dateTime.plus(3, MONTHS));
+        assertEquals(dateTime.minus(Months.of(3)), dateTime.minus(3, MONTHS));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        Instant.ofEpochSecond(0).plus(Months.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Months.parse("P5M"), Months.of(5));
+        assertEquals(Months.parse("P0M"), Months.ZERO);
+        assertEquals(Months.parse("p7m"), Months.of(7));
+        assertEquals(Months.parse("-P5M"), Months.of(-5));
+        assertEquals(Months.parse("P-5M"), Months.of(-5));
+        assertEquals(Months.parse("-P-5M"), Months.of(5));
+        assertEquals(Months.parse("+P+5M"), Months.of(5));
+        assertEquals(Months.parse("P2147483647M"), Months.of(Integer.MAX_VALUE));
+        assertEquals(Months.parse("P-2147483648M"), Months.of(Integer.MIN_VALUE));
+        assertEquals(Months.parse(new StringBuilder("P0012M")), Months.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Months.parse(Months.of(amount).toString()), Months.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Months.parse("abP12Mxy", 2, 6), Months.of(12));
+        assertEquals(Months.parse("P12MP3M", 4, 7), Months.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5M", 0},
+            {"P", 1},
+            {"PM", 1},
+            {"P-M", 2},
+            {"P5", 2},
+            {"P5X", 2},
+            {"P5M ", 3},
+            {"P2147483648M", 1},
+            {"P-2147483649M", 2},
+            {"P99999999999999999999M", 1},
+            {"--P5M", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Months.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Months.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Months.parse("P5M", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Months.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Months.of(-25).formatTo(buf);
+        Months.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xP-25MP0M");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Months test = Months.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Months.of(100).formatTo(new byte[8], 8 - Months.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Months.of(100).formatTo(ByteBuffer.allocateDirect(Months.of(100).toString().length() - 1));
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Months test5 = Months.of(5);
@@ -46,6 +46,10 @@ import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.IsoFields;
@@ -138,6 +142,26 @@ public class TestQuarterOfYear {
         assertEquals(QuarterOfYear.Q1.getDisplayName(TextStyle.SHORT, Locale.US), "1");
     }
 
+    @Test(groups={"tck"})
+    public void test_getDisplayName_matchesFormatter() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                for (QuarterOfYear value : QuarterOfYear.values()) {
+                    String expected = new DateTimeFormatterBuilder().appendText(IsoFields.QUARTER_OF_YEAR, style).toFormatter(locale).format(value);
+                    assertEquals(value.getDisplayName(style, locale), expected);
+                }
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_getDisplayName_cached() {
+        String first = QuarterOfYear.Q1.getDisplayName(TextStyle.FULL, Locale.GERMANY);
+        assertSame(QuarterOfYear.Q1.getDisplayName(TextStyle.FULL, Locale.GERMANY), first);
+        assertEquals(QuarterOfYear.Q4.getDisplayName(TextStyle.FULL, Locale.GERMANY),
+                new DateTimeFormatterBuilder().appendText(IsoFields.QUARTER_OF_YEAR, TextStyle.FULL).toFormatter(Locale.GERMANY).format(QuarterOfYear.Q4));
+    }
+
     @Test(expectedExceptions = NullPointerException.class, groups={"tck"})
     public void test_getDisplayName_nullStyle() {
         QuarterOfYear.Q1.getDisplayName(null, Locale.US);
@@ -253,6 +277,38 @@ public class TestQuarterOfYear {
         assertEquals(QuarterOfYear.Q4.toString(), "Q4");
     }
 
+    //-----------------------------------------------------------------------
+    // from() and adjustInto() for common ISO types
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_from_isoTypes() {
+        for (int month = 1; month <= 12; month++) {
+            LocalDateTime dateTime = LocalDateTime.of(2012, month, 15, 13, 45);
+            QuarterOfYear expected = QuarterOfYear.of(dateTime.get(IsoFields.QUARTER_OF_YEAR));
+            assertSame(QuarterOfYear.from(dateTime.toLocalDate()), expected);
+            assertSame(QuarterOfYear.from(dateTime), expected);
+            assertSame(QuarterOfYear.from(dateTime.atZone(ZoneOffset.ofHours(2))), expected);
+            assertSame(QuarterOfYear.from(dateTime.atOffset(ZoneOffset.ofHours(-5))), expected);
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_adjustInto_isoTypes() {
+        for (int month = 1; month <= 12; month++) {
+            LocalDate date = LocalDate.of(2012, month, 1);
+            LocalDateTime dateTime = date.withDayOfMonth(date.lengthOfMonth()).atTime(13, 45);
+            ZonedDateTime zoned = dateTime.atZone(ZoneOffset.ofHours(2));
+            OffsetDateTime offset = dateTime.atOffset(ZoneOffset.ofHours(-5));
+            for (QuarterOfYear quarter : QuarterOfYear.values()) {
+                int value = quarter.getValue();
+                assertEquals(quarter.adjustInto(dateTime.toLocalDate()), dateTime.toLocalDate().with(IsoFields.QUARTER_OF_YEAR, value));
+                assertEquals(quarter.adjustInto(dateTime), dateTime.with(IsoFields.QUARTER_OF_YEAR, value));
+                assertEquals(quarter.adjustInto(zoned), zoned.with(IsoFields.QUARTER_OF_YEAR, value));
+                assertEquals(quarter.adjustInto(offset), offset.with(IsoFields.QUARTER_OF_YEAR, value));
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // generated methods
     //-----------------------------------------------------------------------
@@ -35,6 +35,9 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
 import java.io.ByteArrayInputStream;
@@ -42,8 +45,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +102,207 @@ public class TestSeconds {
         assertSame(Seconds.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Seconds.of(1), Seconds.of(1));
+        assertSame(Seconds.of(-256), Seconds.of(-256));
+        assertSame(Seconds.of(1024), Seconds.of(1024));
+        assertSame(Seconds.of(1).plus(1), Seconds.of(2));
+        assertEquals(1025, Seconds.of(1025).getAmount());
+        assertEquals(-257, Seconds.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Seconds orginal = Seconds.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Seconds ser = (Seconds) in.readObject();
+        assertSame(Seconds.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Seconds.between(LocalDateTime.of(2012, 1, 1, 23, 59, 59, 500), LocalDateTime.of(2012, 1, 2, 0, 0, 1)), Seconds.of(1));
+        assertEquals(Seconds.between(Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(-2)), Seconds.of(-2));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            assertEquals(Seconds.between(dateTime1, dateTime2).getAmount(), NANOS.between(dateTime1, dateTime2) / (1000000000L));
+            Instant instant1 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            Instant instant2 = Instant.ofEpochSecond(random.nextInt() / 2, random.nextInt(1000000000));
+            assertEquals(Seconds.between(instant1, instant2).getAmount(), NANOS.between(instant1, instant2) / (1000000000L));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_between_localDate() {
+        Seconds.between(LocalDate.of(2012, 1, 1), LocalDate.of(2012, 1, 2));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_between_overflow() {
+        Seconds.between(Instant.ofEpochSecond(0), Instant.ofEpochSecond(Integer.MAX_VALUE + 1L));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Seconds.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Seconds test = Seconds.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(SECONDS));
+        assertEquals(test.get(SECONDS), 5);
+        assertSame(Seconds.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Seconds.of(5).get(DAYS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Seconds.of(3)), dateTime.plus(3, SECONDS));
+        assertEquals(dateTime.minus(Seconds.of(3)), dateTime.minus(3, SECONDS));
+        Instant instant = Instant.ofEpochSecond(1000000, 5);
+        assertEquals(instant.plus(Seconds.of(7)), instant.plus(7, SECONDS));
+        assertEquals(instant.minus(Seconds.of(Integer.MIN_VALUE)), instant.plus(-(long) Integer.MIN_VALUE, SECONDS));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        LocalDate.of(2012, 1, 1).plus(Seconds.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Seconds.parse("PT5S"), Seconds.of(5));
+        assertEquals(Seconds.parse("PT0S"), Seconds.ZERO);
+        assertEquals(Seconds.parse("pt7s"), Seconds.of(7));
+        assertEquals(Seconds.parse("-PT5S"), Seconds.of(-5));
+        assertEquals(Seconds.parse("PT-5S"), Seconds.of(-5));
+        assertEquals(Seconds.parse("-PT-5S"), Seconds.of(5));
+        assertEquals(Seconds.parse("+PT+5S"), Seconds.of(5));
+        assertEquals(Seconds.parse("PT2147483647S"), Seconds.of(Integer.MAX_VALUE));
+        assertEquals(Seconds.parse("PT-2147483648S"), Seconds.of(Integer.MIN_VALUE));
+        assertEquals(Seconds.parse(new StringBuilder("PT0012S")), Seconds.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Seconds.parse(Seconds.of(amount).toString()), Seconds.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Seconds.parse("abPT12Sxy", 2, 7), Seconds.of(12));
+        assertEquals(Seconds.parse("PT12SPT3S", 5, 9), Seconds.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5S", 0},
+            {"PT", 2},
+            {"PTS", 2},
+            {"PT-S", 3},
+            {"PT5", 3},
+            {"PT5X", 3},
+            {"PT5S ", 4},
+            {"PT2147483648S", 2},
+            {"PT-2147483649S", 3},
+            {"PT99999999999999999999S", 2},
+            {"--PT5S", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Seconds.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Seconds.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Seconds.parse("PT5S", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Seconds.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Seconds.of(-25).formatTo(buf);
+        Seconds.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xPT-25SPT0S");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Seconds test = Seconds.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Seconds.of(100).formatTo(new byte[8], 8 - Seconds.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Seconds.of(100).formatTo(ByteBuffer.allocateDirect(Seconds.of(100).toString().length() - 1));
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Seconds test5 = Seconds.of(5);
@@ -35,6 +35,8 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
 
 import java.io.ByteArrayInputStream;
@@ -42,8 +44,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +101,229 @@ public class TestWeeks {
         assertSame(Weeks.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Weeks.of(1), Weeks.of(1));
+        assertSame(Weeks.of(-256), Weeks.of(-256));
+        assertSame(Weeks.of(1024), Weeks.of(1024));
+        assertSame(Weeks.of(1).plus(1), Weeks.of(2));
+        assertEquals(1025, Weeks.of(1025).getAmount());
+        assertEquals(-257, Weeks.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Weeks orginal = Weeks.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Weeks ser = (Weeks) in.readObject();
+        assertSame(Weeks.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Weeks.between(LocalDate.of(2012, 1, 1), LocalDate.of(2012, 1, 15)), Weeks.of(2));
+        assertEquals(Weeks.between(LocalDate.of(2012, 1, 15), LocalDate.of(2012, 1, 2)), Weeks.of(-1));
+        assertEquals(Weeks.between(LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 8, 9, 0)), Weeks.of(0));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDate date1 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            LocalDate date2 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            assertEquals(Weeks.between(date1, date2).getAmount(), WEEKS.between(date1, date2));
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            assertEquals(Weeks.between(dateTime1, dateTime2).getAmount(), NANOS.between(dateTime1, dateTime2) / (7 * 86400000000000L));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_between_instant() {
+        Weeks.between(Instant.ofEpochSecond(0), Instant.ofEpochSecond(86400 * 400));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Weeks.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Weeks test = Weeks.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(WEEKS));
+        assertEquals(test.get(WEEKS), 5);
+        assertSame(Weeks.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Weeks.of(5).get(NANOS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDate date = LocalDate.of(2012, 1, 31);
+        assertEquals(date.plus(Weeks.of(1)), date.plus(1, WEEKS));
+        assertEquals(date.minus(Weeks.of(-25)), date.plus(25, WEEKS));
+        assertEquals(Weeks.of(13).subtractFrom(date), date.minus(13, WEEKS));
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Weeks.of(3)), dateTime.plus(3, WEEKS));
+        assertEquals(dateTime.minus(Weeks.of(3)), dateTime.minus(3, WEEKS));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        Instant.ofEpochSecond(0).plus(Weeks.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Weeks.parse("P5W"), Weeks.of(5));
+        assertEquals(Weeks.parse("P0W"), Weeks.ZERO);
+        assertEquals(Weeks.parse("p7w"), Weeks.of(7));
+        assertEquals(Weeks.parse("-P5W"), Weeks.of(-5));
+        assertEquals(Weeks.parse("P-5W"), Weeks.of(-5));
+        assertEquals(Weeks.parse("-P-5W"), Weeks.of(5));
+        assertEquals(Weeks.parse("+P+5W"), Weeks.of(5));
+        assertEquals(Weeks.parse("P2147483647W"), Weeks.of(Integer.MAX_VALUE));
+        assertEquals(Weeks.parse("P-2147483648W"), Weeks.of(Integer.MIN_VALUE));
+        assertEquals(Weeks.parse(new StringBuilder("P0012W")), Weeks.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Weeks.parse(Weeks.of(amount).toString()), Weeks.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Weeks.parse("abP12Wxy", 2, 6), Weeks.of(12));
+        assertEquals(Weeks.parse("P12WP3W", 4, 7), Weeks.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5W", 0},
+            {"P", 1},
+            {"PW", 1},
+            {"P-W", 2},
+            {"P5", 2},
+            {"P5X", 2},
+            {"P5W ", 3},
+            {"P2147483648W", 1},
+            {"P-2147483649W", 2},
+            {"P99999999999999999999W", 1},
+            {"--P5W", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Weeks.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Weeks.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Weeks.parse("P5W", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Weeks.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Weeks.of(-25).formatTo(buf);
+        Weeks.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xP-25WP0W");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Weeks test = Weeks.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Weeks.of(100).formatTo(new byte[8], 8 - Weeks.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Weeks.of(100).formatTo(ByteBuffer.allocateDirect(Weeks.of(100).toString().length() - 1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_conversions() {
+        assertEquals(Weeks.of(3).toDays(), Days.of(21));
+        assertEquals(Weeks.of(-2).toDays(), Days.of(-14));
+        assertSame(Weeks.ZERO.toDays(), Days.ZERO);
+        assertEquals(Weeks.of(3).toHours(), Hours.of(504));
+        assertEquals(Weeks.of(-2).toHours(), Hours.of(-336));
+        assertSame(Weeks.ZERO.toHours(), Hours.ZERO);
+        assertEquals(Weeks.of(3).toMinutes(), Minutes.of(30240));
+        assertEquals(Weeks.of(-2).toMinutes(), Minutes.of(-20160));
+        assertSame(Weeks.ZERO.toMinutes(), Minutes.ZERO);
+        assertEquals(Weeks.of(3).toSeconds(), Seconds.of(1814400));
+        assertEquals(Weeks.of(-2).toSeconds(), Seconds.of(-1209600));
+        assertSame(Weeks.ZERO.toSeconds(), Seconds.ZERO);
+    }
+
+    public void test_conversions_limit() {
+        assertEquals(Weeks.of(Integer.MAX_VALUE / 604800).toSeconds().getAmount(), Integer.MAX_VALUE / 604800 * 604800);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_conversions_overflow() {
+        Weeks.of(Integer.MAX_VALUE / 604800 + 1).toSeconds();
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Weeks test5 = Weeks.of(5);
@@ -35,15 +35,29 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +101,211 @@ public class TestYears {
         assertSame(Years.ZERO, ser);
     }
 
+    public void test_factoryCached() {
+        assertSame(Years.of(1), Years.of(1));
+        assertSame(Years.of(-256), Years.of(-256));
+        assertSame(Years.of(1024), Years.of(1024));
+        assertSame(Years.of(1).plus(1), Years.of(2));
+        assertEquals(1025, Years.of(1025).getAmount());
+        assertEquals(-257, Years.of(-257).getAmount());
+    }
+
+    public void test_deserializationCached() throws Exception {
+        Years orginal = Years.of(24);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Years ser = (Years) in.readObject();
+        assertSame(Years.of(24), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_between() {
+        assertEquals(Years.between(LocalDate.of(2012, 2, 29), LocalDate.of(2013, 2, 28)), Years.of(0));
+        assertEquals(Years.between(LocalDate.of(2012, 2, 29), LocalDate.of(2016, 2, 29)), Years.of(4));
+        assertEquals(Years.between(LocalDate.of(2016, 2, 29), LocalDate.of(2012, 3, 1)), Years.of(-3));
+        assertEquals(Years.between(LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2013, 1, 1, 9, 0)), Years.of(0));
+    }
+
+    public void test_between_matchesUnit() {
+        Random random = new Random(47);
+        for (int i = 0; i < 1000; i++) {
+            LocalDate date1 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            LocalDate date2 = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(20000) - 10000);
+            assertEquals(Years.between(date1, date2).getAmount(), YEARS.between(date1, date2));
+            LocalDateTime dateTime1 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDateTime dateTime2 = LocalDateTime.of(2000, 1, 1, 0, 0).plusSeconds(random.nextInt() / 2).plusNanos(random.nextInt(1000000000));
+            LocalDate endDate = dateTime2.toLocalDate();
+            if (endDate.isAfter(dateTime1.toLocalDate()) && dateTime2.toLocalTime().isBefore(dateTime1.toLocalTime())) {
+                endDate = endDate.minusDays(1);
+            } else if (endDate.isBefore(dateTime1.toLocalDate()) && dateTime2.toLocalTime().isAfter(dateTime1.toLocalTime())) {
+                endDate = endDate.plusDays(1);
+            }
+            assertEquals(Years.between(dateTime1, dateTime2).getAmount(), YEARS.between(dateTime1.toLocalDate(), endDate));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_between_instant() {
+        Years.between(Instant.ofEpochSecond(0), Instant.ofEpochSecond(86400 * 400));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_between_null() {
+        Years.between(null, LocalDateTime.of(2012, 1, 1, 0, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_temporalAmount() {
+        Years test = Years.of(5);
+        assertEquals(test.getUnits(), Collections.singletonList(YEARS));
+        assertEquals(test.get(YEARS), 5);
+        assertSame(Years.ZERO.addTo(LocalDateTime.MIN), LocalDateTime.MIN);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_temporalAmount_getOtherUnit() {
+        Years.of(5).get(NANOS);
+    }
+
+    public void test_addToSubtractFrom() {
+        LocalDate date = LocalDate.of(2012, 1, 31);
+        assertEquals(date.plus(Years.of(1)), date.plus(1, YEARS));
+        assertEquals(date.minus(Years.of(-25)), date.plus(25, YEARS));
+        assertEquals(Years.of(13).subtractFrom(date), date.minus(13, YEARS));
+        LocalDateTime dateTime = LocalDateTime.of(2012, 1, 31, 10, 30);
+        assertEquals(dateTime.plus(Years.of(3)), dateTime.plus(3, YEARS));
+        assertEquals(dateTime.minus(Years.of(3)), dateTime.minus(3, YEARS));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_addTo_unsupported() {
+        Instant.ofEpochSecond(0).plus(Years.of(1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_parse() {
+        assertEquals(Years.parse("P5Y"), Years.of(5));
+        assertEquals(Years.parse("P0Y"), Years.ZERO);
+        assertEquals(Years.parse("p7y"), Years.of(7));
+        assertEquals(Years.parse("-P5Y"), Years.of(-5));
+        assertEquals(Years.parse("P-5Y"), Years.of(-5));
+        assertEquals(Years.parse("-P-5Y"), Years.of(5));
+        assertEquals(Years.parse("+P+5Y"), Years.of(5));
+        assertEquals(Years.parse("P2147483647Y"), Years.of(Integer.MAX_VALUE));
+        assertEquals(Years.parse("P-2147483648Y"), Years.of(Integer.MIN_VALUE));
+        assertEquals(Years.parse(new StringBuilder("P0012Y")), Years.of(12));
+    }
+
+    public void test_parse_toString() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -1024, -1, 0, 1, 24, 1025, Integer.MAX_VALUE}) {
+            assertEquals(Years.parse(Years.of(amount).toString()), Years.of(amount));
+        }
+    }
+
+    public void test_parse_range() {
+        assertEquals(Years.parse("abP12Yxy", 2, 6), Years.of(12));
+        assertEquals(Years.parse("P12YP3Y", 4, 7), Years.of(3));
+    }
+
+    @DataProvider(name = "parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"", 0},
+            {"5Y", 0},
+            {"P", 1},
+            {"PY", 1},
+            {"P-Y", 2},
+            {"P5", 2},
+            {"P5X", 2},
+            {"P5Y ", 3},
+            {"P2147483648Y", 1},
+            {"P-2147483649Y", 2},
+            {"P99999999999999999999Y", 1},
+            {"--P5Y", 1},
+        };
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalid(String text, int errorIndex) {
+        try {
+            Years.parse(text);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+    @Test(dataProvider = "parseInvalid")
+    public void test_parse_invalidRange(String text, int errorIndex) {
+        try {
+            Years.parse("xx" + text + "yy", 2, text.length() + 2);
+            fail("Expected DateTimeParseException: " + text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex + 2);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_parse_badRange() {
+        Years.parse("P5Y", 0, 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_parse_null() {
+        Years.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatTo_appendable() {
+        StringBuilder buf = new StringBuilder("x");
+        Years.of(-25).formatTo(buf);
+        Years.ZERO.formatTo(buf);
+        assertEquals(buf.toString(), "xP-25YP0Y");
+    }
+
+    public void test_formatTo_bytes() {
+        for (int amount : new int[] {Integer.MIN_VALUE, -10, -9, 0, 9, 10, 999, 1000, Integer.MAX_VALUE}) {
+            Years test = Years.of(amount);
+            byte[] expected = test.toString().getBytes(StandardCharsets.US_ASCII);
+            byte[] array = new byte[20];
+            assertEquals(test.formatTo(array, 3), 3 + expected.length);
+            assertEquals(Arrays.copyOfRange(array, 3, 3 + expected.length), expected);
+            ByteBuffer heap = ByteBuffer.allocate(20);
+            heap.position(2);
+            test.formatTo(heap);
+            assertEquals(heap.position(), 2 + expected.length);
+            assertEquals(Arrays.copyOfRange(heap.array(), 2, 2 + expected.length), expected);
+            ByteBuffer backing = ByteBuffer.allocate(24);
+            backing.position(4);
+            ByteBuffer slice = backing.slice();
+            test.formatTo(slice);
+            assertEquals(slice.position(), expected.length);
+            assertEquals(Arrays.copyOfRange(backing.array(), 4, 4 + expected.length), expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(20);
+            test.formatTo(direct);
+            assertEquals(direct.position(), expected.length);
+            byte[] read = new byte[expected.length];
+            direct.flip();
+            direct.get(read);
+            assertEquals(read, expected);
+        }
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_formatTo_bytesTooSmall() {
+        Years.of(100).formatTo(new byte[8], 8 - Years.of(100).toString().length() + 1);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void test_formatTo_bufferTooSmall() {
+        Years.of(100).formatTo(ByteBuffer.allocateDirect(Years.of(100).toString().length() - 1));
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Years test5 = Years.of(5);
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeParseException;
+
+/**
+ * Test ChronoDateFormatter.
+ */
+@Test
+public class TestChronoDateFormatter {
+
+    @DataProvider(name="coptic")
+    Object[][] data_coptic() {
+        return new Object[][] {
+            {"yyyy-MM-dd", CopticChronology.INSTANCE.date(1727, 13, 5), "1727-13-05"},
+            {"yyyy-MM-dd", CopticChronology.INSTANCE.date(12, 1, 1), "0012-01-01"},
+            {"uuuu-MM-dd", CopticChronology.INSTANCE.date(-12, 3, 30), "-0012-03-30"},
+            {"yyyy-MM-dd G", CopticChronology.INSTANCE.date(-12, 3, 30), "0013-03-30 BEFORE_AM"},
+            {"G y-M-d", CopticChronology.INSTANCE.date(1727, 2, 5), "AM 1727-2-5"},
+            {"d MMMM yyyy", CopticChronology.INSTANCE.date(1727, 13, 5), "5 Pi Kogi Enavot 1727"},
+            {"dd MMM y", CopticChronology.INSTANCE.date(1727, 1, 30), "30 Thout 1727"},
+            {"yyyyMMdd", CopticChronology.INSTANCE.date(1727, 7, 8), "17270708"},
+            {"'Day' d 'of' MMMM, y ''G''", CopticChronology.INSTANCE.date(1727, 7, 8), "Day 8 of Paremhat, 1727 'AM'"},
+        };
+    }
+
+    @DataProvider(name="persian")
+    Object[][] data_persian() {
+        return new Object[][] {
+            {"yyyy-MM-dd", PersianChronology.INSTANCE.date(1399, 12, 30), "1399-12-30"},
+            {"yyyy/MM/dd G", PersianChronology.INSTANCE.date(1403, 7, 1), "1403/07/01 AM"},
+            {"d MMMM yyyy", PersianChronology.INSTANCE.date(1403, 1, 1), "1 Farvardin 1403"},
+            {"d MMMM yyyy", PersianChronology.INSTANCE.date(1403, 12, 30), "30 Esfand 1403"},
+        };
+    }
+
+    @Test(dataProvider="coptic", groups={"tck"})
+    public void test_coptic_format(String pattern, CopticDate date, String expected) {
+        ChronoDateFormatter<CopticDate> test = ChronoDateFormatter.coptic(pattern);
+        assertEquals(test.format(date), expected);
+        StringBuilder buf = new StringBuilder("x");
+        test.formatTo(date, buf);
+        assertEquals(buf.toString(), "x" + expected);
+    }
+
+    @Test(dataProvider="coptic", groups={"tck"})
+    public void test_coptic_parse(String pattern, CopticDate date, String text) {
+        ChronoDateFormatter<CopticDate> test = ChronoDateFormatter.coptic(pattern);
+        assertEquals(test.parse(text), date);
+        assertEquals(test.parsePacked(text), CopticChronology.pack(date));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_textCaseInsensitive() {
+        ChronoDateFormatter<CopticDate> test = ChronoDateFormatter.coptic("d MMMM y G");
+        assertEquals(test.parse("5 PI KOGI ENAVOT 1727 am"), CopticChronology.INSTANCE.date(1727, 13, 5));
+    }
+
+    @Test(dataProvider="persian", groups={"tck"})
+    public void test_persian_format(String pattern, PersianDate date, String expected) {
+        ChronoDateFormatter<PersianDate> test = ChronoDateFormatter.persian(pattern);
+        assertEquals(test.format(date), expected);
+    }
+
+    @Test(dataProvider="persian", groups={"tck"})
+    public void test_persian_parse(String pattern, PersianDate date, String text) {
+        ChronoDateFormatter<PersianDate> test = ChronoDateFormatter.persian(pattern);
+        assertEquals(test.parse(text), date);
+    }
+
+    @Test(groups={"tck"})
+    public void test_formatPackedTo_charBuffer() {
+        ChronoDateFormatter<PersianDate> test = ChronoDateFormatter.persian("yyyy-MM-dd");
+        CharBuffer buf = CharBuffer.allocate(32);
+        test.formatPackedTo(PersianChronology.pack(1403, 7, 1), buf);
+        test.formatPackedTo(PersianChronology.pack(1403, 7, 2), buf);
+        buf.flip();
+        assertEquals(buf.toString(), "1403-07-011403-07-02");
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_formatTo_ioException() {
+        ChronoDateFormatter.persian("yyyy").formatTo(PersianChronology.INSTANCE.date(1403, 7, 1), new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException();
+            }
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException();
+            }
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException();
+            }
+        });
+    }
+
+    @Test(groups={"tck"})
+    public void test_withMonthNames() {
+        ChronoDateFormatter<PersianDate> test = ChronoDateFormatter.persian("d MMMM yyyy").withMonthNames(
+                "فروردین", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12");
+        PersianDate date = PersianChronology.INSTANCE.date(1403, 1, 1);
+        assertEquals(test.format(date), "1 فروردین 1403");
+        assertEquals(test.parse("1 فروردین 1403"), date);
+        assertEquals(test.parse("5 11 1403"), PersianChronology.INSTANCE.date(1403, 11, 5));
+        assertEquals(test.toString(), "Persian[d MMMM yyyy]");
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_withMonthNames_wrongCount() {
+        ChronoDateFormatter.coptic("MMMM").withMonthNames("a", "b");
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="badPatterns")
+    Object[][] data_badPatterns() {
+        return new Object[][] {
+            {"yyyy-MM-dd HH"},
+            {"ddd"},
+            {"'unclosed"},
+        };
+    }
+
+    @Test(dataProvider="badPatterns", groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_badPattern(String pattern) {
+        ChronoDateFormatter.coptic(pattern);
+    }
+
+    @DataProvider(name="badText")
+    Object[][] data_badText() {
+        return new Object[][] {
+            {"yyyy-MM-dd", "1727-13", 7},
+            {"yyyy-MM-dd", "1727/13/05", 4},
+            {"yyyy-MM-dd", "1727-1-05", 5},
+            {"yyyy-MM-dd", "1727-13-05x", 10},
+            {"yyyy-MM-dd", "x1727-13-05", 0},
+            {"yyyy-MM-dd", "1727-13-07", 0},
+            {"yyyy-MM-dd", "1727-14-01", 0},
+            {"d MMMM yyyy", "5 Thoth 1727", 2},
+            {"yyyy-MM G", "1727-13 AM", 0},
+        };
+    }
+
+    @Test(dataProvider="badText", groups={"tck"})
+    public void test_parse_badText(String pattern, String text, int errorIndex) {
+        try {
+            ChronoDateFormatter.coptic(pattern).parse(text);
+            fail("Expected DateTimeParseException");
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), errorIndex);
+            assertEquals(ex.getParsedString(), text);
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Test ChronoDateRange and ChronoDateIterator.
+ */
+@Test
+public class TestChronoDateRange {
+
+    @DataProvider(name="ranges")
+    Object[][] data_ranges() {
+        return new Object[][] {
+            {CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1732, 2, 3), 1, DAYS},
+            {CopticChronology.INSTANCE.date(-3, 13, 4), CopticChronology.INSTANCE.date(2, 1, 1), 1, DAYS},
+            {CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1732, 2, 3), 10, DAYS},
+            {CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1732, 2, 3), 1, WEEKS},
+            {CopticChronology.INSTANCE.date(1726, 12, 15), CopticChronology.INSTANCE.date(1732, 2, 3), 400, DAYS},
+            {CopticChronology.INSTANCE.date(1726, 12, 30), CopticChronology.INSTANCE.date(1740, 2, 3), 1, MONTHS},
+            {CopticChronology.INSTANCE.date(1726, 12, 30), CopticChronology.INSTANCE.date(1740, 2, 3), 5, MONTHS},
+            {CopticChronology.INSTANCE.date(1726, 1, 30), CopticChronology.INSTANCE.date(1727, 13, 5), 1, MONTHS},
+            {CopticChronology.INSTANCE.date(1726, 1, 30), CopticChronology.INSTANCE.date(1727, 13, 5), 2, MONTHS},
+            {CopticChronology.INSTANCE.date(-5, 13, 6), CopticChronology.INSTANCE.date(3, 13, 6), 13, MONTHS},
+            {PersianChronology.INSTANCE.date(1398, 12, 15), PersianChronology.INSTANCE.date(1404, 2, 3), 1, DAYS},
+            {PersianChronology.INSTANCE.date(1, 1, 1), PersianChronology.INSTANCE.date(3, 1, 1), 1, DAYS},
+            {PersianChronology.INSTANCE.date(1398, 12, 15), PersianChronology.INSTANCE.date(1404, 2, 3), 3, WEEKS},
+            {PersianChronology.INSTANCE.date(1398, 6, 31), PersianChronology.INSTANCE.date(1410, 2, 3), 1, MONTHS},
+            {PersianChronology.INSTANCE.date(1399, 12, 30), PersianChronology.INSTANCE.date(1410, 2, 3), 12, MONTHS},
+            {PersianChronology.INSTANCE.date(2990, 1, 1), PersianChronology.INSTANCE.date(2999, 12, 1), 7, DAYS},
+        };
+    }
+
+    @Test(dataProvider="ranges", groups={"tck"})
+    public <D extends ChronoLocalDate<D>> void test_iterator(D start, D end, int amount, ChronoUnit unit) {
+        List<D> expected = new ArrayList<D>();
+        for (int i = 0; ; i++) {
+            D date = plus(start, (long) i * amount, unit);
+            if (date.isBefore(end) == false) {
+                break;
+            }
+            expected.add(date);
+        }
+        List<D> actual = new ArrayList<D>();
+        for (D date : range(start, end, amount, unit)) {
+            actual.add(date);
+        }
+        assertEquals(actual, expected);
+    }
+
+    @Test(dataProvider="ranges", groups={"tck"})
+    public <D extends ChronoLocalDate<D>> void test_advance(D start, D end, int amount, ChronoUnit unit) {
+        ChronoDateIterator<D> it = range(start, end, amount, unit).iterator();
+        int count = 0;
+        while (it.advance()) {
+            D expected = plus(start, (long) count * amount, unit);
+            assertEquals(it.getEpochDay(), expected.toEpochDay());
+            assertEquals(it.getYear(), expected.getLong(YEAR));
+            assertEquals(it.getMonth(), expected.get(MONTH_OF_YEAR));
+            assertEquals(it.getDayOfMonth(), expected.get(DAY_OF_MONTH));
+            count++;
+        }
+        assertFalse(it.hasNext());
+        assertTrue(start.plus((long) count * amount, unit).isBefore(end) == false);
+    }
+
+    @Test(dataProvider="ranges", groups={"tck"})
+    public <D extends ChronoLocalDate<D>> void test_sizeAndGet(D start, D end, int amount, ChronoUnit unit) {
+        ChronoDateRange<D> range = range(start, end, amount, unit);
+        List<D> expected = new ArrayList<D>();
+        for (D date : range) {
+            expected.add(date);
+        }
+        assertEquals(range.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(range.get(i), expected.get(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D extends ChronoLocalDate<D>> D plus(D start, long amount, ChronoUnit unit) {
+        return (D) start.plus(amount, unit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D extends ChronoLocalDate<D>> ChronoDateRange<D> range(D start, D end, int amount, ChronoUnit unit) {
+        if (start instanceof CopticDate) {
+            return (ChronoDateRange<D>) ((CopticDate) start).datesUntil((CopticDate) end, amount, unit);
+        }
+        return (ChronoDateRange<D>) ((PersianDate) start).datesUntil((PersianDate) end, amount, unit);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_datesUntil_everyDay() {
+        PersianDate start = PersianChronology.INSTANCE.date(1399, 12, 29);
+        ChronoDateRange<PersianDate> range = start.datesUntil(PersianChronology.INSTANCE.date(1400, 1, 2));
+        ChronoDateIterator<PersianDate> it = range.iterator();
+        assertEquals(it.next(), PersianChronology.INSTANCE.date(1399, 12, 29));
+        assertEquals(it.next(), PersianChronology.INSTANCE.date(1399, 12, 30));
+        assertEquals(it.next(), PersianChronology.INSTANCE.date(1400, 1, 1));
+        assertEquals(it.getPacked(), PersianChronology.pack(1400, 1, 1));
+        assertFalse(it.hasNext());
+        assertFalse(it.advance());
+    }
+
+    @Test(groups={"tck"})
+    public void test_datesUntil_endOfSupportedRange() {
+        PersianDate start = PersianChronology.INSTANCE.date(3000, 1, 1);
+        PersianDate end = PersianChronology.INSTANCE.date(3000, 12, 29);
+        ChronoDateIterator<PersianDate> it = start.datesUntil(end, 2, MONTHS).iterator();
+        int count = 0;
+        while (it.advance()) {
+            count++;
+        }
+        assertEquals(count, 6);
+        assertEquals(it.getMonth(), 11);
+        it = start.datesUntil(end, 7, DAYS).iterator();
+        count = 0;
+        while (it.advance()) {
+            count++;
+        }
+        assertEquals(count, (end.toEpochDay() - start.toEpochDay() + 6) / 7);
+    }
+
+    @Test(groups={"tck"})
+    public void test_range_getters() {
+        CopticDate start = CopticChronology.INSTANCE.date(1727, 1, 1);
+        CopticDate end = CopticChronology.INSTANCE.date(1728, 1, 1);
+        ChronoDateRange<CopticDate> range = ChronoDateRange.coptic(start, end, 2, WEEKS);
+        assertEquals(range.getChronology(), CopticChronology.INSTANCE);
+        assertEquals(range.getStart(), start);
+        assertEquals(range.getEnd(), end);
+        assertFalse(range.isEmpty());
+        assertEquals(range, ChronoDateRange.coptic(start, end, 2, WEEKS));
+        assertEquals(range.hashCode(), ChronoDateRange.coptic(start, end, 2, WEEKS).hashCode());
+        assertFalse(range.equals(ChronoDateRange.coptic(start, end, 14, DAYS)));
+    }
+
+    @Test(groups={"tck"})
+    public void test_empty() {
+        PersianDate date = PersianChronology.INSTANCE.date(1400, 1, 1);
+        ChronoDateRange<PersianDate> range = ChronoDateRange.persian(date, date);
+        assertTrue(range.isEmpty());
+        assertEquals(range.size(), 0);
+        assertFalse(range.iterator().hasNext());
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_indexTooLarge() {
+        CopticDate date = CopticChronology.INSTANCE.date(1727, 1, 1);
+        ChronoDateRange<CopticDate> range = date.datesUntil(date.plus(1, YEARS));
+        range.get(range.size());
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_indexNegative() {
+        CopticDate date = CopticChronology.INSTANCE.date(1727, 1, 1);
+        date.datesUntil(date.plus(1, YEARS)).get(-1);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=NoSuchElementException.class)
+    public void test_next_afterEnd() {
+        PersianDate date = PersianChronology.INSTANCE.date(1400, 1, 1);
+        ChronoDateRange.persian(date, date).iterator().next();
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalStateException.class)
+    public void test_getter_beforeAdvance() {
+        PersianDate date = PersianChronology.INSTANCE.date(1400, 1, 1);
+        date.datesUntil(date.plus(1, YEARS)).iterator().getEpochDay();
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=UnsupportedOperationException.class)
+    public void test_remove() {
+        PersianDate date = PersianChronology.INSTANCE.date(1400, 1, 1);
+        ChronoDateIterator<PersianDate> it = date.datesUntil(date.plus(1, YEARS)).iterator();
+        it.next();
+        it.remove();
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_startAfterEnd() {
+        CopticDate date = CopticChronology.INSTANCE.date(1727, 1, 1);
+        date.datesUntil(date.minus(1, DAYS));
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_amountNotPositive() {
+        CopticDate date = CopticChronology.INSTANCE.date(1727, 1, 1);
+        date.datesUntil(date.plus(1, YEARS), 0, DAYS);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_unsupportedUnit() {
+        CopticDate date = CopticChronology.INSTANCE.date(1727, 1, 1);
+        date.datesUntil(date.plus(1, YEARS), 1, HOURS);
+    }
+
+}
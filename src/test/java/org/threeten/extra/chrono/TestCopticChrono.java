@@ -32,6 +32,20 @@
 package org.threeten.extra.chrono;
 
 import static org.testng.Assert.assertEquals;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoUnit.CENTURIES;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.DECADES;
+import static org.threeten.bp.temporal.ChronoUnit.ERAS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MILLENNIA;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import java.nio.LongBuffer;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -40,9 +54,11 @@ import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.Period;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.bp.temporal.TemporalUnit;
 
 /**
  * Test.
@@ -199,4 +215,179 @@ public class TestCopticChrono {
         assertEquals(coptic.toString(), expected);
     }
 
+    //-----------------------------------------------------------------------
+    // pack()/unpack()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="samples", groups={"tck"})
+    public void test_pack_roundTrip(ChronoLocalDate<?> date, LocalDate iso) {
+        CopticDate test = (CopticDate) date;
+        int packed = CopticChronology.pack(test);
+        assertEquals(CopticChronology.unpack(packed), test);
+        assertEquals(CopticChronology.packedToEpochDay(packed), iso.toEpochDay());
+        assertEquals(CopticChronology.packedOfEpochDay(iso.toEpochDay()), packed);
+        assertEquals(CopticChronology.pack(test.get(YEAR), test.get(MONTH_OF_YEAR), test.get(DAY_OF_MONTH)), packed);
+    }
+
+    @Test(dataProvider="badDates", groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_pack_badDates(int year, int month, int dom) {
+        CopticChronology.pack(year, month, dom);
+    }
+
+    @Test(groups={"tck"})
+    public void test_pack_compare() {
+        int[] ordered = {
+            CopticChronology.pack(-5, 13, 5),
+            CopticChronology.pack(-1, 1, 1),
+            CopticChronology.pack(0, 13, 5),
+            CopticChronology.pack(1, 1, 1),
+            CopticChronology.pack(1, 1, 2),
+            CopticChronology.pack(1, 2, 1),
+            CopticChronology.pack(3, 13, 6),
+            CopticChronology.pack(1728, 10, 28),
+        };
+        for (int i = 0; i < ordered.length; i++) {
+            for (int j = 0; j < ordered.length; j++) {
+                assertEquals(Integer.signum(CopticChronology.compare(ordered[i], ordered[j])), Integer.signum(i - j));
+                assertEquals(Integer.signum(CopticChronology.compare(ordered[i], ordered[j])),
+                        Integer.signum(CopticChronology.unpack(ordered[i]).compareTo(CopticChronology.unpack(ordered[j]))));
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_pack_fields() {
+        int packed = CopticChronology.pack(-5, 13, 6);
+        assertEquals(CopticChronology.packedYear(packed), -5);
+        assertEquals(CopticChronology.packedMonth(packed), 13);
+        assertEquals(CopticChronology.packedDay(packed), 6);
+        assertEquals(CopticChronology.packedLengthOfMonth(packed), 6);
+        assertEquals(CopticChronology.packedLengthOfMonth(CopticChronology.pack(1728, 13, 1)), 5);
+        assertEquals(CopticChronology.packedLengthOfMonth(CopticChronology.pack(1728, 12, 1)), 30);
+    }
+
+    @Test(groups={"tck"})
+    public void test_pack_plusDays() {
+        CopticDate base = CopticChronology.INSTANCE.date(1, 1, 1);
+        int packed = CopticChronology.pack(base);
+        for (int i = -365; i <= 2000; i += 7) {
+            assertEquals(CopticChronology.unpack(CopticChronology.plusDays(packed, i)), base.plus(i, DAYS));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // periodUntil()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="periodUntilUnit")
+    Object[][] data_periodUntilUnit() {
+        return new Object[][] {
+            {CopticChronology.INSTANCE.date(1728, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 1), DAYS, 0},
+            {CopticChronology.INSTANCE.date(1728, 1, 1), CopticChronology.INSTANCE.date(1728, 2, 1), DAYS, 30},
+            {CopticChronology.INSTANCE.date(1727, 13, 1), CopticChronology.INSTANCE.date(1728, 1, 1), DAYS, 6},
+            {CopticChronology.INSTANCE.date(1728, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 15), WEEKS, 2},
+            {CopticChronology.INSTANCE.date(1728, 1, 15), CopticChronology.INSTANCE.date(1728, 2, 14), MONTHS, 0},
+            {CopticChronology.INSTANCE.date(1728, 1, 15), CopticChronology.INSTANCE.date(1728, 2, 15), MONTHS, 1},
+            {CopticChronology.INSTANCE.date(1727, 12, 30), CopticChronology.INSTANCE.date(1727, 13, 6), MONTHS, 0},
+            {CopticChronology.INSTANCE.date(1727, 12, 6), CopticChronology.INSTANCE.date(1727, 13, 6), MONTHS, 1},
+            {CopticChronology.INSTANCE.date(1727, 13, 1), CopticChronology.INSTANCE.date(1728, 13, 1), MONTHS, 13},
+            {CopticChronology.INSTANCE.date(1728, 13, 1), CopticChronology.INSTANCE.date(1727, 13, 1), MONTHS, -13},
+            {CopticChronology.INSTANCE.date(1727, 13, 2), CopticChronology.INSTANCE.date(1728, 13, 1), YEARS, 0},
+            {CopticChronology.INSTANCE.date(1727, 13, 1), CopticChronology.INSTANCE.date(1728, 13, 1), YEARS, 1},
+            {CopticChronology.INSTANCE.date(1718, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 1), DECADES, 1},
+            {CopticChronology.INSTANCE.date(1, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 1), CENTURIES, 17},
+            {CopticChronology.INSTANCE.date(1, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 1), MILLENNIA, 1},
+            {CopticChronology.INSTANCE.date(0, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 1), ERAS, 1},
+        };
+    }
+
+    @Test(dataProvider="periodUntilUnit", groups={"tck"})
+    public void test_periodUntil_unit(CopticDate start, CopticDate end, TemporalUnit unit, long expected) {
+        assertEquals(start.periodUntil(end, unit), expected);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_periodUntil_unitUnsupported() {
+        CopticChronology.INSTANCE.date(1728, 1, 1).periodUntil(CopticChronology.INSTANCE.date(1728, 1, 2), HOURS);
+    }
+
+    @DataProvider(name="periodUntil")
+    Object[][] data_periodUntil() {
+        return new Object[][] {
+            {CopticChronology.INSTANCE.date(1728, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 1), 0, 0, 0},
+            {CopticChronology.INSTANCE.date(1728, 1, 1), CopticChronology.INSTANCE.date(1728, 1, 30), 0, 0, 29},
+            {CopticChronology.INSTANCE.date(1728, 1, 1), CopticChronology.INSTANCE.date(1728, 13, 5), 0, 12, 4},
+            {CopticChronology.INSTANCE.date(1727, 1, 1), CopticChronology.INSTANCE.date(1728, 13, 5), 1, 12, 4},
+            {CopticChronology.INSTANCE.date(1727, 12, 20), CopticChronology.INSTANCE.date(1728, 1, 10), 0, 1, 10},
+            {CopticChronology.INSTANCE.date(1727, 13, 6), CopticChronology.INSTANCE.date(1728, 13, 5), 0, 12, 29},
+            {CopticChronology.INSTANCE.date(1728, 2, 10), CopticChronology.INSTANCE.date(1728, 1, 20), 0, 0, -20},
+            {CopticChronology.INSTANCE.date(1728, 3, 10), CopticChronology.INSTANCE.date(1727, 1, 20), -1, -1, -20},
+        };
+    }
+
+    @Test(dataProvider="periodUntil", groups={"tck"})
+    public void test_periodUntil(CopticDate start, CopticDate end, int years, int months, int days) {
+        assertEquals(start.periodUntil(end), Period.of(years, months, days));
+    }
+
+    @Test(dataProvider="periodUntil", groups={"tck"})
+    public void test_periodUntil_addedToStart(CopticDate start, CopticDate end, int years, int months, int days) {
+        if (start.isAfter(end) == false) {
+            assertEquals(start.plus(years, YEARS).plus(months, MONTHS).plus(days, DAYS), end);
+        }
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_periodUntil_differentChronology() {
+        CopticChronology.INSTANCE.date(1728, 1, 1).periodUntil(LocalDate.of(2012, 1, 1));
+    }
+
+    //-----------------------------------------------------------------------
+    // epochDaysToFields()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_epochDaysToFields() {
+        long start = CopticChronology.INSTANCE.date(-3, 1, 1).toEpochDay();
+        long[] epochDays = new long[3000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = start + i;
+        }
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        CopticChronology.epochDaysToFields(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            CopticDate expected = CopticDate.ofEpochDay(epochDays[i]);
+            assertEquals(expected.toEpochDay(), epochDays[i]);
+            assertEquals(years[i], expected.getLong(YEAR));
+            assertEquals(months[i], expected.getLong(MONTH_OF_YEAR));
+            assertEquals(days[i], expected.getLong(DAY_OF_MONTH));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_epochDaysToFields_buffer() {
+        LongBuffer buffer = LongBuffer.wrap(new long[] {99, LocalDate.of(2012, 7, 5).toEpochDay(), 99}, 1, 1);
+        int[] years = new int[2];
+        int[] months = new int[2];
+        int[] days = new int[2];
+        assertEquals(CopticChronology.epochDaysToFields(buffer, years, months, days), 1);
+        assertEquals(buffer.remaining(), 0);
+        assertEquals(CopticChronology.INSTANCE.date(years[0], months[0], days[0]), CopticChronology.INSTANCE.date(1728, 10, 28));
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_epochDaysToFields_lengthMismatch() {
+        CopticChronology.epochDaysToFields(new long[2], new int[2], new int[1], new int[2]);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=ArithmeticException.class)
+    public void test_epochDaysToFields_overflow() {
+        CopticChronology.epochDaysToFields(new long[] {(1L << 62) - 615558}, new int[1], new int[1], new int[1]);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=ArithmeticException.class)
+    public void test_epochDaysToFields_buffer_overflow() {
+        LongBuffer buffer = LongBuffer.wrap(new long[] {Long.MAX_VALUE});
+        CopticChronology.epochDaysToFields(buffer, new int[1], new int[1], new int[1]);
+    }
+
 }
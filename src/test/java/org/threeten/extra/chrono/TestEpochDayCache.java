@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.extra.ChronoAdjusters;
+
+/**
+ * Test EpochDayCache.
+ */
+@Test
+public class TestEpochDayCache {
+
+    //-----------------------------------------------------------------------
+    // size
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_size() {
+        assertEquals(new EpochDayCache<CopticDate>(0).size(), 0);
+        assertEquals(new EpochDayCache<CopticDate>(-1).size(), 0);
+        assertEquals(new EpochDayCache<CopticDate>(1).size(), 1);
+        assertEquals(new EpochDayCache<CopticDate>(2).size(), 2);
+        assertEquals(new EpochDayCache<CopticDate>(3).size(), 4);
+        assertEquals(new EpochDayCache<CopticDate>(2048).size(), 2048);
+        assertEquals(new EpochDayCache<CopticDate>(2049).size(), 4096);
+        assertEquals(new EpochDayCache<CopticDate>(Integer.MAX_VALUE).size(), EpochDayCache.MAX_SIZE);
+    }
+
+    //-----------------------------------------------------------------------
+    // get()/put()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_getPut() {
+        EpochDayCache<CopticDate> test = new EpochDayCache<CopticDate>(16);
+        CopticDate date = CopticDate.ofEpochDay(15000);
+        assertNull(test.get(15000));
+        test.put(15000, date);
+        assertSame(test.get(15000), date);
+        assertNull(test.get(15001));
+        assertNull(test.get(15000 + 16));
+    }
+
+    @Test(groups={"tck"})
+    public void test_put_replacesSameSlot() {
+        EpochDayCache<CopticDate> test = new EpochDayCache<CopticDate>(16);
+        CopticDate date1 = CopticDate.ofEpochDay(-20);
+        CopticDate date2 = CopticDate.ofEpochDay(-20 + 16);
+        test.put(-20, date1);
+        test.put(-20 + 16, date2);
+        assertNull(test.get(-20));
+        assertSame(test.get(-20 + 16), date2);
+    }
+
+    @Test(groups={"tck"})
+    public void test_consecutiveDays() {
+        EpochDayCache<CopticDate> test = new EpochDayCache<CopticDate>(32);
+        for (long epochDay = 100; epochDay < 132; epochDay++) {
+            test.put(epochDay, CopticDate.ofEpochDay(epochDay));
+        }
+        for (long epochDay = 100; epochDay < 132; epochDay++) {
+            assertEquals(test.get(epochDay), CopticDate.ofEpochDay(epochDay));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_disabled() {
+        EpochDayCache<CopticDate> test = new EpochDayCache<CopticDate>(0);
+        test.put(15000, CopticDate.ofEpochDay(15000));
+        assertNull(test.get(15000));
+    }
+
+    //-----------------------------------------------------------------------
+    // chronology conversions
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_coptic_date_shared() {
+        LocalDate iso = LocalDate.of(2012, 7, 5);
+        CopticDate first = CopticChronology.INSTANCE.date(iso);
+        assertSame(CopticChronology.INSTANCE.date(iso), first);
+        assertSame(CopticChronology.INSTANCE.date(LocalDateTime.of(2012, 7, 5, 12, 30)), first);
+        assertEquals(first, CopticChronology.INSTANCE.date(1728, 10, 28));
+    }
+
+    @Test(groups={"tck"})
+    public void test_persian_date_shared() {
+        LocalDate iso = LocalDate.of(2012, 7, 5);
+        PersianDate first = PersianChronology.INSTANCE.date(iso);
+        assertSame(PersianChronology.INSTANCE.date(iso), first);
+        assertEquals(first, PersianChronology.INSTANCE.date(1391, 4, 15));
+    }
+
+    @Test(groups={"tck"})
+    public void test_adjusterBridge() {
+        LocalDate base = LocalDate.of(2012, 7, 5);
+        LocalDate test = base.with(ChronoAdjusters.coptic(TemporalAdjusters.firstDayOfMonth()));
+        assertEquals(test, LocalDate.from(CopticChronology.INSTANCE.date(1728, 10, 1)));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(base.with(ChronoAdjusters.persian(TemporalAdjusters.lastDayOfMonth())),
+                    LocalDate.from(PersianChronology.INSTANCE.date(1391, 4, 31)));
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.testng.Assert.assertEquals;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.Period;
+import org.threeten.bp.chrono.ChronoLocalDate;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.temporal.TemporalAdjusters;
+
+/**
+ * Test.
+ */
+@Test
+public class TestEthiopicChrono {
+
+    //-----------------------------------------------------------------------
+    // Chrono.ofName("Ethiopic")  Lookup by name
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_chrono_byName() {
+        Chronology ethiopic = Chronology.of("Ethiopic");
+        Assert.assertNotNull(ethiopic, "The Ethiopic calendar could not be found byName");
+        Assert.assertEquals(ethiopic.getId(), "Ethiopic", "Name mismatch");
+    }
+
+    //-----------------------------------------------------------------------
+    // creation, toLocalDate()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="samples")
+    Object[][] data_samples() {
+        return new Object[][] {
+            {EthiopicChronology.INSTANCE.date(1, 1, 1), LocalDate.of(8, 8, 27)},
+            {EthiopicChronology.INSTANCE.date(277, 1, 1), LocalDate.of(284, 8, 29)},
+            {EthiopicChronology.INSTANCE.date(2003, 1, 1), LocalDate.of(2010, 9, 11)},
+            {EthiopicChronology.INSTANCE.date(2004, 10, 28), LocalDate.of(2012, 7, 5)},
+            {EthiopicChronology.INSTANCE.date(2011, 13, 6), LocalDate.of(2019, 9, 11)},
+            {EthiopicChronology.INSTANCE.date(2012, 1, 1), LocalDate.of(2019, 9, 12)},
+            {EthiopicChronology.INSTANCE.date(2016, 1, 1), LocalDate.of(2023, 9, 12)},
+            {EthiopicChronology.INSTANCE.date(2017, 1, 1), LocalDate.of(2024, 9, 11)},
+        };
+    }
+
+    @Test(dataProvider="samples", groups={"tck"})
+    public void test_toLocalDate(ChronoLocalDate<?> ethiopic, LocalDate iso) {
+        assertEquals(LocalDate.from(ethiopic), iso);
+    }
+
+    @Test(dataProvider="samples", groups={"tck"})
+    public void test_fromCalendrical(ChronoLocalDate<?> ethiopic, LocalDate iso) {
+        assertEquals(EthiopicChronology.INSTANCE.date(iso), ethiopic);
+    }
+
+    @Test(groups={"tck"})
+    public void test_matchesCoptic() {
+        CopticDate coptic = CopticChronology.INSTANCE.date(1, 1, 1);
+        EthiopicDate ethiopic = EthiopicChronology.INSTANCE.date(277, 1, 1);
+        for (int i = 0; i < 3000; i += 11) {
+            CopticDate c = coptic.plus(i, DAYS);
+            EthiopicDate e = ethiopic.plus(i, DAYS);
+            assertEquals(e.toEpochDay(), c.toEpochDay());
+            assertEquals(e.getLong(YEAR), c.getLong(YEAR) + 276);
+            assertEquals(e.lengthOfMonth(), c.lengthOfMonth());
+        }
+    }
+
+    @DataProvider(name="badDates")
+    Object[][] data_badDates() {
+        return new Object[][] {
+            {2004, 0, 1},
+            {2004, 14, 1},
+            {2004, 1, 0},
+            {2004, 1, 31},
+            {2004, 13, 0},
+            {2004, 13, 6},
+            {2011, 13, 7},
+        };
+    }
+
+    @Test(dataProvider="badDates", groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_badDates(int year, int month, int dom) {
+        EthiopicChronology.INSTANCE.date(year, month, dom);
+    }
+
+    //-----------------------------------------------------------------------
+    // isLeapYear(), lengthOfMonth()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_isLeapYear() {
+        assertEquals(EthiopicChronology.INSTANCE.isLeapYear(2011), true);
+        assertEquals(EthiopicChronology.INSTANCE.isLeapYear(2012), false);
+        assertEquals(EthiopicChronology.INSTANCE.isLeapYear(2015), true);
+        assertEquals(EthiopicChronology.INSTANCE.date(2011, 13, 1).lengthOfMonth(), 6);
+        assertEquals(EthiopicChronology.INSTANCE.date(2012, 13, 1).lengthOfMonth(), 5);
+        assertEquals(EthiopicChronology.INSTANCE.date(2012, 12, 1).lengthOfMonth(), 30);
+    }
+
+    //-----------------------------------------------------------------------
+    // with(), plus(), periodUntil()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_adjust_lastDayOfMonth() {
+        EthiopicDate base = EthiopicChronology.INSTANCE.date(2012, 13, 2);
+        assertEquals(base.with(TemporalAdjusters.lastDayOfMonth()), EthiopicChronology.INSTANCE.date(2012, 13, 5));
+    }
+
+    @Test(groups={"tck"})
+    public void test_plus() {
+        EthiopicDate base = EthiopicChronology.INSTANCE.date(2011, 13, 6);
+        assertEquals(base.plus(1, DAYS), EthiopicChronology.INSTANCE.date(2012, 1, 1));
+        assertEquals(base.plus(1, YEARS), EthiopicChronology.INSTANCE.date(2012, 13, 5));
+        assertEquals(base.plus(2, MONTHS), EthiopicChronology.INSTANCE.date(2012, 2, 6));
+    }
+
+    @Test(groups={"tck"})
+    public void test_periodUntil() {
+        EthiopicDate start = EthiopicChronology.INSTANCE.date(2011, 12, 15);
+        EthiopicDate end = EthiopicChronology.INSTANCE.date(2013, 1, 20);
+        assertEquals(start.periodUntil(end), Period.of(1, 2, 5));
+        assertEquals(start.periodUntil(end, MONTHS), 15);
+    }
+
+    //-----------------------------------------------------------------------
+    // toString()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_toString() {
+        assertEquals(EthiopicChronology.INSTANCE.date(2012, 1, 1).toString(), "Ethiopic INCARNATION 2012-01-01");
+    }
+
+}
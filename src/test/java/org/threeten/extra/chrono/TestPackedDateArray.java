@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.chrono;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test PackedDateArray.
+ */
+@Test
+public class TestPackedDateArray {
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_add_get() {
+        PackedDateArray<CopticDate> test = PackedDateArray.coptic();
+        for (int i = 0; i < 100; i++) {
+            test.add(CopticChronology.INSTANCE.date(1700 + i, 13, 5));
+        }
+        assertEquals(test.size(), 100);
+        assertEquals(test.get(42), CopticChronology.INSTANCE.date(1742, 13, 5));
+        assertEquals(test.getPacked(42), CopticChronology.pack(1742, 13, 5));
+        assertEquals(test.getChronology(), CopticChronology.INSTANCE);
+    }
+
+    @Test(groups={"tck"})
+    public void test_set() {
+        PackedDateArray<PersianDate> test = PackedDateArray.persian();
+        test.add(PersianChronology.INSTANCE.date(1391, 1, 1));
+        PersianDate old = test.set(0, PersianChronology.INSTANCE.date(1392, 2, 2));
+        assertEquals(old, PersianChronology.INSTANCE.date(1391, 1, 1));
+        assertEquals(test.get(0), PersianChronology.INSTANCE.date(1392, 2, 2));
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_get_outOfBounds() {
+        PackedDateArray<CopticDate> test = PackedDateArray.coptic();
+        test.add(CopticChronology.INSTANCE.date(1700, 1, 1));
+        test.get(1);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=ClassCastException.class)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void test_add_wrongChronology() {
+        PackedDateArray test = PackedDateArray.coptic();
+        test.add(PersianChronology.INSTANCE.date(1391, 1, 1));
+    }
+
+    @Test(groups={"tck"})
+    public void test_clear() {
+        PackedDateArray<CopticDate> test = PackedDateArray.coptic(new int[] {CopticChronology.pack(1, 1, 1)});
+        test.clear();
+        assertEquals(test.size(), 0);
+        assertEquals(test.toPackedArray().length, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_sort_binarySearch() {
+        CopticDate d1 = CopticChronology.INSTANCE.date(-3, 5, 1);
+        CopticDate d2 = CopticChronology.INSTANCE.date(1727, 13, 6);
+        CopticDate d3 = CopticChronology.INSTANCE.date(1728, 1, 1);
+        CopticDate d4 = CopticChronology.INSTANCE.date(1728, 1, 2);
+        PackedDateArray<CopticDate> test = PackedDateArray.coptic();
+        test.addAll(Arrays.asList(d4, d2, d3, d1, d3));
+        test.sort();
+        assertEquals(test, Arrays.asList(d1, d2, d3, d3, d4));
+        assertEquals(test.binarySearch(d3), 2);
+        assertEquals(test.binarySearch(d4), 4);
+        assertEquals(test.binarySearch(CopticChronology.INSTANCE.date(1728, 1, 3)), -6);
+        assertEquals(test.binarySearch(CopticChronology.INSTANCE.date(-4, 1, 1)), -1);
+    }
+
+    @Test(groups={"tck"})
+    public void test_range() {
+        PackedDateArray<PersianDate> test = PackedDateArray.persian();
+        for (int i = 1; i <= 30; i++) {
+            test.add(PersianChronology.INSTANCE.date(1391, 1, i));
+        }
+        List<PersianDate> range = test.range(PersianChronology.INSTANCE.date(1391, 1, 10), PersianChronology.INSTANCE.date(1391, 1, 15));
+        assertEquals(range.size(), 5);
+        assertEquals(range.get(0), PersianChronology.INSTANCE.date(1391, 1, 10));
+        assertEquals(range.get(4), PersianChronology.INSTANCE.date(1391, 1, 14));
+        List<PersianDate> empty = test.range(PersianChronology.INSTANCE.date(1392, 1, 1), PersianChronology.INSTANCE.date(1392, 2, 1));
+        assertEquals(empty.size(), 0);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_range_backwards() {
+        PackedDateArray<PersianDate> test = PackedDateArray.persian();
+        test.range(PersianChronology.INSTANCE.date(1391, 1, 10), PersianChronology.INSTANCE.date(1391, 1, 1));
+    }
+
+}
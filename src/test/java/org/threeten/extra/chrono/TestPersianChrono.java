@@ -32,6 +32,21 @@
 package org.threeten.extra.chrono;
 
 import static org.testng.Assert.assertEquals;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoUnit.CENTURIES;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.DECADES;
+import static org.threeten.bp.temporal.ChronoUnit.ERAS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MILLENNIA;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import java.nio.LongBuffer;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -40,9 +55,11 @@ import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.Period;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.bp.temporal.TemporalUnit;
 
 /**
  * Test.
@@ -66,20 +83,18 @@ public class TestPersianChrono {
     @DataProvider(name="samples")
     Object[][] data_samples() {
         return new Object[][] {
-            {PersianChronology.INSTANCE.date(1, 1, 1), LocalDate.of(284, 8, 29)},
-            {PersianChronology.INSTANCE.date(1, 1, 2), LocalDate.of(284, 8, 30)},
-            {PersianChronology.INSTANCE.date(1, 1, 3), LocalDate.of(284, 8, 31)},
-
-            {PersianChronology.INSTANCE.date(2, 1, 1), LocalDate.of(285, 8, 29)},
-            {PersianChronology.INSTANCE.date(3, 1, 1), LocalDate.of(286, 8, 29)},
-            {PersianChronology.INSTANCE.date(3, 13, 6), LocalDate.of(287, 8, 29)},
-            {PersianChronology.INSTANCE.date(4, 1, 1), LocalDate.of(287, 8, 30)},
-            {PersianChronology.INSTANCE.date(4, 7, 3), LocalDate.of(288, 2, 28)},
-            {PersianChronology.INSTANCE.date(4, 7, 4), LocalDate.of(288, 2, 29)},
-            {PersianChronology.INSTANCE.date(5, 1, 1), LocalDate.of(288, 8, 29)},
-            {PersianChronology.INSTANCE.date(1662, 3, 3), LocalDate.of(1945, 11, 12)},
-            {PersianChronology.INSTANCE.date(1728, 10, 28), LocalDate.of(2012, 7, 5)},
-            {PersianChronology.INSTANCE.date(1728, 10, 29), LocalDate.of(2012, 7, 6)},
+            {PersianChronology.INSTANCE.date(1, 1, 1), LocalDate.of(622, 3, 22)},
+            {PersianChronology.INSTANCE.date(1, 1, 2), LocalDate.of(622, 3, 23)},
+            {PersianChronology.INSTANCE.date(1354, 1, 1), LocalDate.of(1975, 3, 21)},
+            {PersianChronology.INSTANCE.date(1391, 4, 15), LocalDate.of(2012, 7, 5)},
+            {PersianChronology.INSTANCE.date(1391, 4, 16), LocalDate.of(2012, 7, 6)},
+            {PersianChronology.INSTANCE.date(1399, 1, 1), LocalDate.of(2020, 3, 20)},
+            {PersianChronology.INSTANCE.date(1399, 12, 30), LocalDate.of(2021, 3, 20)},
+            {PersianChronology.INSTANCE.date(1400, 1, 1), LocalDate.of(2021, 3, 21)},
+            {PersianChronology.INSTANCE.date(1403, 6, 31), LocalDate.of(2024, 9, 21)},
+            {PersianChronology.INSTANCE.date(1403, 7, 1), LocalDate.of(2024, 9, 22)},
+            {PersianChronology.INSTANCE.date(1403, 12, 30), LocalDate.of(2025, 3, 20)},
+            {PersianChronology.INSTANCE.date(1404, 1, 1), LocalDate.of(2025, 3, 21)},
         };
     }
 
@@ -96,32 +111,26 @@ public class TestPersianChrono {
     @DataProvider(name="badDates")
     Object[][] data_badDates() {
         return new Object[][] {
-            {1728, 0, 0},
-
-            {1728, -1, 1},
-            {1728, 0, 1},
-            {1728, 14, 1},
-            {1728, 15, 1},
-
-            {1728, 1, -1},
-            {1728, 1, 0},
-            {1728, 1, 31},
-            {1728, 1, 32},
-
-            {1728, 12, -1},
-            {1728, 12, 0},
-            {1728, 12, 31},
-            {1728, 12, 32},
-
-            {1728, 13, -1},
-            {1728, 13, 0},
-            {1728, 13, 6},
-            {1728, 13, 7},
-
-            {1727, 13, -1},
-            {1727, 13, 0},
-            {1727, 13, 7},
-            {1727, 13, 8},
+            {1400, 0, 0},
+
+            {1400, -1, 1},
+            {1400, 0, 1},
+            {1400, 13, 1},
+            {1400, 14, 1},
+
+            {1400, 1, -1},
+            {1400, 1, 0},
+            {1400, 1, 32},
+            {1400, 7, 31},
+            {1400, 11, 31},
+
+            {1400, 12, 0},
+            {1400, 12, 30},
+            {1399, 12, 31},
+
+            {0, 1, 1},
+            {-1, 1, 1},
+            {3001, 1, 1},
         };
     }
 
@@ -130,21 +139,67 @@ public class TestPersianChrono {
         PersianChronology.INSTANCE.date(year, month, dom);
     }
 
+    //-----------------------------------------------------------------------
+    // isLeapYear(), ofEpochDay()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_isLeapYear() {
+        for (int year = 1390; year <= 1410; year++) {
+            boolean expected = (year == 1391 || year == 1395 || year == 1399 || year == 1403 || year == 1408);
+            assertEquals(PersianChronology.INSTANCE.isLeapYear(year), expected);
+            assertEquals(PersianChronology.INSTANCE.date(year, 1, 1).lengthOfYear(), expected ? 366 : 365);
+        }
+        assertEquals(PersianChronology.INSTANCE.isLeapYear(0), false);
+        assertEquals(PersianChronology.INSTANCE.isLeapYear(3001), false);
+    }
+
+    @Test(groups={"tck"})
+    public void test_ofEpochDay_range() {
+        PersianDate min = PersianChronology.INSTANCE.date(1, 1, 1);
+        PersianDate max = PersianChronology.INSTANCE.date(3000, 12, PersianChronology.INSTANCE.isLeapYear(3000) ? 30 : 29);
+        assertEquals(PersianDate.ofEpochDay(min.toEpochDay()), min);
+        assertEquals(PersianDate.ofEpochDay(max.toEpochDay()), max);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_ofEpochDay_tooEarly() {
+        PersianDate.ofEpochDay(PersianChronology.INSTANCE.date(1, 1, 1).toEpochDay() - 1);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_ofEpochDay_tooLate() {
+        PersianDate.ofEpochDay(PersianChronology.INSTANCE.date(3000, 12, 1).toEpochDay() + 31);
+    }
+
     //-----------------------------------------------------------------------
     // with(WithAdjuster)
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_adjust1() {
-        ChronoLocalDate<?> base = PersianChronology.INSTANCE.date(1728, 10, 29);
+        ChronoLocalDate<?> base = PersianChronology.INSTANCE.date(1400, 1, 2);
         ChronoLocalDate<?> test = base.with(TemporalAdjusters.lastDayOfMonth());
-        assertEquals(test, PersianChronology.INSTANCE.date(1728, 10, 30));
+        assertEquals(test, PersianChronology.INSTANCE.date(1400, 1, 31));
     }
 
     @Test(groups={"tck"})
     public void test_adjust2() {
-        ChronoLocalDate<?> base = PersianChronology.INSTANCE.date(1728, 13, 2);
+        ChronoLocalDate<?> base = PersianChronology.INSTANCE.date(1400, 12, 2);
         ChronoLocalDate<?> test = base.with(TemporalAdjusters.lastDayOfMonth());
-        assertEquals(test, PersianChronology.INSTANCE.date(1728, 13, 5));
+        assertEquals(test, PersianChronology.INSTANCE.date(1400, 12, 29));
+    }
+
+    @Test(groups={"tck"})
+    public void test_adjust3() {
+        ChronoLocalDate<?> base = PersianChronology.INSTANCE.date(1399, 12, 2);
+        ChronoLocalDate<?> test = base.with(TemporalAdjusters.lastDayOfMonth());
+        assertEquals(test, PersianChronology.INSTANCE.date(1399, 12, 30));
+    }
+
+    @Test(groups={"tck"})
+    public void test_adjust_plusYears_resolvesLeapDay() {
+        PersianDate base = PersianChronology.INSTANCE.date(1399, 12, 30);
+        assertEquals(base.plus(1, YEARS), PersianChronology.INSTANCE.date(1400, 12, 29));
+        assertEquals(base.with(DAY_OF_YEAR, 366).plus(4, YEARS), PersianChronology.INSTANCE.date(1403, 12, 30));
     }
 
     //-----------------------------------------------------------------------
@@ -152,14 +207,14 @@ public class TestPersianChrono {
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_adjust_toLocalDate() {
-        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1726, 1, 4);
+        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1398, 1, 4);
         ChronoLocalDate<?> test = persian.with(LocalDate.of(2012, 7, 6));
-        assertEquals(test, PersianChronology.INSTANCE.date(1728, 10, 29));
+        assertEquals(test, PersianChronology.INSTANCE.date(1391, 4, 16));
     }
 
     @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
     public void test_adjust_toMonth() {
-        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1726, 1, 4);
+        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1398, 1, 4);
         persian.with(Month.APRIL);
     }
 
@@ -168,14 +223,14 @@ public class TestPersianChrono {
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_LocalDate_adjustToPersianDate() {
-        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1728, 10, 29);
+        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1391, 4, 16);
         LocalDate test = LocalDate.MIN.with(persian);
         assertEquals(test, LocalDate.of(2012, 7, 6));
     }
 
     @Test(groups={"tck"})
     public void test_LocalDateTime_adjustToPersianDate() {
-        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1728, 10, 29);
+        ChronoLocalDate<?> persian = PersianChronology.INSTANCE.date(1391, 4, 16);
         LocalDateTime test = LocalDateTime.MIN.with(persian);
         assertEquals(test, LocalDateTime.of(2012, 7, 6, 0, 0));
     }
@@ -187,10 +242,10 @@ public class TestPersianChrono {
     Object[][] data_toString() {
         return new Object[][] {
             {PersianChronology.INSTANCE.date(1, 1, 1), "Persian AM 1-01-01"},
-            {PersianChronology.INSTANCE.date(1728, 10, 28), "Persian AM 1728-10-28"},
-            {PersianChronology.INSTANCE.date(1728, 10, 29), "Persian AM 1728-10-29"},
-            {PersianChronology.INSTANCE.date(1727, 13, 5), "Persian AM 1727-13-05"},
-            {PersianChronology.INSTANCE.date(1727, 13, 6), "Persian AM 1727-13-06"},
+            {PersianChronology.INSTANCE.date(1391, 4, 15), "Persian AM 1391-04-15"},
+            {PersianChronology.INSTANCE.date(1391, 4, 16), "Persian AM 1391-04-16"},
+            {PersianChronology.INSTANCE.date(1399, 12, 30), "Persian AM 1399-12-30"},
+            {PersianChronology.INSTANCE.date(1400, 12, 29), "Persian AM 1400-12-29"},
         };
     }
 
@@ -199,4 +254,187 @@ public class TestPersianChrono {
         assertEquals(persian.toString(), expected);
     }
 
+    //-----------------------------------------------------------------------
+    // pack()/unpack()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="samples", groups={"tck"})
+    public void test_pack_roundTrip(ChronoLocalDate<?> date, LocalDate iso) {
+        PersianDate test = (PersianDate) date;
+        int packed = PersianChronology.pack(test);
+        assertEquals(PersianChronology.unpack(packed), test);
+        assertEquals(PersianChronology.packedToEpochDay(packed), iso.toEpochDay());
+        assertEquals(PersianChronology.packedOfEpochDay(iso.toEpochDay()), packed);
+        assertEquals(PersianChronology.pack(test.get(YEAR), test.get(MONTH_OF_YEAR), test.get(DAY_OF_MONTH)), packed);
+    }
+
+    @Test(dataProvider="badDates", groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_pack_badDates(int year, int month, int dom) {
+        PersianChronology.pack(year, month, dom);
+    }
+
+    @Test(groups={"tck"})
+    public void test_pack_compare() {
+        int[] ordered = {
+            PersianChronology.pack(1, 1, 1),
+            PersianChronology.pack(1, 1, 2),
+            PersianChronology.pack(1, 2, 1),
+            PersianChronology.pack(1399, 12, 30),
+            PersianChronology.pack(1400, 1, 1),
+            PersianChronology.pack(1400, 12, 29),
+            PersianChronology.pack(3000, 12, 1),
+        };
+        for (int i = 0; i < ordered.length; i++) {
+            for (int j = 0; j < ordered.length; j++) {
+                assertEquals(Integer.signum(PersianChronology.compare(ordered[i], ordered[j])), Integer.signum(i - j));
+                assertEquals(Integer.signum(PersianChronology.compare(ordered[i], ordered[j])),
+                        Integer.signum(PersianChronology.unpack(ordered[i]).compareTo(PersianChronology.unpack(ordered[j]))));
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_pack_fields() {
+        int packed = PersianChronology.pack(1399, 12, 30);
+        assertEquals(PersianChronology.packedYear(packed), 1399);
+        assertEquals(PersianChronology.packedMonth(packed), 12);
+        assertEquals(PersianChronology.packedDay(packed), 30);
+        assertEquals(PersianChronology.packedLengthOfMonth(packed), 30);
+        assertEquals(PersianChronology.packedLengthOfMonth(PersianChronology.pack(1400, 12, 1)), 29);
+        assertEquals(PersianChronology.packedLengthOfMonth(PersianChronology.pack(1400, 11, 1)), 30);
+        assertEquals(PersianChronology.packedLengthOfMonth(PersianChronology.pack(1400, 6, 1)), 31);
+    }
+
+    @Test(groups={"tck"})
+    public void test_pack_plusDays() {
+        PersianDate base = PersianChronology.INSTANCE.date(1400, 1, 1);
+        int packed = PersianChronology.pack(base);
+        for (int i = -365; i <= 2000; i += 7) {
+            assertEquals(PersianChronology.unpack(PersianChronology.plusDays(packed, i)), base.plus(i, DAYS));
+        }
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_pack_plusDays_outOfRange() {
+        PersianChronology.plusDays(PersianChronology.pack(1, 1, 1), -1);
+    }
+
+    //-----------------------------------------------------------------------
+    // periodUntil()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="periodUntilUnit")
+    Object[][] data_periodUntilUnit() {
+        return new Object[][] {
+            {PersianChronology.INSTANCE.date(1400, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 1), DAYS, 0},
+            {PersianChronology.INSTANCE.date(1400, 1, 1), PersianChronology.INSTANCE.date(1400, 2, 1), DAYS, 31},
+            {PersianChronology.INSTANCE.date(1399, 12, 1), PersianChronology.INSTANCE.date(1400, 1, 1), DAYS, 30},
+            {PersianChronology.INSTANCE.date(1400, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 15), WEEKS, 2},
+            {PersianChronology.INSTANCE.date(1400, 1, 15), PersianChronology.INSTANCE.date(1400, 2, 14), MONTHS, 0},
+            {PersianChronology.INSTANCE.date(1400, 1, 15), PersianChronology.INSTANCE.date(1400, 2, 15), MONTHS, 1},
+            {PersianChronology.INSTANCE.date(1400, 11, 30), PersianChronology.INSTANCE.date(1400, 12, 29), MONTHS, 0},
+            {PersianChronology.INSTANCE.date(1400, 11, 29), PersianChronology.INSTANCE.date(1400, 12, 29), MONTHS, 1},
+            {PersianChronology.INSTANCE.date(1399, 12, 1), PersianChronology.INSTANCE.date(1400, 12, 1), MONTHS, 12},
+            {PersianChronology.INSTANCE.date(1400, 12, 1), PersianChronology.INSTANCE.date(1399, 12, 1), MONTHS, -12},
+            {PersianChronology.INSTANCE.date(1399, 12, 2), PersianChronology.INSTANCE.date(1400, 12, 1), YEARS, 0},
+            {PersianChronology.INSTANCE.date(1399, 12, 1), PersianChronology.INSTANCE.date(1400, 12, 1), YEARS, 1},
+            {PersianChronology.INSTANCE.date(1390, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 1), DECADES, 1},
+            {PersianChronology.INSTANCE.date(1, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 1), CENTURIES, 13},
+            {PersianChronology.INSTANCE.date(1, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 1), MILLENNIA, 1},
+            {PersianChronology.INSTANCE.date(1, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 1), ERAS, 0},
+        };
+    }
+
+    @Test(dataProvider="periodUntilUnit", groups={"tck"})
+    public void test_periodUntil_unit(PersianDate start, PersianDate end, TemporalUnit unit, long expected) {
+        assertEquals(start.periodUntil(end, unit), expected);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_periodUntil_unitUnsupported() {
+        PersianChronology.INSTANCE.date(1400, 1, 1).periodUntil(PersianChronology.INSTANCE.date(1400, 1, 2), HOURS);
+    }
+
+    @DataProvider(name="periodUntil")
+    Object[][] data_periodUntil() {
+        return new Object[][] {
+            {PersianChronology.INSTANCE.date(1400, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 1), 0, 0, 0},
+            {PersianChronology.INSTANCE.date(1400, 1, 1), PersianChronology.INSTANCE.date(1400, 1, 31), 0, 0, 30},
+            {PersianChronology.INSTANCE.date(1400, 1, 1), PersianChronology.INSTANCE.date(1400, 12, 29), 0, 11, 28},
+            {PersianChronology.INSTANCE.date(1399, 1, 1), PersianChronology.INSTANCE.date(1400, 12, 29), 1, 11, 28},
+            {PersianChronology.INSTANCE.date(1399, 12, 20), PersianChronology.INSTANCE.date(1400, 1, 10), 0, 0, 20},
+            {PersianChronology.INSTANCE.date(1399, 12, 30), PersianChronology.INSTANCE.date(1400, 12, 29), 0, 11, 29},
+            {PersianChronology.INSTANCE.date(1400, 2, 10), PersianChronology.INSTANCE.date(1400, 1, 20), 0, 0, -21},
+            {PersianChronology.INSTANCE.date(1400, 3, 10), PersianChronology.INSTANCE.date(1399, 1, 20), -1, -1, -21},
+        };
+    }
+
+    @Test(dataProvider="periodUntil", groups={"tck"})
+    public void test_periodUntil(PersianDate start, PersianDate end, int years, int months, int days) {
+        assertEquals(start.periodUntil(end), Period.of(years, months, days));
+    }
+
+    @Test(dataProvider="periodUntil", groups={"tck"})
+    public void test_periodUntil_addedToStart(PersianDate start, PersianDate end, int years, int months, int days) {
+        if (start.isAfter(end) == false) {
+            assertEquals(start.plus(years, YEARS).plus(months, MONTHS).plus(days, DAYS), end);
+        }
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_periodUntil_differentChronology() {
+        PersianChronology.INSTANCE.date(1400, 1, 1).periodUntil(LocalDate.of(2012, 1, 1));
+    }
+
+    //-----------------------------------------------------------------------
+    // epochDaysToFields()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="epochDaysToFields")
+    Object[][] data_epochDaysToFields() {
+        return new Object[][] {
+            {PersianChronology.INSTANCE.date(1, 1, 1)},
+            {PersianChronology.INSTANCE.date(1395, 1, 1)},
+            {PersianChronology.INSTANCE.date(2992, 1, 1)},
+        };
+    }
+
+    @Test(dataProvider="epochDaysToFields", groups={"tck"})
+    public void test_epochDaysToFields(PersianDate startDate) {
+        long start = startDate.toEpochDay();
+        long[] epochDays = new long[3000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = start + i;
+        }
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        PersianChronology.epochDaysToFields(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            PersianDate expected = PersianDate.ofEpochDay(epochDays[i]);
+            assertEquals(expected.toEpochDay(), epochDays[i]);
+            assertEquals(years[i], expected.getLong(YEAR));
+            assertEquals(months[i], expected.getLong(MONTH_OF_YEAR));
+            assertEquals(days[i], expected.getLong(DAY_OF_MONTH));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_epochDaysToFields_buffer() {
+        LongBuffer buffer = LongBuffer.wrap(new long[] {99, LocalDate.of(2012, 7, 5).toEpochDay(), 99}, 1, 1);
+        int[] years = new int[2];
+        int[] months = new int[2];
+        int[] days = new int[2];
+        assertEquals(PersianChronology.epochDaysToFields(buffer, years, months, days), 1);
+        assertEquals(buffer.remaining(), 0);
+        assertEquals(PersianChronology.INSTANCE.date(years[0], months[0], days[0]), PersianChronology.INSTANCE.date(1391, 4, 15));
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void test_epochDaysToFields_lengthMismatch() {
+        PersianChronology.epochDaysToFields(new long[2], new int[2], new int[1], new int[2]);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_epochDaysToFields_outOfRange() {
+        PersianChronology.epochDaysToFields(new long[] {Long.MIN_VALUE}, new int[1], new int[1], new int[1]);
+    }
+
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.JulianFields;
+
+/**
+ * Test GPSInstant.
+ */
+@Test
+public class TestGPSInstant {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final long NANOS_PER_SEC = 1000000000L;
+    private static final long EPOCH_MJD = LocalDate.of(1980, 1, 6).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+    private static final long LEAP_MJD = LocalDate.of(2012, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_deserialization() throws Exception {
+        GPSInstant orginal = GPSInstant.ofGPSSeconds(2, 3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        GPSInstant ser = (GPSInstant) in.readObject();
+        assertEquals(ser, GPSInstant.ofGPSSeconds(2, 3));
+    }
+
+    //-----------------------------------------------------------------------
+    // factories
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void factory_ofGPSSeconds_normalize() {
+        GPSInstant test = GPSInstant.ofGPSSeconds(2, -1);
+        assertEquals(test.getGPSSeconds(), 1);
+        assertEquals(test.getNano(), 999999999);
+    }
+
+    @Test(groups={"tck"})
+    public void factory_ofGPSWeek() {
+        GPSInstant test = GPSInstant.ofGPSWeek(1721, 86400 + 5, 7);
+        assertEquals(test.getGPSSeconds(), 1721L * 604800 + 86400 + 5);
+        assertEquals(test.getNano(), 7);
+        assertEquals(test.getGPSWeek(), 1721);
+        assertEquals(test.getSecondOfWeek(), 86400 + 5);
+    }
+
+    @Test(groups={"tck"})
+    public void test_week_beforeEpoch() {
+        GPSInstant test = GPSInstant.ofGPSSeconds(-1, 0);
+        assertEquals(test.getGPSWeek(), -1);
+        assertEquals(test.getSecondOfWeek(), 604799);
+    }
+
+    //-----------------------------------------------------------------------
+    // conversions
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_epoch() {
+        GPSInstant test = GPSInstant.ofGPSSeconds(0, 0);
+        assertEquals(test.toUTCInstant(), UTCInstant.ofModifiedJulianDay(EPOCH_MJD, 0));
+        assertEquals(test.toTAIInstant().durationUntil(UTCInstant.ofModifiedJulianDay(EPOCH_MJD, 0).toTAIInstant()), Duration.ZERO);
+        assertEquals(GPSInstant.of(UTCInstant.ofModifiedJulianDay(EPOCH_MJD, 0)), test);
+    }
+
+    @Test(groups={"tck"})
+    public void test_toTAIInstant_offset() {
+        GPSInstant test = GPSInstant.ofGPSSeconds(1000, 5);
+        TAIInstant tai = test.toTAIInstant();
+        assertEquals(tai.getTAISeconds(), GPSInstant.gpsToTAISeconds(1000));
+        assertEquals(tai.getNano(), 5);
+        assertEquals(GPSInstant.of(tai), test);
+        assertEquals(GPSInstant.taiToGPSSeconds(GPSInstant.gpsToTAISeconds(1000)), 1000);
+    }
+
+    @Test(groups={"tck"})
+    public void test_afterLeapSeconds() {
+        // GPS-UTC was 16 seconds during 2013
+        long mjd = LocalDate.of(2013, 1, 1).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+        GPSInstant test = GPSInstant.ofGPSSeconds((mjd - EPOCH_MJD) * SECS_PER_DAY + 16, 0);
+        assertEquals(test.toUTCInstant(), UTCInstant.ofModifiedJulianDay(mjd, 0));
+    }
+
+    @Test(groups={"tck"})
+    public void test_leapSecond_roundTrip() {
+        UTCInstant leap = UTCInstant.ofModifiedJulianDay(LEAP_MJD, SECS_PER_DAY * NANOS_PER_SEC + 5);
+        GPSInstant test = GPSInstant.of(leap);
+        assertEquals(test.toUTCInstant(), leap);
+    }
+
+    //-----------------------------------------------------------------------
+    // convertToUTC()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="rules")
+    Object[][] data_rules() {
+        return new Object[][] {
+            {UTCRules.system()},
+            {new MockUTCRulesSystem()},
+        };
+    }
+
+    @Test(dataProvider="rules", groups={"tck"})
+    public void test_convertToUTC_matchesSingle(UTCRules rules) {
+        GPSInstant start = GPSInstant.of(UTCInstant.ofModifiedJulianDay(LEAP_MJD - 1, 0, rules));
+        int count = 3 * 86400 / 7;
+        long[] secs = new long[count];
+        int[] nanos = new int[count];
+        for (int i = 0; i < count; i++) {
+            GPSInstant instant = start.plus(Duration.ofSeconds(i * 7L, i));
+            secs[i] = instant.getGPSSeconds();
+            nanos[i] = instant.getNano();
+        }
+        long[] mjDays = new long[count];
+        long[] nanoOfDays = new long[count];
+        GPSInstant.convertToUTC(secs, nanos, mjDays, nanoOfDays, rules);
+        for (int i = 0; i < count; i++) {
+            UTCInstant expected = UTCInstant.of(GPSInstant.ofGPSSeconds(secs[i], nanos[i]).toTAIInstant(), rules);
+            assertEquals(mjDays[i], expected.getModifiedJulianDay());
+            assertEquals(nanoOfDays[i], expected.getNanoOfDay());
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_convertToUTC_unsorted() {
+        GPSInstant before = GPSInstant.of(UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0));
+        GPSInstant leap = GPSInstant.of(UTCInstant.ofModifiedJulianDay(LEAP_MJD, SECS_PER_DAY * NANOS_PER_SEC));
+        GPSInstant old = GPSInstant.ofGPSSeconds(-100, 0);
+        long[] secs = {leap.getGPSSeconds(), old.getGPSSeconds(), before.getGPSSeconds(), leap.getGPSSeconds()};
+        int[] nanos = new int[4];
+        long[] mjDays = new long[4];
+        long[] nanoOfDays = new long[4];
+        GPSInstant.convertToUTC(secs, nanos, mjDays, nanoOfDays);
+        for (int i = 0; i < 4; i++) {
+            UTCInstant expected = GPSInstant.ofGPSSeconds(secs[i], 0).toUTCInstant();
+            assertEquals(mjDays[i], expected.getModifiedJulianDay());
+            assertEquals(nanoOfDays[i], expected.getNanoOfDay());
+        }
+        assertEquals(nanoOfDays[0], SECS_PER_DAY * NANOS_PER_SEC);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
+    public void test_convertToUTC_lengthMismatch() {
+        GPSInstant.convertToUTC(new long[2], new int[2], new long[1], new long[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    // plus/minus/durationUntil
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_plusMinus() {
+        GPSInstant test = GPSInstant.ofGPSSeconds(5, 500000000);
+        assertEquals(test.plus(Duration.ofMillis(600)), GPSInstant.ofGPSSeconds(6, 100000000));
+        assertEquals(test.minus(Duration.ofMillis(600)), GPSInstant.ofGPSSeconds(4, 900000000));
+        assertEquals(test.durationUntil(GPSInstant.ofGPSSeconds(7, 0)), Duration.ofMillis(1500));
+    }
+
+    //-----------------------------------------------------------------------
+    // compareTo/equals/hashCode
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_comparisons() {
+        GPSInstant a = GPSInstant.ofGPSSeconds(5, 1);
+        GPSInstant b = GPSInstant.ofGPSSeconds(5, 2);
+        assertEquals(a.compareTo(b) < 0, true);
+        assertEquals(b.compareTo(a) > 0, true);
+        assertEquals(a.compareTo(GPSInstant.ofGPSSeconds(5, 1)), 0);
+        assertEquals(a.equals(GPSInstant.ofGPSSeconds(5, 1)), true);
+        assertEquals(a.equals(b), false);
+        assertEquals(a.hashCode(), GPSInstant.ofGPSSeconds(5, 1).hashCode());
+    }
+
+    //-----------------------------------------------------------------------
+    // toString()/parse()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_toString_parse() {
+        GPSInstant test = GPSInstant.ofGPSSeconds(123, 456);
+        assertEquals(test.toString(), "123.000000456s(GPS)");
+        assertEquals(GPSInstant.parse("123.000000456s(GPS)"), test);
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class, groups={"tck"})
+    public void test_parse_invalid() {
+        GPSInstant.parse("123.000000456s(TAI)");
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.JulianFields;
+
+/**
+ * Test TAITimestampNormalizer.
+ */
+@Test
+public class TestTAITimestampNormalizer {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final long NANOS_PER_SEC = 1000000000L;
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    private Path input;
+    private Path sidecar;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        input = Files.createTempFile("threeten-log", ".dat");
+        sidecar = Files.createTempFile("threeten-tai", ".dat");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(sidecar);
+    }
+
+    private static TAIInstant tai(int year, int month, int day, int secondOfDay, int nano) {
+        long mjd = LocalDate.of(year, month, day).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+        return UTCInstant.ofModifiedJulianDay(mjd, secondOfDay * NANOS_PER_SEC + nano).toTAIInstant();
+    }
+
+    private TAIInstant[] readSidecar() throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(sidecar));
+        TAIInstant[] result = new TAIInstant[buf.remaining() / TAITimestampNormalizer.SIDECAR_ENTRY_SIZE];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = TAIInstant.ofTAISeconds(buf.getLong(), buf.getInt());
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    // text
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_text_sidecar() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        TAIInstant[] expected = new TAIInstant[40];
+        for (int i = 0; i < 40; i++) {
+            int sod = (int) SECS_PER_DAY - 20 + i;
+            if (sod <= SECS_PER_DAY) {
+                int s = sod - (23 * 3600 + 59 * 60);
+                buf.append(i < 10 ? "00" : "0").append(i).append(" 1972-06-30T23:59:")
+                    .append(s < 10 ? "0" : "").append(s).append(".25 record ").append(i).append('\n');
+                expected[i] = tai(1972, 6, 30, sod, 250000000);
+            } else {
+                int s = (int) (sod - SECS_PER_DAY - 1);
+                buf.append(i < 10 ? "00" : "0").append(i).append(" 1972-07-01T00:00:")
+                    .append(s < 10 ? "0" : "").append(s).append(" r\n");
+                expected[i] = tai(1972, 7, 1, s, 0);
+            }
+        }
+        buf.setLength(buf.length() - 1);  // no final newline
+        Files.write(input, buf.toString().getBytes(StandardCharsets.US_ASCII));
+        TAITimestampNormalizer test = TAITimestampNormalizer.ofText(4).withChunkSize(100).withParallelism(3);
+        assertEquals(test.normalizeToSidecar(input, sidecar), 40);
+        TAIInstant[] result = readSidecar();
+        assertEquals(result.length, 40);
+        for (int i = 0; i < 40; i++) {
+            assertEquals(result[i], expected[i], "Record " + i);
+        }
+        assertEquals(result[20].getTAISeconds() - result[19].getTAISeconds(), 1);
+        assertEquals(result[21].getTAISeconds() - result[20].getTAISeconds(), 1);
+    }
+
+    @Test(groups={"tck"})
+    public void test_text_sidecar_singleChunk() throws IOException {
+        Files.write(input, "2012-07-06T12:30:00.123456789\n2012-07-06T12:30:01\n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(TAITimestampNormalizer.ofText(0).normalizeToSidecar(input, sidecar), 2);
+        TAIInstant[] result = readSidecar();
+        assertEquals(result[0], tai(2012, 7, 6, 45000, 123456789));
+        assertEquals(result[1], tai(2012, 7, 6, 45001, 0));
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_text_invalidLeapSecond() throws IOException {
+        Files.write(input, "1972-06-29T23:59:60\n".getBytes(StandardCharsets.US_ASCII));
+        TAITimestampNormalizer.ofText(0).normalizeToSidecar(input, sidecar);
+    }
+
+    @Test(groups={"tck"})
+    public void test_text_negativeLeapSecond() throws IOException {
+        SystemUTCRules rules = new SystemUTCRules();
+        long[] dates = rules.getLeapSecondDates();
+        long mjd = dates[dates.length - 1] + 100;
+        rules.registerLeapSecond(mjd, -1);
+        LocalDate date = LocalDate.ofEpochDay(mjd - 40587);
+        TAITimestampNormalizer test = TAITimestampNormalizer.ofText(0).withRules(rules);
+        Files.write(input, (date + "T23:59:58.5\n" + date.plusDays(1) + "T00:00:00\n").getBytes(StandardCharsets.US_ASCII));
+        assertEquals(test.normalizeToSidecar(input, sidecar), 2);
+        TAIInstant[] result = readSidecar();
+        assertEquals(result[0], UTCInstant.ofModifiedJulianDay(mjd, (SECS_PER_DAY - 2) * NANOS_PER_SEC + 500000000, rules).toTAIInstant());
+        assertEquals(result[1], UTCInstant.ofModifiedJulianDay(mjd + 1, 0, rules).toTAIInstant());
+        assertEquals(result[1].getTAISeconds() - result[0].getTAISeconds(), 1);
+        Files.write(input, (date + "T23:59:59\n").getBytes(StandardCharsets.US_ASCII));
+        try {
+            test.normalizeToSidecar(input, sidecar);
+            fail("Expected DateTimeException");
+        } catch (DateTimeException ex) {
+            // expected
+        }
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_text_invalidFormat() throws IOException {
+        Files.write(input, "1972-06-29 23:59:59\n".getBytes(StandardCharsets.US_ASCII));
+        TAITimestampNormalizer.ofText(0).normalizeToSidecar(input, sidecar);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_text_shortLine() throws IOException {
+        // the timestamp must not be read across the end of the empty first line
+        Files.write(input, "\nxxx2012-07-06T12:30:00\n".getBytes(StandardCharsets.US_ASCII));
+        TAITimestampNormalizer.ofText(4).normalizeToSidecar(input, sidecar);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalStateException.class)
+    public void test_text_inPlace() throws IOException {
+        TAITimestampNormalizer.ofText(0).normalizeInPlace(input);
+    }
+
+    //-----------------------------------------------------------------------
+    // binary
+    //-----------------------------------------------------------------------
+    private void writeBinary(long[] utcSeconds) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(utcSeconds.length * 16);
+        for (long secs : utcSeconds) {
+            buf.putInt(0xCAFE).putLong(secs).putInt(0xBABE);
+        }
+        Files.write(input, buf.array());
+    }
+
+    private static long[] binarySamples() {
+        long leapDayStart = LocalDate.of(1972, 6, 30).toEpochDay() * SECS_PER_DAY;
+        long[] utcSeconds = new long[25];
+        for (int i = 0; i < utcSeconds.length; i++) {
+            utcSeconds[i] = leapDayStart + SECS_PER_DAY - 12 + i;
+        }
+        return utcSeconds;
+    }
+
+    @Test(groups={"tck"})
+    public void test_binary_sidecar() throws IOException {
+        long[] utcSeconds = binarySamples();
+        writeBinary(utcSeconds);
+        TAITimestampNormalizer test = TAITimestampNormalizer.ofBinary(16, 4).withChunkSize(40).withParallelism(2);
+        assertEquals(test.normalizeToSidecar(input, sidecar), utcSeconds.length);
+        TAIInstant[] result = readSidecar();
+        for (int i = 0; i < utcSeconds.length; i++) {
+            long mjd = Jdk8Methods.floorDiv(utcSeconds[i], SECS_PER_DAY) + 40587;
+            long sod = Jdk8Methods.floorMod(utcSeconds[i], SECS_PER_DAY);
+            assertEquals(result[i], UTCInstant.ofModifiedJulianDay(mjd, sod * NANOS_PER_SEC).toTAIInstant());
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_binary_inPlace() throws IOException {
+        long[] utcSeconds = binarySamples();
+        writeBinary(utcSeconds);
+        TAITimestampNormalizer test = TAITimestampNormalizer.ofBinary(16, 4).withChunkSize(33).withParallelism(2);
+        assertEquals(test.normalizeInPlace(input), utcSeconds.length);
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(input));
+        for (int i = 0; i < utcSeconds.length; i++) {
+            long mjd = Jdk8Methods.floorDiv(utcSeconds[i], SECS_PER_DAY) + 40587;
+            long sod = Jdk8Methods.floorMod(utcSeconds[i], SECS_PER_DAY);
+            assertEquals(buf.getInt(), 0xCAFE);
+            assertEquals(buf.getLong(), UTCInstant.ofModifiedJulianDay(mjd, sod * NANOS_PER_SEC).toTAIInstant().getTAISeconds());
+            assertEquals(buf.getInt(), 0xBABE);
+        }
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IOException.class)
+    public void test_binary_partialRecord() throws IOException {
+        Files.write(input, new byte[17]);
+        TAITimestampNormalizer.ofBinary(16, 4).normalizeInPlace(input);
+    }
+
+    @Test(groups={"tck"}, expectedExceptions=IllegalArgumentException.class)
+    public void factory_ofBinary_fieldOutsideRecord() {
+        TAITimestampNormalizer.ofBinary(16, 9);
+    }
+
+}
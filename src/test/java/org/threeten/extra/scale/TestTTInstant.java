@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.JulianFields;
+
+/**
+ * Test TTInstant.
+ */
+@Test
+public class TestTTInstant {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final long NANOS_PER_SEC = 1000000000L;
+    private static final long LEAP_MJD = LocalDate.of(2012, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_deserialization() throws Exception {
+        TTInstant orginal = TTInstant.ofTTSeconds(2, 3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        TTInstant ser = (TTInstant) in.readObject();
+        assertEquals(ser, TTInstant.ofTTSeconds(2, 3));
+    }
+
+    //-----------------------------------------------------------------------
+    // conversions
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_toTAIInstant_offset() {
+        TTInstant test = TTInstant.ofTTSeconds(100, 100000000);
+        TAIInstant tai = test.toTAIInstant();
+        assertEquals(tai, TAIInstant.ofTAISeconds(67, 916000000));
+        assertEquals(TTInstant.of(tai), test);
+        assertEquals(tai.durationUntil(TAIInstant.ofTAISeconds(100, 100000000)), Duration.ofMillis(32184));
+    }
+
+    @Test(groups={"tck"})
+    public void test_toTAIInstant_negative() {
+        TTInstant test = TTInstant.ofTTSeconds(0, 0);
+        assertEquals(test.toTAIInstant(), TAIInstant.ofTAISeconds(-33, 816000000));
+    }
+
+    @Test(groups={"tck"})
+    public void test_afterLeapSeconds() {
+        // TT-UTC was 67.184 seconds during 2013
+        long mjd = LocalDate.of(2013, 1, 1).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+        TTInstant test = TTInstant.of(UTCInstant.ofModifiedJulianDay(mjd, 0));
+        assertEquals(test.getTTSeconds(), (mjd - 36204) * SECS_PER_DAY + 67);
+        assertEquals(test.getNano(), 184000000);
+        assertEquals(test.toUTCInstant(), UTCInstant.ofModifiedJulianDay(mjd, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    // convertToUTC()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="rules")
+    Object[][] data_rules() {
+        return new Object[][] {
+            {UTCRules.system()},
+            {new MockUTCRulesSystem()},
+        };
+    }
+
+    @Test(dataProvider="rules", groups={"tck"})
+    public void test_convertToUTC_matchesSingle(UTCRules rules) {
+        TTInstant start = TTInstant.of(UTCInstant.ofModifiedJulianDay(LEAP_MJD, (SECS_PER_DAY - 5) * NANOS_PER_SEC, rules));
+        int count = 100;
+        long[] secs = new long[count];
+        int[] nanos = new int[count];
+        for (int i = 0; i < count; i++) {
+            TTInstant instant = start.plus(Duration.ofMillis(i * 100L));
+            secs[i] = instant.getTTSeconds();
+            nanos[i] = instant.getNano();
+        }
+        long[] mjDays = new long[count];
+        long[] nanoOfDays = new long[count];
+        TTInstant.convertToUTC(secs, nanos, mjDays, nanoOfDays, rules);
+        for (int i = 0; i < count; i++) {
+            UTCInstant expected = UTCInstant.of(TTInstant.ofTTSeconds(secs[i], nanos[i]).toTAIInstant(), rules);
+            assertEquals(mjDays[i], expected.getModifiedJulianDay());
+            assertEquals(nanoOfDays[i], expected.getNanoOfDay());
+        }
+        assertEquals(mjDays[count - 1], LEAP_MJD + 1);
+        assertEquals(nanoOfDays[count - 1], 3900000000L);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
+    public void test_convertToUTC_lengthMismatch() {
+        TTInstant.convertToUTC(new long[2], new int[1], new long[2], new long[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    // plus/minus/durationUntil/compareTo
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_plusMinus() {
+        TTInstant test = TTInstant.ofTTSeconds(5, 500000000);
+        assertEquals(test.plus(Duration.ofMillis(600)), TTInstant.ofTTSeconds(6, 100000000));
+        assertEquals(test.minus(Duration.ofMillis(600)), TTInstant.ofTTSeconds(4, 900000000));
+        assertEquals(test.durationUntil(TTInstant.ofTTSeconds(7, 0)), Duration.ofMillis(1500));
+        assertEquals(test.compareTo(TTInstant.ofTTSeconds(5, 500000001)) < 0, true);
+    }
+
+    //-----------------------------------------------------------------------
+    // toString()/parse()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_toString_parse() {
+        TTInstant test = TTInstant.ofTTSeconds(123, 456);
+        assertEquals(test.toString(), "123.000000456s(TT)");
+        assertEquals(TTInstant.parse("123.000000456s(TT)"), test);
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class, groups={"tck"})
+    public void test_parse_invalid() {
+        TTInstant.parse("123.000000456s(TAI)");
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Clock;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.JulianFields;
+
+/**
+ * Test TimeSources.
+ */
+@Test
+public class TestTimeSources {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final long NANOS_PER_SEC = 1000000000L;
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    /**
+     * Time-source returning a fixed UTC instant.
+     */
+    static final class FixedUTCTimeSource implements TimeSource {
+        private final UTCInstant utc;
+        FixedUTCTimeSource(UTCInstant utc) {
+            this.utc = utc;
+        }
+        @Override
+        public Instant instant() {
+            return utc.toInstant();
+        }
+        @Override
+        public UTCInstant utcInstant() {
+            return utc;
+        }
+        @Override
+        public TAIInstant taiInstant() {
+            return utc.toTAIInstant();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // toClock()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_toClock_matchesToInstant() {
+        long mjd = LocalDate.of(1972, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+        long[] nanos = {0, 123456789L, (SECS_PER_DAY - 1000) * NANOS_PER_SEC, (SECS_PER_DAY - 500) * NANOS_PER_SEC + 7,
+            SECS_PER_DAY * NANOS_PER_SEC, (SECS_PER_DAY + 1) * NANOS_PER_SEC - 1};
+        for (long nod : nanos) {
+            UTCInstant utc = UTCInstant.ofModifiedJulianDay(mjd, nod);
+            Clock test = TimeSources.toClock(new FixedUTCTimeSource(utc), ZoneOffset.UTC);
+            assertEquals(test.instant(), utc.toInstant());
+            assertEquals(test.millis(), utc.toInstant().toEpochMilli());
+            assertEquals(test.instant(), utc.toInstant());  // cached
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_toClock_leapSecondRegisteredForCachedDay() {
+        SystemUTCRules rules = new SystemUTCRules();
+        long[] dates = rules.getLeapSecondDates();
+        long mjd = dates[dates.length - 1] + 100;
+        UTCInstant utc = UTCInstant.ofModifiedJulianDay(mjd, (SECS_PER_DAY - 500) * NANOS_PER_SEC, rules);
+        Clock test = TimeSources.toClock(new FixedUTCTimeSource(utc), ZoneOffset.UTC);
+        assertEquals(test.instant(), utc.toInstant());
+        rules.registerLeapSecond(mjd, 1);
+        assertEquals(test.instant(), utc.toInstant());
+        assertEquals(test.millis(), utc.toInstant().toEpochMilli());
+    }
+
+    @Test(groups={"tck"})
+    public void test_toClock_otherRules() {
+        UTCInstant utc = UTCInstant.ofModifiedJulianDay(1000, SECS_PER_DAY * NANOS_PER_SEC + 5, new MockUTCRulesAlwaysLeap());
+        Clock test = TimeSources.toClock(new FixedUTCTimeSource(utc), ZoneOffset.UTC);
+        assertEquals(test.instant(), utc.toInstant());
+    }
+
+    @Test(groups={"tck"})
+    public void test_toClock_zone() {
+        TimeSource source = new FixedUTCTimeSource(UTCInstant.ofModifiedJulianDay(50000, 0));
+        Clock test = TimeSources.toClock(source, ZoneOffset.UTC);
+        assertEquals(test.getZone(), ZoneOffset.UTC);
+        assertSame(test.withZone(ZoneOffset.UTC), test);
+        Clock paris = test.withZone(PARIS);
+        assertEquals(paris.getZone(), PARIS);
+        assertEquals(paris.instant(), test.instant());
+        assertEquals(paris, TimeSources.toClock(source, PARIS));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_toClock_nullTimeSource() {
+        TimeSources.toClock(null, ZoneOffset.UTC);
+    }
+
+    //-----------------------------------------------------------------------
+    // fromClock()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_fromClock() {
+        Instant instant = Instant.ofEpochSecond(1341100800L - 100, 250);  // 100 seconds before 2012-07-01
+        TimeSource test = TimeSources.fromClock(Clock.fixed(instant, ZoneOffset.UTC));
+        assertEquals(test.instant(), instant);
+        assertEquals(test.utcInstant(), UTCInstant.of(instant));
+        assertEquals(test.taiInstant(), UTCInstant.of(instant).toTAIInstant());
+    }
+
+    @Test(groups={"tck"})
+    public void test_fromClock_roundTrip() {
+        Instant instant = Instant.ofEpochSecond(78796700L, 123);
+        TimeSource source = TimeSources.fromClock(Clock.fixed(instant, ZoneOffset.UTC));
+        Clock test = TimeSources.toClock(source, ZoneOffset.UTC);
+        assertEquals(test.instant(), instant);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_fromClock_nullRules() {
+        TimeSources.fromClock(Clock.systemUTC(), null);
+    }
+
+}
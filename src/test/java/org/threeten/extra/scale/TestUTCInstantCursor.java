@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.NoSuchElementException;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.temporal.JulianFields;
+
+/**
+ * Test UTCInstantCursor.
+ */
+@Test
+public class TestUTCInstantCursor {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final long NANOS_PER_SEC = 1000000000L;
+    private static final long LEAP_MJD = LocalDate.of(1972, 6, 30).getLong(JulianFields.MODIFIED_JULIAN_DAY);
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    //-----------------------------------------------------------------------
+    // next()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_next_seconds_acrossLeap() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, (SECS_PER_DAY - 2) * NANOS_PER_SEC);
+        UTCInstant end = UTCInstant.ofModifiedJulianDay(LEAP_MJD + 1, 2 * NANOS_PER_SEC);
+        UTCInstantCursor test = UTCInstantCursor.of(start, end, Duration.ofSeconds(1));
+        long[][] expected = {
+            {LEAP_MJD, (SECS_PER_DAY - 2) * NANOS_PER_SEC},
+            {LEAP_MJD, (SECS_PER_DAY - 1) * NANOS_PER_SEC},
+            {LEAP_MJD, SECS_PER_DAY * NANOS_PER_SEC},
+            {LEAP_MJD + 1, 0},
+            {LEAP_MJD + 1, NANOS_PER_SEC},
+        };
+        for (long[] exp : expected) {
+            assertEquals(test.next(), true);
+            assertEquals(test.getModifiedJulianDay(), exp[0]);
+            assertEquals(test.getNanoOfDay(), exp[1]);
+            assertEquals(test.isLeapSecond(), exp[1] == SECS_PER_DAY * NANOS_PER_SEC);
+        }
+        assertEquals(test.next(), false);
+        assertEquals(test.next(), false);
+    }
+
+    @Test(groups={"tck"})
+    public void test_next_matchesPlus() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD - 1, 123456789L);
+        UTCInstant end = UTCInstant.ofModifiedJulianDay(LEAP_MJD + 2, 0);
+        Duration step = Duration.ofSeconds(997, 3000000);
+        UTCInstantCursor test = UTCInstantCursor.of(start, end, step);
+        UTCInstant expected = start;
+        int count = 0;
+        while (expected.compareTo(end) < 0) {
+            assertEquals(test.next(), true);
+            assertEquals(test.toUTCInstant(), expected);
+            expected = expected.plus(step);
+            count++;
+        }
+        assertEquals(test.next(), false);
+        assertEquals(count > 3 * 86, true);
+    }
+
+    @Test(groups={"tck"})
+    public void test_next_stepLongerThanDay() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD - 1, 0);
+        UTCInstant end = UTCInstant.ofModifiedJulianDay(LEAP_MJD + 10, 0);
+        Duration step = Duration.ofSeconds(3 * SECS_PER_DAY);
+        UTCInstantCursor test = UTCInstantCursor.of(start, end, step);
+        UTCInstant expected = start;
+        while (expected.compareTo(end) < 0) {
+            assertEquals(test.next(), true);
+            assertEquals(test.toUTCInstant(), expected);
+            expected = expected.plus(step);
+        }
+        assertEquals(test.next(), false);
+    }
+
+    @Test(groups={"tck"})
+    public void test_next_emptyRange() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0);
+        UTCInstantCursor test = UTCInstantCursor.of(start, start, Duration.ofSeconds(1));
+        assertEquals(test.next(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    // state
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=NoSuchElementException.class, groups={"tck"})
+    public void test_getModifiedJulianDay_beforeNext() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0);
+        UTCInstantCursor test = UTCInstantCursor.of(start, start.plus(Duration.ofSeconds(2)), Duration.ofSeconds(1));
+        test.getModifiedJulianDay();
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class, groups={"tck"})
+    public void test_getNanoOfDay_afterEnd() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0);
+        UTCInstantCursor test = UTCInstantCursor.of(start, start, Duration.ofSeconds(1));
+        test.next();
+        test.getNanoOfDay();
+    }
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
+    public void factory_of_zeroStep() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0);
+        UTCInstantCursor.of(start, start, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
+    public void factory_of_negativeStep() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0);
+        UTCInstantCursor.of(start, start, Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void factory_of_nullStart() {
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(LEAP_MJD, 0);
+        UTCInstantCursor.of(null, start, Duration.ofSeconds(1));
+    }
+
+}